@@ -44,6 +44,12 @@ public class AbstractConfig {
     /** The check status polling in seconds (null for default, < 1 to disable) */
     private @Nullable Integer checkStatusPolling;
 
+    /** The interval in seconds an unchanged state is republished at (null for default, < 1 to always publish) */
+    private @Nullable Integer statePublishInterval;
+
+    /** The comma separated channel ids whose state is always published (null/empty for none) */
+    private @Nullable String statePublishExempt;
+
     // ---- the following properties are not part of the config.xml (and are properties) ----
 
     /** The mac address that was discovered */
@@ -184,6 +190,42 @@ public class AbstractConfig {
         this.checkStatusPolling = checkStatusPolling;
     }
 
+    /**
+     * Returns the interval an unchanged state is republished at (-1/null to always publish)
+     *
+     * @return a possibly null republish interval
+     */
+    public @Nullable Integer getStatePublishInterval() {
+        return statePublishInterval;
+    }
+
+    /**
+     * Sets the interval an unchanged state is republished at
+     *
+     * @param statePublishInterval the possibly null republish interval
+     */
+    public void setStatePublishInterval(final Integer statePublishInterval) {
+        this.statePublishInterval = statePublishInterval;
+    }
+
+    /**
+     * Returns the comma separated channel ids whose state is always published
+     *
+     * @return a possibly null, possibly empty list of channel ids
+     */
+    public @Nullable String getStatePublishExempt() {
+        return statePublishExempt;
+    }
+
+    /**
+     * Sets the comma separated channel ids whose state is always published
+     *
+     * @param statePublishExempt a possibly null, possibly empty list of channel ids
+     */
+    public void setStatePublishExempt(final @Nullable String statePublishExempt) {
+        this.statePublishExempt = statePublishExempt;
+    }
+
     /**
      * Returns the configuration as a map of properties
      *
@@ -197,6 +239,8 @@ public class AbstractConfig {
         conditionallyAddProperty(props, "refresh", refresh);
         conditionallyAddProperty(props, "retryPolling", retryPolling);
         conditionallyAddProperty(props, "checkStatusPolling", checkStatusPolling);
+        conditionallyAddProperty(props, "statePublishInterval", statePublishInterval);
+        conditionallyAddProperty(props, "statePublishExempt", statePublishExempt);
 
         return props;
     }
@@ -14,7 +14,6 @@ package org.openhab.binding.sony.internal;
 
 import java.util.Dictionary;
 import java.util.HashSet;
-import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -231,11 +230,10 @@ public abstract class AbstractDiscoveryParticipant {
             return null;
         }
 
-        for (final ThingType tt : sonyDefinitionProvider.getThingTypes(Locale.getDefault())) {
-            if (SonyUtil.isModelMatch(tt.getUID(), service, modelName)) {
-                logger.debug("Using specific thing type for {}: {}", modelName, tt);
-                return tt.getUID();
-            }
+        final ThingTypeUID uid = sonyDefinitionProvider.getThingTypeUID(service, modelName);
+        if (uid != null) {
+            logger.debug("Using specific thing type for {}: {}", modelName, uid);
+            return uid;
         }
 
         logger.debug("No specific thing type found for {}", modelName);
@@ -17,21 +17,29 @@ import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.Socket;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.*;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.State;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,6 +58,9 @@ public abstract class AbstractThingHandler<C extends AbstractConfig> extends Bas
     /** The configuration class type */
     private final Class<C> configType;
 
+    /** The configuration snapshot - rebuilt on initialization and configuration updates only */
+    private final AtomicReference<@Nullable C> sonyConfig = new AtomicReference<>(null);
+
     /** The refresh state event - will only be created when we are connected. */
     private final AtomicReference<@Nullable Future<?>> refreshState = new AtomicReference<>(null);
 
@@ -68,6 +79,15 @@ public abstract class AbstractThingHandler<C extends AbstractConfig> extends Bas
     /** The queue used to cache commands until online */
     private final Queue<CachedCommand> commandQueue = new ConcurrentLinkedQueue<>();
 
+    /** The default interval (in seconds) an unchanged state is republished at */
+    private static final int DEFAULT_STATE_PUBLISH_INTERVAL = 300;
+
+    /** The last state published by channel - reset on thing status changes */
+    private final Map<ChannelUID, PublishedState> publishedStates = new ConcurrentHashMap<>();
+
+    /** The channel ids (lowercase) whose state is always published - rebuilt with the configuration snapshot */
+    private volatile Set<String> statePublishExempt = Collections.emptySet();
+
     /** constants to handle power on/off commands */
     protected enum PowerCommand {
         ON,
@@ -105,16 +125,81 @@ public abstract class AbstractThingHandler<C extends AbstractConfig> extends Bas
     protected abstract void refreshState(boolean initial);
 
     /**
-     * Returns the configuration cast to the specific type
+     * Returns the configuration cast to the specific type. The configuration is a validated snapshot (see
+     * {@link #normalizeConfig(AbstractConfig)}) that is only rebuilt when the handler is initialized or the
+     * configuration is updated. Note that the snapshot is NOT immutable - it is the same (mutable) configuration
+     * instance that is shared by all callers, so callers must not modify it (use {@link #getConfigAs(Class)} to get a
+     * copy that can be modified).
      *
      * @return a non-null configuration
      */
     protected C getSonyConfig() {
-        return getConfigAs(configType);
+        final C config = sonyConfig.get();
+        return config == null ? refreshSonyConfig() : config;
+    }
+
+    /**
+     * Rebuilds the configuration snapshot from the thing's configuration and publishes it
+     *
+     * @return the non-null new configuration snapshot
+     */
+    private C refreshSonyConfig() {
+        final C config = getConfigAs(configType);
+        normalizeConfig(config);
+        sonyConfig.set(config);
+
+        statePublishExempt = Arrays.stream(SonyUtil.defaultIfEmpty(config.getStatePublishExempt(), "").split(","))
+                .map(String::trim).filter(e -> !e.isEmpty()).map(String::toLowerCase).collect(Collectors.toSet());
+        publishedStates.clear();
+        return config;
+    }
+
+    /**
+     * Validates and normalizes the intervals of a new configuration (before it's published) so that readers of the
+     * snapshot see one representation: an interval that disables its feature (less than 1) is normalized to -1 and a
+     * missing state publish interval is set to its default
+     *
+     * @param config a non-null, not yet published configuration
+     */
+    private void normalizeConfig(final C config) {
+        Objects.requireNonNull(config, "config cannot be null");
+
+        final @Nullable Integer refresh = config.getRefresh();
+        if (refresh != null && refresh < 1) {
+            config.setRefresh(-1);
+        }
+
+        final @Nullable Integer retryPolling = config.getRetryPolling();
+        if (retryPolling != null && retryPolling < 1) {
+            config.setRetryPolling(-1);
+        }
+
+        final @Nullable Integer checkStatusPolling = config.getCheckStatusPolling();
+        if (checkStatusPolling != null && checkStatusPolling < 1) {
+            config.setCheckStatusPolling(-1);
+        }
+
+        final @Nullable Integer statePublishInterval = config.getStatePublishInterval();
+        if (statePublishInterval == null) {
+            config.setStatePublishInterval(DEFAULT_STATE_PUBLISH_INTERVAL);
+        } else if (statePublishInterval < 1) {
+            config.setStatePublishInterval(-1);
+        }
+
+        logger.debug("Configuration intervals (seconds): refresh {}, retryPolling {}, checkStatusPolling {}, "
+                + "statePublishInterval {}", config.getRefresh(), config.getRetryPolling(),
+                config.getCheckStatusPolling(), config.getStatePublishInterval());
+    }
+
+    @Override
+    protected void updateConfiguration(final Configuration configuration) {
+        super.updateConfiguration(configuration);
+        refreshSonyConfig();
     }
 
     @Override
     public void initialize() {
+        refreshSonyConfig();
         updateStatus(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, "Initializing ...");
         SonyUtil.cancel(retryConnection.getAndSet(this.scheduler.submit(this::doConnect)));
     }
@@ -150,7 +235,7 @@ public abstract class AbstractThingHandler<C extends AbstractConfig> extends Bas
             if (powerCommand == PowerCommand.ON) {
                 logger.info("Received power on command when thing is offline - trying to turn on thing via WOL");
             }
-            if (isAutoReconnect()) {
+            if (autoReconnect) {
                 logger.debug("AutoReconnect on - scheduling reconnect and caching: {} {}", channelUID, command);
                 // do not cache power off commands as this is likely unwanted in case thing is offline but might happen
                 // when using power toggle command to switch on device with power item being in an inconsistent 'ON'
@@ -214,6 +299,9 @@ public abstract class AbstractThingHandler<C extends AbstractConfig> extends Bas
         Objects.requireNonNull(channelUID, "channelUID cannot be null");
         Objects.requireNonNull(command, "command cannot be null");
 
+        // the item state may have been changed by the command - always publish the next state of the channel
+        publishedStates.remove(channelUID);
+
         if (command instanceof RefreshType) {
             handleRefreshCommand(channelUID);
         } else {
@@ -236,9 +324,59 @@ public abstract class AbstractThingHandler<C extends AbstractConfig> extends Bas
      */
     protected abstract void handleSetCommand(final ChannelUID channelUID, final Command command);
 
+    /**
+     * Updates the state of the channel unless the state is identical to the state last published for the channel and
+     * the republish interval has not passed yet (or the channel is exempt from suppression)
+     *
+     * @param channelUID a non-null channel UID
+     * @param state a non-null state
+     */
+    @Override
+    protected void updateState(final ChannelUID channelUID, final State state) {
+        Objects.requireNonNull(channelUID, "channelUID cannot be null");
+        Objects.requireNonNull(state, "state cannot be null");
+
+        final @Nullable Integer configInterval = getSonyConfig().getStatePublishInterval();
+        final int interval = configInterval == null ? DEFAULT_STATE_PUBLISH_INTERVAL : configInterval;
+        if (interval <= 0 || isStatePublishExempt(channelUID)) {
+            super.updateState(channelUID, state);
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final @Nullable PublishedState published = publishedStates.get(channelUID);
+        if (published != null && published.state.equals(state)
+                && now - published.timestamp < TimeUnit.SECONDS.toMillis(interval)) {
+            logger.trace("Suppressing unchanged state: {}={}", channelUID, state);
+            return;
+        }
+
+        publishedStates.put(channelUID, new PublishedState(state, now));
+        super.updateState(channelUID, state);
+    }
+
+    /**
+     * Determines if the state of the channel is always published (ie trigger like channels whose updates are
+     * meaningful even when the state is unchanged). By default, the channels in the statePublishExempt configuration
+     * are exempt - subclasses may override to exempt additional channels.
+     *
+     * @param channelUID a non-null channel UID
+     * @return true if the state is always published, false if unchanged states may be suppressed
+     */
+    protected boolean isStatePublishExempt(final ChannelUID channelUID) {
+        Objects.requireNonNull(channelUID, "channelUID cannot be null");
+        final Set<String> exempt = statePublishExempt;
+        return !exempt.isEmpty() && (exempt.contains(channelUID.getId().toLowerCase())
+                || exempt.contains(channelUID.getIdWithoutGroup().toLowerCase()));
+    }
+
     @Override
     protected void updateStatus(final ThingStatus status, final ThingStatusDetail statusDetail,
             final @Nullable String description) {
+        if (getThing().getStatus() != status) {
+            // the device (and any item) may have changed while not online - republish everything
+            publishedStates.clear();
+        }
         super.updateStatus(status, statusDetail, description);
 
         if (status == ThingStatus.ONLINE) {
@@ -442,6 +580,28 @@ public abstract class AbstractThingHandler<C extends AbstractConfig> extends Bas
         }
     }
 
+    /**
+     * This is a helper class to track the state last published for a channel along with the time it was published
+     */
+    private static class PublishedState {
+        /** The state published */
+        private final State state;
+
+        /** When the state was published */
+        private final long timestamp;
+
+        /**
+         * Creates the published state
+         *
+         * @param state a non-null state
+         * @param timestamp the time (in milliseconds) the state was published
+         */
+        private PublishedState(final State state, final long timestamp) {
+            this.state = state;
+            this.timestamp = timestamp;
+        }
+    }
+
     /**
      * This helper class is used to manage refreshing of the state
      */
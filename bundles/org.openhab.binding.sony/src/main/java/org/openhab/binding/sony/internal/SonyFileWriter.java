@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class is the single, binding wide background writer for files the binding generates (thing definitions, device
+ * capabilities, command maps and preset lists). Writes are queued per target file and coalesced (only the latest
+ * write for a file is kept) and the contents are only produced (serialized) on the writer thread. A write whose
+ * content fingerprint matches what is already on disk is skipped and files are written atomically (to a temporary
+ * file that is then moved into place) so a partially written file is never seen. Files that are read right after
+ * being written (command maps) can be written immediately instead.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+public class SonyFileWriter {
+    /** The logger */
+    private static final Logger logger = LoggerFactory.getLogger(SonyFileWriter.class);
+
+    /** The temporary file extension */
+    private static final String TEMPEXT = ".tmp";
+
+    /** The executor the writes are done on */
+    private static final ExecutorService executor = ThreadPoolManager.getPool("sony");
+
+    /** The pending writes by target file */
+    private static final Map<Path, PendingWrite> pending = new ConcurrentHashMap<>();
+
+    /** The fingerprints of the files that were last seen (read or written) by target file */
+    private static final Map<Path, FileFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /** Whether the pending writes are being drained (only one thread drains at a time) */
+    private static final AtomicBoolean draining = new AtomicBoolean(false);
+
+    /**
+     * Private constructor - all methods are static
+     */
+    private SonyFileWriter() {
+    }
+
+    /**
+     * Queues a write to the target file. The write will replace any pending write to the same file and the contents
+     * will only be produced when the write is done.
+     *
+     * @param target a non-null target file
+     * @param contents a non-null supplier of the contents (called on the writer thread)
+     * @param overwrite true to overwrite an existing file (if the contents changed), false to never overwrite an
+     *            existing file
+     */
+    public static void write(final Path target, final Supplier<String> contents, final boolean overwrite) {
+        Objects.requireNonNull(target, "target cannot be null");
+        Objects.requireNonNull(contents, "contents cannot be null");
+
+        final Path path = target.toAbsolutePath().normalize();
+        if (pending.put(path, new PendingWrite(contents, overwrite)) != null) {
+            logger.trace("Coalesced pending write to {}", path);
+        }
+
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(SonyFileWriter::drain);
+        }
+    }
+
+    /**
+     * Writes the target file immediately (on the calling thread), replacing any pending write to the same file. This
+     * should only be used for files that are read right after being written (like a command map that is only written
+     * if absent).
+     *
+     * @param target a non-null target file
+     * @param contents a non-null supplier of the contents
+     * @param overwrite true to overwrite an existing file (if the contents changed), false to never overwrite an
+     *            existing file
+     */
+    public static void writeNow(final Path target, final Supplier<String> contents, final boolean overwrite) {
+        Objects.requireNonNull(target, "target cannot be null");
+        Objects.requireNonNull(contents, "contents cannot be null");
+
+        final Path path = target.toAbsolutePath().normalize();
+        pending.remove(path);
+        process(path, new PendingWrite(contents, overwrite));
+    }
+
+    /**
+     * Drains the pending writes. Any write queued while draining will either be picked up by this loop or will start
+     * a new drain.
+     */
+    private static void drain() {
+        do {
+            for (final Path path : pending.keySet()) {
+                final @Nullable PendingWrite write = pending.remove(path);
+                if (write != null) {
+                    logger.trace("Processing write to {} ({} writes pending)", path, pending.size());
+                    process(path, write);
+                }
+            }
+            draining.set(false);
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Processes a single write to the target file
+     *
+     * @param path a non-null target file
+     * @param write a non-null write
+     */
+    private static void process(final Path path, final PendingWrite write) {
+        try {
+            final @Nullable BasicFileAttributes attrs = getAttributes(path);
+            if (attrs != null && !write.overwrite) {
+                logger.debug("File already exists (write ignored): {}", path);
+                return;
+            }
+
+            final String contents = write.contents.get();
+            final String fingerprint = SonyUtil.createFingerprint(Collections.singletonList(contents));
+
+            if (attrs != null && fingerprint.equals(getFingerprint(path, attrs))) {
+                logger.debug("File is unchanged (write ignored): {}", path);
+                return;
+            }
+
+            final @Nullable Path parent = path.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            final Path tempPath = path.resolveSibling(path.getFileName() + TEMPEXT);
+            Files.writeString(tempPath, contents, StandardCharsets.UTF_8);
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final IOException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            final @Nullable BasicFileAttributes written = getAttributes(path);
+            if (written != null) {
+                fingerprints.put(path, new FileFingerprint(written, fingerprint));
+            }
+            logger.debug("Wrote {} ({} writes pending)", path, pending.size());
+        } catch (final IOException | RuntimeException e) {
+            logger.debug("Exception writing {}: {}", path, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Helper method to get the fingerprint of the file on disk. The fingerprint is only recomputed (by reading the
+     * file) if the file was changed since it was last seen.
+     *
+     * @param path a non-null path
+     * @param attrs the non-null current attributes of the file
+     * @return a non-null fingerprint
+     * @throws IOException if an IO exception occurs reading the file
+     */
+    private static String getFingerprint(final Path path, final BasicFileAttributes attrs) throws IOException {
+        final @Nullable FileFingerprint known = fingerprints.get(path);
+        if (known != null && known.isSame(attrs)) {
+            return known.fingerprint;
+        }
+
+        String contents;
+        try {
+            contents = Files.readString(path, StandardCharsets.UTF_8);
+        } catch (final CharacterCodingException e) {
+            // not something we wrote - will simply be considered changed
+            contents = "";
+        }
+        final String fingerprint = SonyUtil.createFingerprint(Collections.singletonList(contents));
+        fingerprints.put(path, new FileFingerprint(attrs, fingerprint));
+        return fingerprint;
+    }
+
+    /**
+     * Helper method to get the attributes of a file
+     *
+     * @param path a non-null path
+     * @return the attributes or null if the file does not exist
+     * @throws IOException if an IO exception occurs
+     */
+    private static @Nullable BasicFileAttributes getAttributes(final Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (final NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A write waiting to be done
+     */
+    private static class PendingWrite {
+        /** The supplier of the contents */
+        private final Supplier<String> contents;
+
+        /** Whether to overwrite an existing file */
+        private final boolean overwrite;
+
+        /**
+         * Constructs the pending write
+         *
+         * @param contents a non-null supplier of the contents
+         * @param overwrite whether to overwrite an existing file
+         */
+        private PendingWrite(final Supplier<String> contents, final boolean overwrite) {
+            this.contents = contents;
+            this.overwrite = overwrite;
+        }
+    }
+
+    /**
+     * The fingerprint of a file along with the size and last modified time it was taken at
+     */
+    private static class FileFingerprint {
+        /** The size of the file */
+        private final long size;
+
+        /** The last modified time of the file */
+        private final long lastModified;
+
+        /** The content fingerprint */
+        private final String fingerprint;
+
+        /**
+         * Constructs the file fingerprint
+         *
+         * @param attrs the non-null attributes of the file
+         * @param fingerprint the non-null content fingerprint
+         */
+        private FileFingerprint(final BasicFileAttributes attrs, final String fingerprint) {
+            this.size = attrs.size();
+            this.lastModified = attrs.lastModifiedTime().toMillis();
+            this.fingerprint = fingerprint;
+        }
+
+        /**
+         * Determines if the file is unchanged since the fingerprint was taken
+         *
+         * @param attrs the non-null current attributes of the file
+         * @return true if unchanged, false otherwise
+         */
+        private boolean isSame(final BasicFileAttributes attrs) {
+            return size == attrs.size() && lastModified == attrs.lastModifiedTime().toMillis();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.openhab.binding.sony.internal.dial.DialConstants;
 import org.openhab.binding.sony.internal.dial.DialHandler;
 import org.openhab.binding.sony.internal.ircc.IrccConstants;
 import org.openhab.binding.sony.internal.ircc.IrccHandler;
+import org.openhab.binding.sony.internal.net.IconCache;
 import org.openhab.binding.sony.internal.providers.SonyDefinitionProvider;
 import org.openhab.binding.sony.internal.providers.SonyDynamicStateProvider;
 import org.openhab.binding.sony.internal.scalarweb.ScalarWebHandler;
@@ -102,6 +103,8 @@ public class SonyHandlerFactory extends BaseThingHandlerFactory {
         this.sonyDynamicStateProvider = sonyDynamicStateProvider;
         this.clientBuilder = clientBuilder;
         this.osgiProperties = osgiProperties;
+
+        IconCache.configure(osgiProperties);
     }
 
     @Override
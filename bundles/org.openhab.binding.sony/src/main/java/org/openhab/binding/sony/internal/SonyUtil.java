@@ -15,8 +15,14 @@ package org.openhab.binding.sony.internal;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -63,6 +69,12 @@ public class SonyUtil {
     /** Bigdecimal hundred (used in scale/unscale methods) */
     public static final BigDecimal BIGDECIMAL_HUNDRED = BigDecimal.valueOf(100);
 
+    /** The maximum number of compiled model name patterns to cache (the cache is simply cleared if exceeded) */
+    private static final int MAX_MODEL_PATTERNS = 1000;
+
+    /** The compiled model name patterns by thing type model name (see {@link #isModelMatch}) */
+    private static final Map<String, Pattern> modelPatterns = new ConcurrentHashMap<>();
+
     /**
      * Creates a channel identifier from the group (if specified) and channel id
      *
@@ -670,6 +682,23 @@ public class SonyUtil {
             return false;
         }
 
+        return thingTypeServiceName.equals(serviceName)
+                && getModelPattern(thingTypeModelName).matcher(modelName.toLowerCase()).matches();
+    }
+
+    /**
+     * Helper method to get the compiled pattern for a thing type model name (which can contain wildcards). Patterns
+     * are cached since they are matched against every discovered/listened model name.
+     *
+     * @param thingTypeModelName a non-null, non-empty thing type model name
+     * @return a non-null compiled pattern (matching lowercase model names regardless of version)
+     */
+    private static Pattern getModelPattern(final String thingTypeModelName) {
+        final Pattern cached = modelPatterns.get(thingTypeModelName);
+        if (cached != null) {
+            return cached;
+        }
+
         String modelPattern = thingTypeModelName.replaceAll("x", ".*").toLowerCase();
 
         // remove a version identifier ("_V1" or "_V292")
@@ -681,7 +710,53 @@ public class SonyUtil {
             }
         }
 
-        return thingTypeServiceName.equals(serviceName) && modelName.toLowerCase().matches(modelPattern);
+        if (modelPatterns.size() >= MAX_MODEL_PATTERNS) {
+            modelPatterns.clear();
+        }
+
+        final Pattern pattern = Pattern.compile(modelPattern);
+        modelPatterns.put(thingTypeModelName, pattern);
+        return pattern;
+    }
+
+    /**
+     * Null safe conversion of a string to lowercase
+     *
+     * @param str a possibly null string
+     * @return the lowercase string or null if null
+     */
+    public static @Nullable String toLowerCase(final @Nullable String str) {
+        return str == null ? null : str.toLowerCase();
+    }
+
+    /**
+     * Creates a content fingerprint (SHA-256, base64 encoded) from the canonical parts of an object. Each part is
+     * length prefixed so that the boundaries between parts are part of the fingerprint (ie ["ab", "c"] and ["a", "bc"]
+     * produce different fingerprints). A null part is distinguished from an empty part.
+     *
+     * @param parts a non-null, possibly empty list of possibly null canonical parts
+     * @return a non-null, non-empty fingerprint
+     */
+    public static String createFingerprint(final List<? extends @Nullable String> parts) {
+        Objects.requireNonNull(parts, "parts cannot be null");
+
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every java platform
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+
+        final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        for (final @Nullable String part : parts) {
+            final byte[] bytes = part == null ? new byte[0] : part.getBytes(StandardCharsets.UTF_8);
+            length.clear();
+            length.putInt(part == null ? -1 : bytes.length);
+            digest.update(length.array());
+            digest.update(bytes);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
     }
 
     /**
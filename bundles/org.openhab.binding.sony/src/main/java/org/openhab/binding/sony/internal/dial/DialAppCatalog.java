@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.dial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpStatus;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.binding.sony.internal.dial.models.DialApp;
+import org.openhab.binding.sony.internal.dial.models.DialDeviceInfo;
+import org.openhab.binding.sony.internal.dial.models.DialService;
+import org.openhab.binding.sony.internal.net.HttpResponse;
+import org.openhab.binding.sony.internal.transports.SonyHttpTransport;
+import org.openhab.binding.sony.internal.transports.TransportOption;
+import org.openhab.binding.sony.internal.transports.TransportOptionHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class represents the catalogue of DIAL applications (by application id) of a device. The catalogue is fetched
+ * once (from each application list of the device) and then reused until the time to live expires. Once expired, each
+ * application list is fetched conditionally (using the ETag and Last-Modified validators of the prior response) and
+ * an unchanged application list is simply reused.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+class DialAppCatalog {
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(DialAppCatalog.class);
+
+    /** The transport to fetch the application lists with */
+    private final SonyHttpTransport transport;
+
+    /** The device infos (with the application list urls) */
+    private final List<DialDeviceInfo> deviceInfos;
+
+    /** The time to live (in milliseconds) of the catalogue */
+    private final long ttl;
+
+    /** The lock used to serialize refreshes (lookups of a fresh catalogue never lock) */
+    private final Object refreshLock = new Object();
+
+    /** The application lists (with their validators) by application list url - guarded by refreshLock */
+    private final Map<String, AppsList> appsLists = new HashMap<>();
+
+    /** The applications by application id */
+    private volatile Map<String, DialApp> apps = Collections.emptyMap();
+
+    /** The time (in milliseconds) the catalogue expires (0 if not fetched) */
+    private volatile long expires;
+
+    /**
+     * Constructs the catalogue
+     *
+     * @param transport a non-null transport to fetch the application lists with
+     * @param deviceInfos a non-null, possibly empty list of device infos
+     * @param ttl the time to live (in milliseconds) of the catalogue
+     */
+    DialAppCatalog(final SonyHttpTransport transport, final List<DialDeviceInfo> deviceInfos, final long ttl) {
+        Objects.requireNonNull(transport, "transport cannot be null");
+        Objects.requireNonNull(deviceInfos, "deviceInfos cannot be null");
+
+        this.transport = transport;
+        this.deviceInfos = Collections.unmodifiableList(new ArrayList<>(deviceInfos));
+        this.ttl = ttl;
+    }
+
+    /**
+     * Gets the application for the application id
+     *
+     * @param appId a non-null, non-empty application id
+     * @return the application or null if not found
+     */
+    @Nullable
+    DialApp getApp(final String appId) {
+        SonyUtil.validateNotEmpty(appId, "appId cannot be empty");
+        return getApps().get(appId);
+    }
+
+    /**
+     * Gets the applications by application id (refreshing the catalogue if expired)
+     *
+     * @return a non-null, possibly empty unmodifiable map of applications by application id
+     */
+    Map<String, DialApp> getApps() {
+        if (System.currentTimeMillis() < expires) {
+            return apps;
+        }
+
+        synchronized (refreshLock) {
+            if (System.currentTimeMillis() >= expires) {
+                refresh();
+            }
+            return apps;
+        }
+    }
+
+    /**
+     * Invalidates the catalogue (the next lookup will revalidate the application lists)
+     */
+    void invalidate() {
+        expires = 0;
+    }
+
+    /**
+     * Helper method to refresh the catalogue from the application lists
+     */
+    private void refresh() {
+        final Map<String, DialApp> newApps = new LinkedHashMap<>();
+        boolean failed = false;
+        for (final DialDeviceInfo info : deviceInfos) {
+            final String appsListUrl = info.getAppsListUrl();
+            if (appsListUrl == null || appsListUrl.isBlank()) {
+                continue;
+            }
+
+            @Nullable
+            AppsList appsList = fetch(appsListUrl);
+            if (appsList == null) {
+                // use the prior application list (if any) until it can be fetched again
+                appsList = appsLists.get(appsListUrl);
+                failed = true;
+            }
+
+            if (appsList != null) {
+                appsList.apps.forEach(a -> {
+                    final String id = a.getId();
+                    if (id != null) {
+                        newApps.putIfAbsent(id, a);
+                    }
+                });
+            }
+        }
+
+        apps = Collections.unmodifiableMap(newApps);
+
+        // a failed fetch isn't cached - the next lookup will try again
+        expires = failed ? 0 : System.currentTimeMillis() + ttl;
+    }
+
+    /**
+     * Helper method to (conditionally) fetch an application list
+     *
+     * @param appsListUrl a non-null, non-empty application list url
+     * @return the application list (the prior one if unchanged) or null if it could not be fetched
+     */
+    private @Nullable AppsList fetch(final String appsListUrl) {
+        final @Nullable AppsList prior = appsLists.get(appsListUrl);
+
+        final List<TransportOption> options = new ArrayList<>();
+        options.add(new TransportOptionHeader("Content-Type", "text/xml; charset=\"utf-8\""));
+        final @Nullable String etag = prior == null ? null : prior.etag;
+        if (etag != null) {
+            options.add(new TransportOptionHeader("If-None-Match", etag));
+        }
+        final @Nullable String lastModified = prior == null ? null : prior.lastModified;
+        if (lastModified != null) {
+            options.add(new TransportOptionHeader("If-Modified-Since", lastModified));
+        }
+
+        final HttpResponse resp = transport.executeGet(appsListUrl, options.toArray(new TransportOption[0]));
+        if (resp.getHttpCode() == HttpStatus.NOT_MODIFIED_304 && prior != null) {
+            logger.trace("Application list {} is unchanged", appsListUrl);
+            return prior;
+        }
+
+        if (resp.getHttpCode() != HttpStatus.OK_200) {
+            logger.debug("Exception getting dial service from {}: {}", appsListUrl, resp);
+            return null;
+        }
+
+        final String content = resp.getContent();
+        final @Nullable DialService service = content.isEmpty() ? null : DialService.get(content);
+        if (service == null) {
+            logger.debug("Application list {} was not valid: {}", appsListUrl, content);
+            return null;
+        }
+
+        final AppsList appsList = new AppsList(service.getApps(), resp.getResponseHeader("ETag"),
+                resp.getResponseHeader("Last-Modified"));
+        appsLists.put(appsListUrl, appsList);
+        logger.debug("Fetched {} applications from {}", appsList.apps.size(), appsListUrl);
+        return appsList;
+    }
+
+    /**
+     * A fetched application list along with its validators
+     */
+    @NonNullByDefault
+    private static class AppsList {
+        /** The applications */
+        private final List<DialApp> apps;
+
+        /** The ETag of the response (or null if none) */
+        private final @Nullable String etag;
+
+        /** The Last-Modified of the response (or null if none) */
+        private final @Nullable String lastModified;
+
+        /**
+         * Constructs the application list
+         *
+         * @param apps a non-null, possibly empty list of applications
+         * @param etag a possibly null ETag
+         * @param lastModified a possibly null Last-Modified
+         */
+        private AppsList(final List<DialApp> apps, final @Nullable String etag, final @Nullable String lastModified) {
+            this.apps = apps;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -28,6 +28,9 @@ public class DialConfig extends AbstractConfig {
     /** The access code */
     private @Nullable String accessCode;
 
+    /** The time to live (in seconds) of the cached application catalogue (null for default) */
+    private @Nullable Integer appsCacheTtl;
+
     /**
      * Gets the access code
      *
@@ -46,10 +49,29 @@ public class DialConfig extends AbstractConfig {
         this.accessCode = accessCode;
     }
 
+    /**
+     * Gets the time to live (in seconds) of the cached application catalogue
+     *
+     * @return the time to live or null for the default
+     */
+    public @Nullable Integer getAppsCacheTtl() {
+        return appsCacheTtl;
+    }
+
+    /**
+     * Sets the time to live (in seconds) of the cached application catalogue
+     *
+     * @param appsCacheTtl the time to live (or null for the default)
+     */
+    public void setAppsCacheTtl(final @Nullable Integer appsCacheTtl) {
+        this.appsCacheTtl = appsCacheTtl;
+    }
+
     @Override
     public Map<String, Object> asProperties() {
         final Map<String, Object> props = super.asProperties();
         conditionallyAddProperty(props, "accessCode", accessCode);
+        conditionallyAddProperty(props, "appsCacheTtl", appsCacheTtl);
         return props;
     }
 }
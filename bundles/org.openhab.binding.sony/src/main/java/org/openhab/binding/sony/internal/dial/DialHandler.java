@@ -15,6 +15,8 @@ package org.openhab.binding.sony.internal.dial;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -209,6 +211,7 @@ public class DialHandler extends AbstractThingHandler<DialConfig> {
     protected void refreshState(boolean initial) {
         final DialProtocol<ThingCallback<String>> protocol = protocolHandler.get();
         if (protocol != null) {
+            final Map<String, String> applIdsByChannelId = new HashMap<>();
             getThing().getChannels().stream().forEach(chn -> {
                 final String channelId = chn.getUID().getId();
                 if (SonyUtil.endsWithIgnoreCase(channelId, DialConstants.CHANNEL_STATE)) {
@@ -216,10 +219,11 @@ public class DialHandler extends AbstractThingHandler<DialConfig> {
                     if (applId == null || applId.isEmpty()) {
                         logger.debug("Unknown application id for channel {}", channelId);
                     } else {
-                        protocol.refreshState(channelId, applId);
+                        applIdsByChannelId.put(channelId, applId);
                     }
                 }
             });
+            protocol.refreshStates(applIdsByChannelId);
         }
     }
 
@@ -15,10 +15,16 @@ package org.openhab.binding.sony.internal.dial;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.client.ClientBuilder;
 
@@ -36,13 +42,13 @@ import org.openhab.binding.sony.internal.dial.models.DialApp;
 import org.openhab.binding.sony.internal.dial.models.DialAppState;
 import org.openhab.binding.sony.internal.dial.models.DialClient;
 import org.openhab.binding.sony.internal.dial.models.DialDeviceInfo;
-import org.openhab.binding.sony.internal.dial.models.DialService;
 import org.openhab.binding.sony.internal.net.HttpResponse;
 import org.openhab.binding.sony.internal.net.NetUtil;
 import org.openhab.binding.sony.internal.transports.SonyHttpTransport;
 import org.openhab.binding.sony.internal.transports.SonyTransportFactory;
 import org.openhab.binding.sony.internal.transports.TransportOptionAutoAuth;
 import org.openhab.binding.sony.internal.transports.TransportOptionHeader;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.RawType;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -83,6 +89,18 @@ class DialProtocol<T extends ThingCallback<String>> implements AutoCloseable {
     /** The authorization service */
     private final SonyAuth sonyAuth;
 
+    /** The catalogue of applications */
+    private final DialAppCatalog appCatalog;
+
+    /** The default time to live (in seconds) of the application catalogue */
+    private static final int DEFAULT_APPSCACHETTL = 300;
+
+    /** The maximum number of application states that are refreshed concurrently */
+    private static final int MAX_CONCURRENT_STATES = 4;
+
+    /** The executor the application states are refreshed on */
+    private static final ExecutorService executor = ThreadPoolManager.getPool("sony");
+
     /**
      * Constructs the protocol handler from the configuration and callback
      *
@@ -114,6 +132,10 @@ class DialProtocol<T extends ThingCallback<String>> implements AutoCloseable {
         this.dialClient = dialClient;
 
         this.sonyAuth = new SonyAuth(deviceURL);
+
+        final Integer appsCacheTtl = config.getAppsCacheTtl();
+        this.appCatalog = new DialAppCatalog(transport, dialClient.getDeviceInfos(), TimeUnit.SECONDS
+                .toMillis(Math.max(0, appsCacheTtl == null ? DEFAULT_APPSCACHETTL : appsCacheTtl.intValue())));
     }
 
     /**
@@ -178,6 +200,8 @@ class DialProtocol<T extends ThingCallback<String>> implements AutoCloseable {
             return new LoginUnsuccessfulResponse(ThingStatusDetail.CONFIGURATION_ERROR, checkResult.getMsg());
         }
 
+        // the application lists may have been forbidden before logging in
+        appCatalog.invalidate();
         return null;
     }
 
@@ -246,6 +270,34 @@ class DialProtocol<T extends ThingCallback<String>> implements AutoCloseable {
         }
     }
 
+    /**
+     * Refresh the state of multiple DIAL applications. The states are refreshed concurrently (limited to
+     * {@link #MAX_CONCURRENT_STATES} at a time) and this method returns once all have been refreshed.
+     *
+     * @param applIdsByChannelId the non-null, possibly empty map of application IDs by channel ID
+     */
+    public void refreshStates(final Map<String, String> applIdsByChannelId) {
+        Objects.requireNonNull(applIdsByChannelId, "applIdsByChannelId cannot be null");
+
+        final Queue<Map.Entry<String, String>> pending = new ConcurrentLinkedQueue<>(applIdsByChannelId.entrySet());
+        final int workers = Math.min(MAX_CONCURRENT_STATES, pending.size());
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                Map.Entry<String, String> entry;
+                while ((entry = pending.poll()) != null) {
+                    refreshState(entry.getKey(), entry.getValue());
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (final CompletionException e) {
+            logger.debug("Exception refreshing the 'state' of the applications: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * Refresh the name of the application
      *
@@ -285,37 +337,16 @@ class DialProtocol<T extends ThingCallback<String>> implements AutoCloseable {
      */
     private @Nullable DialApp getDialApp(final String appId) {
         SonyUtil.validateNotEmpty(appId, "appId cannot be empty");
-        final Map<String, DialApp> apps = getDialApps();
-        return apps.get(appId);
+        return appCatalog.getApp(appId);
     }
 
     /**
-     * Returns the list of dial apps on the sony device
+     * Returns the list of dial apps on the sony device (from the application catalogue)
      *
      * @return a non-null, maybe empty list of dial apps
      */
     public Map<String, DialApp> getDialApps() {
-        final Map<String, DialApp> apps = new HashMap<>();
-        for (final DialDeviceInfo info : dialClient.getDeviceInfos()) {
-            final String appsListUrl = info.getAppsListUrl();
-            if (appsListUrl != null && !appsListUrl.isBlank()) {
-                final HttpResponse appsResp = getApplicationList(appsListUrl);
-                if (appsResp.getHttpCode() == HttpStatus.OK_200) {
-                    final DialService service = DialService.get(appsResp.getContent());
-                    if (service != null) {
-                        service.getApps().forEach(a -> {
-                            final String id = a.getId();
-                            if (id != null) {
-                                apps.putIfAbsent(id, a);
-                            }
-                        });
-                    }
-                } else {
-                    logger.debug("Exception getting dial service from {}: {}", appsListUrl, appsResp);
-                }
-            }
-        }
-        return Collections.unmodifiableMap(apps);
+        return appCatalog.getApps();
     }
 
     /**
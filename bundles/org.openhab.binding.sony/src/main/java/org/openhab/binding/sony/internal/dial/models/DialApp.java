@@ -12,14 +12,16 @@
  */
 package org.openhab.binding.sony.internal.dial.models;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
-import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents a single DIAL application. The element being deserialized will typically look like:
@@ -42,20 +44,74 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
  */
 @NonNullByDefault
 public class DialApp {
+    /** The element name of an application */
+    static final String ELEMENT = "app";
 
     /** The application identifier */
-    private @Nullable String id;
+    private final @Nullable String id;
 
     /** The name of the application */
-    private @Nullable String name;
+    private final @Nullable String name;
 
     /** The url to the application icon */
-    @XStreamAlias("icon_url")
-    private @Nullable String iconUrl;
+    private final @Nullable String iconUrl;
 
     /** The actions supported by the application */
-    @XStreamAlias("supportAction")
-    private @Nullable SupportedAction supportedAction;
+    private final List<String> actions;
+
+    /**
+     * Constructs the application from the parameters
+     *
+     * @param id a possibly null, possibly empty application id
+     * @param name a possibly null, possibly empty application name
+     * @param iconUrl a possibly null, possibly empty icon url
+     * @param actions a non-null, possibly empty list of supported actions
+     */
+    private DialApp(final @Nullable String id, final @Nullable String name, final @Nullable String iconUrl,
+            final List<String> actions) {
+        this.id = id;
+        this.name = name;
+        this.iconUrl = iconUrl;
+        this.actions = Collections.unmodifiableList(actions);
+    }
+
+    /**
+     * Parses the application from the reader
+     *
+     * @param reader a non-null reader positioned on the app element (and left on it's end element)
+     * @return a non-null application
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    static DialApp parse(final XMLStreamReader reader) throws XMLStreamException {
+        @Nullable
+        String id = null;
+        @Nullable
+        String name = null;
+        @Nullable
+        String iconUrl = null;
+        final List<String> actions = new ArrayList<>();
+        while (XmlUtil.nextChild(reader)) {
+            final String element = reader.getLocalName();
+            if ("id".equalsIgnoreCase(element)) {
+                id = XmlUtil.getText(reader);
+            } else if ("name".equalsIgnoreCase(element)) {
+                name = XmlUtil.getText(reader);
+            } else if ("icon_url".equalsIgnoreCase(element)) {
+                iconUrl = XmlUtil.getText(reader);
+            } else if ("supportAction".equalsIgnoreCase(element)) {
+                while (XmlUtil.nextChild(reader)) {
+                    if ("action".equalsIgnoreCase(reader.getLocalName())) {
+                        actions.add(XmlUtil.getText(reader));
+                    } else {
+                        XmlUtil.skipElement(reader);
+                    }
+                }
+            } else {
+                XmlUtil.skipElement(reader);
+            }
+        }
+        return new DialApp(id, name, iconUrl, actions);
+    }
 
     /**
      * Gets the application id
@@ -90,19 +146,6 @@ public class DialApp {
      * @return the non-null, possibly empty list of application actions
      */
     public List<String> getActions() {
-        final SupportedAction localSupportedAction = supportedAction;
-        return localSupportedAction == null || localSupportedAction.actions == null ? Collections.emptyList()
-                : Collections.unmodifiableList(localSupportedAction.actions);
-    }
-
-    /**
-     * Internal class used simply for deserializing the supported actions. Note: this class is not private since
-     * DialXmlReader needs access to the class (to process the annotations)
-     *
-     * @author Tim Roberts - Initial contribution
-     */
-    class SupportedAction {
-        @XStreamImplicit(itemFieldName = "action")
-        private @Nullable List<String> actions;
+        return actions;
     }
 }
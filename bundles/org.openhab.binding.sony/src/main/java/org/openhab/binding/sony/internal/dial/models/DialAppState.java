@@ -12,11 +12,13 @@
  */
 package org.openhab.binding.sony.internal.dial.models;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyUtil;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the DIAL application state. The state will be retrieved from a call to {@link #get(String)} and
@@ -36,9 +38,10 @@ import com.thoughtworks.xstream.annotations.XStreamAlias;
  * @author Tim Roberts - Initial contribution
  * @author andan - Adaptions for OH3
  */
-@XStreamAlias("service")
 @NonNullByDefault
 public class DialAppState {
+    /** The element name of the application state */
+    private static final String ELEMENT = "service";
 
     /**
      * The state for running. Also valid are "stopped" and "installUrl=url"
@@ -49,7 +52,16 @@ public class DialAppState {
      * The application state. Please note that the application state has been broken by sony for quite awhile
      * (everything says stopped)
      */
-    private @Nullable String state;
+    private final @Nullable String state;
+
+    /**
+     * Constructs the application state from the state
+     *
+     * @param state a possibly null, possibly empty state
+     */
+    private DialAppState(final @Nullable String state) {
+        this.state = state;
+    }
 
     /**
      * Checks if is running.
@@ -68,6 +80,26 @@ public class DialAppState {
      */
     public static @Nullable DialAppState get(final String xml) {
         SonyUtil.validateNotEmpty(xml, "xml cannot be empty");
-        return DialXmlReader.APPSTATE.fromXML(xml);
+        return XmlUtil.parse(xml, ELEMENT, DialAppState::parse);
+    }
+
+    /**
+     * Parses the application state from the reader
+     *
+     * @param reader a non-null reader positioned on the service element (and left on it's end element)
+     * @return a non-null application state
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    private static DialAppState parse(final XMLStreamReader reader) throws XMLStreamException {
+        @Nullable
+        String state = null;
+        while (XmlUtil.nextChild(reader)) {
+            if ("state".equalsIgnoreCase(reader.getLocalName())) {
+                state = XmlUtil.getText(reader);
+            } else {
+                XmlUtil.skipElement(reader);
+            }
+        }
+        return new DialAppState(state);
     }
 }
@@ -12,15 +12,17 @@
  */
 package org.openhab.binding.sony.internal.dial.models;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyUtil;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
-import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the root element in the XML for a DIAL service. The XML that will be deserialized will look
@@ -65,11 +67,21 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
  * @author andan - Adaptions for OH3
  */
 @NonNullByDefault
-@XStreamAlias("service")
 public class DialService {
+    /** The element name of the service */
+    private static final String ELEMENT = "service";
+
     /** The list of {@link DialApp} */
-    @XStreamImplicit(itemFieldName = "app")
-    private @Nullable List<DialApp> apps;
+    private final List<DialApp> apps;
+
+    /**
+     * Constructs the service from the applications
+     *
+     * @param apps a non-null, possibly empty list of applications
+     */
+    private DialService(final List<DialApp> apps) {
+        this.apps = Collections.unmodifiableList(apps);
+    }
 
     /**
      * Creates a DialServer from the given XML or null if the representation is incorrect
@@ -79,7 +91,26 @@ public class DialService {
      */
     public static @Nullable DialService get(String xml) {
         SonyUtil.validateNotEmpty(xml, "xml cannot be empty");
-        return DialXmlReader.SERVICE.fromXML(xml);
+        return XmlUtil.parse(xml, ELEMENT, DialService::parse);
+    }
+
+    /**
+     * Parses the service from the reader
+     *
+     * @param reader a non-null reader positioned on the service element (and left on it's end element)
+     * @return a non-null service
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    private static DialService parse(final XMLStreamReader reader) throws XMLStreamException {
+        final List<DialApp> apps = new ArrayList<>();
+        while (XmlUtil.nextChild(reader)) {
+            if (DialApp.ELEMENT.equalsIgnoreCase(reader.getLocalName())) {
+                apps.add(DialApp.parse(reader));
+            } else {
+                XmlUtil.skipElement(reader);
+            }
+        }
+        return new DialService(apps);
     }
 
     /**
@@ -88,6 +119,6 @@ public class DialService {
      * @return a non-null, possibly empty list of {@link DialApp}
      */
     public List<DialApp> getApps() {
-        return apps == null ? Collections.emptyList() : Collections.unmodifiableList(apps);
+        return apps;
     }
 }
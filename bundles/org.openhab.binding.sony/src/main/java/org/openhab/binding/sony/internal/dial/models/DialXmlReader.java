@@ -21,7 +21,9 @@ import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.io.xml.StaxDriver;
 
 /**
- * This class represents creates the various XML readers (using XStream) to deserialize various calls.
+ * This class represents creates the various XML readers (using XStream) to deserialize various calls. These readers
+ * are only used for the (one time) device description - the application list and states (queried on every refresh)
+ * are parsed with purpose built pull parsers (see {@link DialService#get(String)}).
  *
  * @author Tim Roberts - Initial contribution
  * @author andan - Adaptions for OH3
@@ -38,13 +40,6 @@ public class DialXmlReader<T> {
     public static final DialXmlReader<DialRoot> ROOT = new DialXmlReader<>(
             new Class[] { DialRoot.class, DialRoot.RootDevice.class, DialClient.class, DialDeviceInfo.class });
 
-    /** The reader for the SERVICE XML (see {@link DialService}) */
-    static final DialXmlReader<DialService> SERVICE = new DialXmlReader<>(
-            new Class[] { DialService.class, DialApp.class, DialApp.SupportedAction.class });
-
-    /** The reader for the APP STATE XML (see {@link DialAppState}) */
-    static final DialXmlReader<DialAppState> APPSTATE = new DialXmlReader<>(new Class[] { DialAppState.class });
-
     /**
      * Constructs the reader using the specified classes to process annotations with
      *
@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.ircc;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpStatus;
+import org.openhab.binding.sony.internal.SonyFileWriter;
+import org.openhab.binding.sony.internal.scalarweb.gson.GsonUtilities;
+import org.openhab.core.OpenHAB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * This class caches, per IRCC URL (ie per device), the documents (device description, SCPDs, action list, system
+ * information and remote command list) an {@link org.openhab.binding.sony.internal.ircc.models.IrccClient} was
+ * resolved from. The cache is held in memory and persisted (as json) to the user data folder so the client can be
+ * rebuilt without querying each document again - even after a restart. An entry is only considered fresh if the
+ * device description it was resolved from is unchanged.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+class IrccClientCache {
+    /** The logger */
+    private static final Logger logger = LoggerFactory.getLogger(IrccClientCache.class);
+
+    /** The folder the cache entries are persisted to */
+    private static final String FOLDERBASE = OpenHAB.getUserDataFolder() + File.separator + "sony" + File.separator
+            + "ircc";
+
+    /** The file extension of a persisted entry */
+    private static final String JSONEXT = ".json";
+
+    /** How long (in milliseconds) an entry can be used before it's revalidated in the background */
+    private static final long REVALIDATE_MS = 60 * 60 * 1000;
+
+    /** The gson used to persist the entries */
+    private static final Gson gson = GsonUtilities.getDefaultGson();
+
+    /** The entries (empty if not cached) by IRCC URL */
+    private static final Map<String, Optional<Entry>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor - all methods are static
+     */
+    private IrccClientCache() {
+    }
+
+    /**
+     * Gets the cache entry for the IRCC URL. If the entry is not in memory, the persisted entry (if any) will be
+     * loaded.
+     *
+     * @param irccUrl a non-null IRCC URL
+     * @return the cache entry or null if none
+     */
+    static @Nullable Entry get(final URL irccUrl) {
+        Objects.requireNonNull(irccUrl, "irccUrl cannot be null");
+        return entries.computeIfAbsent(irccUrl.toExternalForm(), k -> Optional.ofNullable(load(k))).orElse(null);
+    }
+
+    /**
+     * Stores the documents the IRCC client was resolved from (in memory and persisted in the background)
+     *
+     * @param irccUrl a non-null IRCC URL
+     * @param documents a non-null, non-empty map of documents by URL
+     */
+    static void put(final URL irccUrl, final Map<String, Document> documents) {
+        Objects.requireNonNull(irccUrl, "irccUrl cannot be null");
+        Objects.requireNonNull(documents, "documents cannot be null");
+
+        final String key = irccUrl.toExternalForm();
+        final Entry entry = new Entry(key, System.currentTimeMillis(), documents);
+        entries.put(key, Optional.of(entry));
+        SonyFileWriter.write(getPath(key), () -> gson.toJson(entry), true);
+        logger.debug("Cached {} IRCC documents for {}", documents.size(), key);
+    }
+
+    /**
+     * Removes the cache entry for the IRCC URL (the persisted entry will be replaced when next stored)
+     *
+     * @param irccUrl a non-null IRCC URL
+     */
+    static void remove(final URL irccUrl) {
+        Objects.requireNonNull(irccUrl, "irccUrl cannot be null");
+        entries.put(irccUrl.toExternalForm(), Optional.empty());
+    }
+
+    /**
+     * Helper method to load a persisted entry
+     *
+     * @param key a non-null, non-empty IRCC URL
+     * @return the entry or null if not persisted (or not valid)
+     */
+    private static @Nullable Entry load(final String key) {
+        final Path path = getPath(key);
+        try {
+            final @Nullable Entry entry = gson.fromJson(Files.readString(path, StandardCharsets.UTF_8), Entry.class);
+            if (entry == null || !key.equals(entry.irccUrl) || entry.documents == null
+                    || entry.documents.get(key) == null) {
+                logger.debug("Ignoring IRCC cache {} - not valid for {}", path, key);
+                return null;
+            }
+            logger.debug("Loaded IRCC cache for {} from {}", key, path);
+            return entry;
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException | JsonParseException e) {
+            logger.debug("Ignoring IRCC cache {} - could not be read: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Helper method to get the path of the persisted entry for the IRCC URL
+     *
+     * @param key a non-null, non-empty IRCC URL
+     * @return a non-null path
+     */
+    private static Path getPath(final String key) {
+        return Path.of(FOLDERBASE, key.replaceAll("[^A-Za-z0-9.-]", "_") + JSONEXT);
+    }
+
+    /**
+     * A single cache entry (the documents for one IRCC URL)
+     */
+    @NonNullByDefault
+    static class Entry {
+        /** The IRCC URL */
+        private final String irccUrl;
+
+        /** The time (in milliseconds) the documents were fetched */
+        private final long fetched;
+
+        /** The documents by URL */
+        private final @Nullable Map<String, Document> documents;
+
+        /**
+         * Constructs the entry
+         *
+         * @param irccUrl a non-null, non-empty IRCC URL
+         * @param fetched the time (in milliseconds) the documents were fetched
+         * @param documents a non-null map of documents by URL
+         */
+        private Entry(final String irccUrl, final long fetched, final Map<String, Document> documents) {
+            this.irccUrl = irccUrl;
+            this.fetched = fetched;
+            this.documents = Collections.unmodifiableMap(new HashMap<>(documents));
+        }
+
+        /**
+         * Determines if the entry is fresh (the device description is unchanged)
+         *
+         * @param description a non-null device description
+         * @return true if fresh, false otherwise
+         */
+        boolean isFresh(final String description) {
+            Objects.requireNonNull(description, "description cannot be null");
+            final @Nullable Document doc = getDocument(irccUrl);
+            return doc != null && description.equals(doc.getContent());
+        }
+
+        /**
+         * Determines if the entry should be revalidated
+         *
+         * @return true if the entry should be revalidated, false otherwise
+         */
+        boolean isRevalidationDue() {
+            return System.currentTimeMillis() - fetched >= REVALIDATE_MS;
+        }
+
+        /**
+         * Gets the cached document for the URL
+         *
+         * @param url a non-null, non-empty URL
+         * @return the document or null if not cached
+         */
+        @Nullable
+        Document getDocument(final String url) {
+            final @Nullable Map<String, Document> localDocuments = documents;
+            return localDocuments == null ? null : localDocuments.get(url);
+        }
+    }
+
+    /**
+     * A single (fetched) document
+     */
+    @NonNullByDefault
+    static class Document {
+        /** The http code of the response */
+        private final int httpCode;
+
+        /** The content of the response (null if not successful) */
+        private final @Nullable String content;
+
+        /**
+         * Constructs the document
+         *
+         * @param httpCode the http code of the response
+         * @param content the possibly null content of the response
+         */
+        Document(final int httpCode, final @Nullable String content) {
+            this.httpCode = httpCode;
+            this.content = content;
+        }
+
+        /**
+         * Gets the http code of the response
+         *
+         * @return the http code
+         */
+        int getHttpCode() {
+            return httpCode;
+        }
+
+        /**
+         * Gets the content of the response
+         *
+         * @return a non-null, possibly empty content
+         */
+        String getContent() {
+            final @Nullable String localContent = content;
+            return localContent == null ? "" : localContent;
+        }
+
+        /**
+         * Determines if the document can be cached (was successful or definitively not found)
+         *
+         * @return true if cacheable, false otherwise
+         */
+        boolean isCacheable() {
+            return httpCode == HttpStatus.OK_200 || httpCode == HttpStatus.NOT_FOUND_404;
+        }
+    }
+}
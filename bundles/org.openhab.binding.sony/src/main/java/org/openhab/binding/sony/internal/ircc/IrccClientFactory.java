@@ -17,12 +17,19 @@ import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import javax.ws.rs.client.ClientBuilder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.ircc.models.IrccActionList;
@@ -40,11 +47,14 @@ import org.openhab.binding.sony.internal.transports.SonyTransportFactory;
 import org.openhab.binding.sony.internal.upnp.models.UpnpScpd;
 import org.openhab.binding.sony.internal.upnp.models.UpnpService;
 import org.openhab.binding.sony.internal.upnp.models.UpnpXmlReader;
+import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The class represents a factory for creating {@link IrccClient} classes and will attempt to detect basic information
+ * The class represents a factory for creating {@link IrccClient} classes and will attempt to detect basic information.
+ * The documents a client is resolved from are fetched concurrently (where independent of each other) and cached per
+ * device (see {@link IrccClientCache}) so a client can be rebuilt after a single query of the device description.
  *
  * @author Tim Roberts - Initial contribution
  * @author andan - Adaptions for OH3
@@ -62,6 +72,16 @@ public class IrccClientFactory {
     private static final int LIKELY_BLURAY_PORT = 50001;
     private static final String LIKELY_BLURAY_SCPD = "/IRCCSCPD.xml";
     private static final String LIKELY_BLURAY_IRCC = "/upnp/control/IRCC";
+
+    /** The executor cached documents are revalidated on (revalidation fetches on the same thread - never blocks) */
+    private static final ExecutorService executor = ThreadPoolManager.getPool("sony");
+
+    /**
+     * The executor the documents are fetched on. This is a dedicated pool: the callers block waiting for the fetches
+     * so fetching on a pool the callers may themselves be running on could exhaust (deadlock) that pool
+     */
+    private static final ExecutorService fetchExecutor = ThreadPoolManager.getPool("sony-ircc");
+
     private static final String LIKELY_SCPD_RESULT = "<?xml version=\"1.0\"?><scpd xmlns=\"urn:schemas-upnp-org:service-1-0\"><actionList><action><name>X_SendIRCC</name><argumentList><argument><name>IRCCCode</name><direction>in</direction><relatedStateVariable>X_A_ARG_TYPE_IRCCCode</relatedStateVariable></argument></argumentList></action></actionList></scpd>";
 
     /**
@@ -183,7 +203,10 @@ public class IrccClientFactory {
     }
 
     /**
-     * Helper method to create a {@link IrccClient} from a URL discovered via UPNP
+     * Helper method to create a {@link IrccClient} from a URL discovered via UPNP. The device description is always
+     * queried and, if unchanged from the cached documents, the client is rebuilt from the cached documents (and
+     * revalidated in the background if due). Otherwise all the documents are queried (concurrently where independent
+     * of each other) and cached.
      * 
      * @param irccUrl a non-null URL pointing to the UPNP description
      * @param logger a non-null logger
@@ -204,147 +227,311 @@ public class IrccClientFactory {
             }
 
             final String irccResponse = resp.getContent();
-            final IrccRoot irccRoot = IrccXmlReader.ROOT.fromXML(irccResponse);
-            if (irccRoot == null) {
-                throw new IOException("IRCC response (" + irccUrl + ") was not valid: " + irccResponse);
+
+            final IrccClientCache.@Nullable Entry cached = IrccClientCache.get(irccUrl);
+            if (cached != null && cached.isFresh(irccResponse)) {
+                try {
+                    final IrccClient client = createClient(irccUrl, irccResponse, logger, url -> {
+                        final IrccClientCache.@Nullable Document doc = cached.getDocument(url);
+                        if (doc == null) {
+                            throw new IOException("Document " + url + " was not cached");
+                        }
+                        return doc;
+                    }, Runnable::run);
+                    logger.debug("Querying IRCC client {} and using cached documents", irccUrl);
+
+                    if (cached.isRevalidationDue()) {
+                        executor.execute(() -> revalidate(irccUrl, logger, clientBuilder));
+                    }
+                    return client;
+                } catch (final IOException e) {
+                    logger.debug("Querying IRCC client {} and cached documents were not valid - querying: {}", irccUrl,
+                            e.getMessage());
+                    IrccClientCache.remove(irccUrl);
+                }
             }
-            logger.debug("Querying IRCC client {} and got IRCCRoot response: {}", irccUrl, irccResponse);
 
-            final IrccDevice irccDevice = irccRoot.getDevice();
-            if (irccDevice == null) {
-                throw new IOException("IRCC response (" + irccUrl + ") didn't contain an IRCC device");
+            return queryAndCache(irccUrl, irccResponse, logger, transport, fetchExecutor);
+        }
+    }
+
+    /**
+     * Helper method to revalidate the cached documents of an {@link IrccClient} (by querying them again). This runs in
+     * the background so the documents are simply queried one after another on the calling thread.
+     *
+     * @param irccUrl a non-null URL pointing to the UPNP description
+     * @param logger a non-null logger
+     * @param clientBuilder a non-null client builder
+     */
+    private static void revalidate(final URL irccUrl, final Logger logger, final ClientBuilder clientBuilder) {
+        logger.debug("Revalidating cached IRCC documents for {}", irccUrl);
+        try (SonyHttpTransport transport = SonyTransportFactory.createHttpTransport(irccUrl, clientBuilder)) {
+            final HttpResponse resp = transport.executeGet(irccUrl.toExternalForm());
+            if (resp.getHttpCode() != HttpStatus.OK_200) {
+                throw resp.createException();
             }
+            queryAndCache(irccUrl, resp.getContent(), logger, transport, Runnable::run);
+        } catch (final IOException | URISyntaxException | RuntimeException e) {
+            logger.debug("Exception revalidating cached IRCC documents for {}: {}", irccUrl, e.getMessage());
+        }
+    }
 
-            final Map<String, UpnpService> services = new HashMap<>();
-            final Map<String, UpnpScpd> scpdByService = new HashMap<>();
+    /**
+     * Helper method to query all the documents of an {@link IrccClient} (concurrently where possible), create the
+     * client from them and cache them (if all were successful or not found)
+     *
+     * @param irccUrl a non-null URL pointing to the UPNP description
+     * @param irccResponse a non-null UPNP description
+     * @param logger a non-null logger
+     * @param transport a non-null transport to query with
+     * @param queryExecutor a non-null executor to query the documents on (must not be a pool the caller runs on)
+     * @return a non-null {@link IrccClient}
+     * @throws IOException if an IO exception occurs
+     */
+    private static IrccClient queryAndCache(final URL irccUrl, final String irccResponse, final Logger logger,
+            final SonyHttpTransport transport, final Executor queryExecutor) throws IOException {
+        final Map<String, IrccClientCache.Document> documents = new ConcurrentHashMap<>();
+        documents.put(irccUrl.toExternalForm(), new IrccClientCache.Document(HttpStatus.OK_200, irccResponse));
+
+        final IrccClient client = createClient(irccUrl, irccResponse, logger, url -> {
+            final HttpResponse docResp = transport.executeGet(url);
+            final IrccClientCache.Document doc = new IrccClientCache.Document(docResp.getHttpCode(),
+                    docResp.getHttpCode() == HttpStatus.OK_200 ? docResp.getContent() : docResp.getHttpReason());
+            documents.put(url, doc);
+            return doc;
+        }, queryExecutor);
+
+        if (documents.values().stream().allMatch(IrccClientCache.Document::isCacheable)) {
+            IrccClientCache.put(irccUrl, documents);
+        } else {
+            logger.debug("Querying IRCC client {} and not caching documents (some queries failed)", irccUrl);
+        }
+        return client;
+    }
+
+    /**
+     * Helper method to create a {@link IrccClient} from the UPNP description and the documents it references. Once
+     * the description is known, the SCPDs and the action list are fetched concurrently and, once the action list is
+     * known, the system information and remote command list are fetched concurrently.
+     * 
+     * @param irccUrl a non-null URL pointing to the UPNP description
+     * @param irccResponse a non-null UPNP description
+     * @param logger a non-null logger
+     * @param fetcher a non-null fetcher of the referenced documents
+     * @param fetchExecutor a non-null executor to fetch the documents on
+     * @return a non-null {@link IrccClient}
+     * @throws IOException if an IO exception occurs
+     */
+    private static IrccClient createClient(final URL irccUrl, final String irccResponse, final Logger logger,
+            final Fetcher fetcher, final Executor fetchExecutor) throws IOException {
+        final IrccRoot irccRoot = IrccXmlReader.ROOT.fromXML(irccResponse);
+        if (irccRoot == null) {
+            throw new IOException("IRCC response (" + irccUrl + ") was not valid: " + irccResponse);
+        }
+        logger.debug("Querying IRCC client {} and got IRCCRoot response: {}", irccUrl, irccResponse);
 
-            for (final UpnpService service : irccDevice.getServices()) {
-                final String serviceId = service.getServiceId();
+        final IrccDevice irccDevice = irccRoot.getDevice();
+        if (irccDevice == null) {
+            throw new IOException("IRCC response (" + irccUrl + ") didn't contain an IRCC device");
+        }
 
-                if (serviceId == null || serviceId.isEmpty()) {
-                    logger.debug("Querying IRCC client {} and found a service with no service id - ignoring: {}",
-                            irccUrl, service);
-                    continue;
-                }
+        final Map<String, UpnpService> services = new HashMap<>();
+        final Map<String, CompletableFuture<IrccClientCache.Document>> scpdDocs = new LinkedHashMap<>();
+        final Map<String, URL> scpdUrls = new HashMap<>();
 
-                logger.debug("Querying IRCC client {} and found service: {} -- {}", irccUrl, serviceId, service);
-                services.put(serviceId, service);
-
-                final URL scpdUrl = service.getScpdUrl(irccUrl);
-                if (scpdUrl != null) {
-                    logger.debug("Querying IRCC client {} -- {} and getting SCPD: {}", irccUrl, serviceId, scpdUrl);
-                    final HttpResponse spcdResponse = transport.executeGet(scpdUrl.toExternalForm());
-
-                    final int httpCode = spcdResponse.getHttpCode();
-                    if (httpCode == HttpStatus.NOT_FOUND_404) {
-                        logger.debug("Querying IRCC client {} -- {} -- {} -- wasn't found - skipping", irccUrl,
-                                serviceId, scpdUrl);
-                        continue;
-                    } else if (spcdResponse.getHttpCode() != HttpStatus.OK_200) {
-                        throw spcdResponse.createException();
-                    }
+        for (final UpnpService service : irccDevice.getServices()) {
+            final String serviceId = service.getServiceId();
 
-                    final String scpdResponse = spcdResponse.getContent();
-                    final UpnpScpd scpd = UpnpXmlReader.SCPD.fromXML(scpdResponse);
-                    if (scpd == null) {
-                        logger.debug("spcd url '{}' didn't contain a valid response (and is being ignored): {}",
-                                scpdUrl, spcdResponse);
-                    } else {
-                        logger.debug("Querying IRCC client {} -- {} and adding SCPD: {} -- {}", irccUrl, serviceId,
-                                scpdUrl, scpd);
-                        scpdByService.put(serviceId, scpd);
-                    }
-                }
+            if (serviceId == null || serviceId.isEmpty()) {
+                logger.debug("Querying IRCC client {} and found a service with no service id - ignoring: {}", irccUrl,
+                        service);
+                continue;
             }
 
-            final IrccUnrDeviceInfo unrDeviceInfo = irccDevice.getUnrDeviceInfo();
-            final IrccUnrDeviceInfo irccDeviceInfo = unrDeviceInfo == null ? new IrccUnrDeviceInfo() : unrDeviceInfo;
+            logger.debug("Querying IRCC client {} and found service: {} -- {}", irccUrl, serviceId, service);
+            services.put(serviceId, service);
 
-            final String actionsUrl = irccDeviceInfo.getActionListUrl();
+            final URL scpdUrl = service.getScpdUrl(irccUrl);
+            if (scpdUrl != null) {
+                logger.debug("Querying IRCC client {} -- {} and getting SCPD: {}", irccUrl, serviceId, scpdUrl);
+                scpdUrls.put(serviceId, scpdUrl);
+                scpdDocs.put(serviceId, fetchAsync(fetcher, scpdUrl.toExternalForm(), fetchExecutor));
+            }
+        }
 
-            IrccActionList actionsList;
-            IrccSystemInformation sysInfo;
+        final IrccUnrDeviceInfo unrDeviceInfo = irccDevice.getUnrDeviceInfo();
+        final IrccUnrDeviceInfo irccDeviceInfo = unrDeviceInfo == null ? new IrccUnrDeviceInfo() : unrDeviceInfo;
 
-            // If empty - likely version 1.0 or 1.1
-            if (actionsUrl == null || actionsUrl.isEmpty()) {
-                logger.debug("Querying IRCC client {} and found no actionsUrl - generating default", irccUrl);
-                actionsList = new IrccActionList();
-                sysInfo = new IrccSystemInformation();
+        final String actionsUrl = irccDeviceInfo.getActionListUrl();
+        final @Nullable CompletableFuture<IrccClientCache.Document> actionsDoc = actionsUrl == null
+                || actionsUrl.isEmpty() ? null : fetchAsync(fetcher, actionsUrl, fetchExecutor);
+
+        final Map<String, UpnpScpd> scpdByService = new HashMap<>();
+        for (final Map.Entry<String, CompletableFuture<IrccClientCache.Document>> entry : scpdDocs.entrySet()) {
+            final String serviceId = entry.getKey();
+            final URL scpdUrl = scpdUrls.get(serviceId);
+            final IrccClientCache.Document spcdResponse = join(entry.getValue());
+
+            final int httpCode = spcdResponse.getHttpCode();
+            if (httpCode == HttpStatus.NOT_FOUND_404) {
+                logger.debug("Querying IRCC client {} -- {} -- {} -- wasn't found - skipping", irccUrl, serviceId,
+                        scpdUrl);
+                continue;
+            } else if (httpCode != HttpStatus.OK_200) {
+                throw new IOException(spcdResponse.getContent());
+            }
+
+            final String scpdResponse = spcdResponse.getContent();
+            final UpnpScpd scpd = UpnpXmlReader.SCPD.fromXML(scpdResponse);
+            if (scpd == null) {
+                logger.debug("spcd url '{}' didn't contain a valid response (and is being ignored): {}", scpdUrl,
+                        scpdResponse);
             } else {
-                logger.debug("Querying IRCC client {} and finding action: {}", irccUrl, actionsUrl);
-                final HttpResponse actionsResp = transport.executeGet(actionsUrl);
-                if (actionsResp.getHttpCode() == HttpStatus.OK_200) {
-                    final String actionXml = actionsResp.getContent();
-                    final IrccActionList actionList = IrccXmlReader.ACTIONS.fromXML(actionXml);
-                    if (actionList == null) {
-                        throw new IOException(
-                                "IRCC Actions response (" + actionsUrl + ")  was not valid: " + actionXml);
-                    }
-                    logger.debug("Querying IRCC client {} and found action: {} -- {}", irccUrl, actionsUrl, actionList);
-                    actionsList = actionList;
-                } else {
-                    logger.debug("Querying IRCC client {} for actions url {} -- got error {} and defaulting to none",
-                            irccUrl, actionsUrl, actionsResp.getHttpCode());
-                    actionsList = new IrccActionList();
+                logger.debug("Querying IRCC client {} -- {} and adding SCPD: {} -- {}", irccUrl, serviceId, scpdUrl,
+                        scpd);
+                scpdByService.put(serviceId, scpd);
+            }
+        }
+
+        IrccActionList actionsList;
+
+        // If empty - likely version 1.0 or 1.1
+        if (actionsDoc == null) {
+            logger.debug("Querying IRCC client {} and found no actionsUrl - generating default", irccUrl);
+            actionsList = new IrccActionList();
+        } else {
+            logger.debug("Querying IRCC client {} and finding action: {}", irccUrl, actionsUrl);
+            final IrccClientCache.Document actionsResp = join(actionsDoc);
+            if (actionsResp.getHttpCode() == HttpStatus.OK_200) {
+                final String actionXml = actionsResp.getContent();
+                final IrccActionList actionList = IrccXmlReader.ACTIONS.fromXML(actionXml);
+                if (actionList == null) {
+                    throw new IOException("IRCC Actions response (" + actionsUrl + ")  was not valid: " + actionXml);
                 }
+                logger.debug("Querying IRCC client {} and found action: {} -- {}", irccUrl, actionsUrl, actionList);
+                actionsList = actionList;
+            } else {
+                logger.debug("Querying IRCC client {} for actions url {} -- got error {} and defaulting to none",
+                        irccUrl, actionsUrl, actionsResp.getHttpCode());
+                actionsList = new IrccActionList();
+            }
+        }
 
-                final String sysUrl = actionsList.getUrlForAction(IrccClient.AN_GETSYSTEMINFORMATION);
-                if (sysUrl == null || sysUrl.isEmpty()) {
-                    logger.debug("Querying IRCC client {} but found no system information actions URL: {} - defaulting",
-                            irccUrl, actionsList);
-                    sysInfo = new IrccSystemInformation();
-                } else {
-                    logger.debug("Querying IRCC client {} and getting system information: {}", irccUrl, sysUrl);
-                    final HttpResponse sysResp = transport.executeGet(sysUrl);
-                    if (sysResp.getHttpCode() == HttpStatus.OK_200) {
-                        final String sysXml = sysResp.getContent();
-                        final IrccSystemInformation sys = IrccXmlReader.SYSINFO.fromXML(sysXml);
-                        if (sys == null) {
-                            throw new IOException(
-                                    "IRCC systems info response (" + sysUrl + ")  was not valid: " + sysXml);
-                        }
-                        logger.debug("Querying IRCC client {} and found system information: {} -- {}", irccUrl, sysUrl,
-                                sys);
-                        sysInfo = sys;
-                    } else {
-                        logger.debug(
-                                "Querying IRCC client {} for sysinfo url {} -- got error {} and defaulitn system information",
-                                irccUrl, sysUrl, sysResp.getHttpCode());
-                        sysInfo = new IrccSystemInformation();
-                    }
+        // The system information is only queried for action lists that were provided (version 1.2+)
+        final @Nullable String sysUrl = actionsDoc == null ? null
+                : actionsList.getUrlForAction(IrccClient.AN_GETSYSTEMINFORMATION);
+        final String remoteCommandsUrl = actionsList.getUrlForAction(IrccClient.AN_GETREMOTECOMMANDLIST);
+
+        final @Nullable CompletableFuture<IrccClientCache.Document> sysDoc = sysUrl == null || sysUrl.isEmpty() ? null
+                : fetchAsync(fetcher, sysUrl, fetchExecutor);
+        final @Nullable CompletableFuture<IrccClientCache.Document> rcDoc = remoteCommandsUrl == null
+                || remoteCommandsUrl.isEmpty() ? null : fetchAsync(fetcher, remoteCommandsUrl, fetchExecutor);
+
+        IrccSystemInformation sysInfo;
+        if (sysDoc == null) {
+            logger.debug("Querying IRCC client {} but found no system information actions URL: {} - defaulting",
+                    irccUrl, actionsList);
+            sysInfo = new IrccSystemInformation();
+        } else {
+            logger.debug("Querying IRCC client {} and getting system information: {}", irccUrl, sysUrl);
+            final IrccClientCache.Document sysResp = join(sysDoc);
+            if (sysResp.getHttpCode() == HttpStatus.OK_200) {
+                final String sysXml = sysResp.getContent();
+                final IrccSystemInformation sys = IrccXmlReader.SYSINFO.fromXML(sysXml);
+                if (sys == null) {
+                    throw new IOException("IRCC systems info response (" + sysUrl + ")  was not valid: " + sysXml);
                 }
+                logger.debug("Querying IRCC client {} and found system information: {} -- {}", irccUrl, sysUrl, sys);
+                sysInfo = sys;
+            } else {
+                logger.debug(
+                        "Querying IRCC client {} for sysinfo url {} -- got error {} and defaulitn system information",
+                        irccUrl, sysUrl, sysResp.getHttpCode());
+                sysInfo = new IrccSystemInformation();
             }
+        }
 
-            IrccRemoteCommands remoteCommands;
+        IrccRemoteCommands remoteCommands;
 
-            final IrccCodeList codeList = irccDevice.getCodeList();
-            final String remoteCommandsUrl = actionsList.getUrlForAction(IrccClient.AN_GETREMOTECOMMANDLIST);
-            if (remoteCommandsUrl == null || remoteCommandsUrl.isEmpty()) {
-                logger.debug("Querying IRCC client {} and found no remote commands - using default code list", irccUrl);
-                remoteCommands = new IrccRemoteCommands().withCodeList(codeList);
-            } else {
-                logger.debug("Querying IRCC client {} and getting remote commands: {}", irccUrl, remoteCommandsUrl);
-                final HttpResponse rcResp = transport.executeGet(remoteCommandsUrl);
-                if (rcResp.getHttpCode() == HttpStatus.OK_200) {
-                    final String rcXml = rcResp.getContent();
-                    final IrccRemoteCommands rcCmds = IrccXmlReader.REMOTECOMMANDS.fromXML(rcXml);
-                    if (rcCmds == null) {
-                        throw new IOException(
-                                "IRCC systems info response (" + remoteCommandsUrl + ")  was not valid: " + rcXml);
-                    }
-                    logger.debug("Querying IRCC client {} and getting remote commands: {} -- {}", irccUrl,
-                            remoteCommandsUrl, rcCmds);
-                    remoteCommands = rcCmds;
-                } else {
-                    logger.debug(
-                            "Querying IRCC client {} and encountered an error getting remote commands (using default now): {}",
-                            irccUrl, rcResp);
-                    remoteCommands = new IrccRemoteCommands().withCodeList(codeList);
+        final IrccCodeList codeList = irccDevice.getCodeList();
+        if (rcDoc == null) {
+            logger.debug("Querying IRCC client {} and found no remote commands - using default code list", irccUrl);
+            remoteCommands = new IrccRemoteCommands().withCodeList(codeList);
+        } else {
+            logger.debug("Querying IRCC client {} and getting remote commands: {}", irccUrl, remoteCommandsUrl);
+            final IrccClientCache.Document rcResp = join(rcDoc);
+            if (rcResp.getHttpCode() == HttpStatus.OK_200) {
+                final String rcXml = rcResp.getContent();
+                final IrccRemoteCommands rcCmds = IrccXmlReader.REMOTECOMMANDS.fromXML(rcXml);
+                if (rcCmds == null) {
+                    throw new IOException(
+                            "IRCC systems info response (" + remoteCommandsUrl + ")  was not valid: " + rcXml);
                 }
+                logger.debug("Querying IRCC client {} and getting remote commands: {} -- {}", irccUrl,
+                        remoteCommandsUrl, rcCmds);
+                remoteCommands = rcCmds;
+            } else {
+                logger.debug(
+                        "Querying IRCC client {} and encountered an error getting remote commands (using default now): {}",
+                        irccUrl, rcResp.getHttpCode());
+                remoteCommands = new IrccRemoteCommands().withCodeList(codeList);
+            }
+        }
+
+        return new IrccClient(irccUrl, services, actionsList, sysInfo, remoteCommands, irccDeviceInfo, scpdByService);
+    }
+
+    /**
+     * Helper method to fetch a document asynchronously
+     *
+     * @param fetcher a non-null fetcher
+     * @param url a non-null, non-empty URL
+     * @param fetchExecutor a non-null executor to fetch on
+     * @return a non-null future that will complete with the document
+     */
+    private static CompletableFuture<IrccClientCache.Document> fetchAsync(final Fetcher fetcher, final String url,
+            final Executor fetchExecutor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetcher.fetch(url);
+            } catch (final IOException e) {
+                throw new CompletionException(e);
             }
+        }, fetchExecutor);
+    }
 
-            return new IrccClient(irccUrl, services, actionsList, sysInfo, remoteCommands, irccDeviceInfo,
-                    scpdByService);
+    /**
+     * Helper method to wait for a fetched document
+     *
+     * @param future a non-null future
+     * @return the non-null document
+     * @throws IOException if an IO exception occurred fetching the document
+     */
+    private static IrccClientCache.Document join(final CompletableFuture<IrccClientCache.Document> future)
+            throws IOException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Exception fetching document: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Functional interface to fetch a document
+     */
+    @NonNullByDefault
+    private interface Fetcher {
+        /**
+         * Fetches the document at the URL
+         *
+         * @param url a non-null, non-empty URL
+         * @return the non-null document
+         * @throws IOException if an IO exception occurs
+         */
+        IrccClientCache.Document fetch(String url) throws IOException;
+    }
 }
@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.ircc;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.binding.sony.internal.ircc.models.IrccRemoteCommand;
+import org.openhab.binding.sony.internal.ircc.models.IrccRemoteCommands;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class indexes the commands that can be sent to an IRCC device. The index is built from the remote commands
+ * the device reported (as defaults) and the entries of the command map file (which take precedence) and translates a
+ * command (exactly or, failing that, ignoring case) to its (decoded) "protocol:command" value with a single lookup.
+ * The map file is checked for changes (at most once per {@link #CHECK_INTERVAL_MS}) and the index is rebuilt when
+ * the map file changes.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+class IrccCommandIndex {
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(IrccCommandIndex.class);
+
+    /** The minimum time (in milliseconds) between checks of the map file */
+    private static final long CHECK_INTERVAL_MS = 1000;
+
+    /** The remote commands (decoded "protocol:command") by command name */
+    private final Map<String, String> remoteCommands;
+
+    /** The command map file (or null if none) */
+    private final @Nullable Path mapFile;
+
+    /** The lock used to serialize reloads (lookups never lock) */
+    private final Object reloadLock = new Object();
+
+    /** The current index */
+    private volatile Index index;
+
+    /** The time (in milliseconds) the map file was last checked */
+    private volatile long lastChecked;
+
+    /**
+     * Constructs the index from the remote commands and the command map file
+     *
+     * @param remoteCmds the non-null remote commands of the device
+     * @param mapFile the possibly null command map file (which may not exist yet)
+     */
+    IrccCommandIndex(final IrccRemoteCommands remoteCmds, final @Nullable Path mapFile) {
+        Objects.requireNonNull(remoteCmds, "remoteCmds cannot be null");
+
+        final Map<String, String> cmds = new HashMap<>();
+        for (final IrccRemoteCommand cmd : remoteCmds.getRemoteCommands().values()) {
+            cmds.put(cmd.getName(), cmd.getType() + ":" + cmd.getCmd());
+        }
+        this.remoteCommands = Collections.unmodifiableMap(cmds);
+        this.mapFile = mapFile;
+        this.index = load(null);
+        this.lastChecked = System.currentTimeMillis();
+    }
+
+    /**
+     * Translates the command to its "protocol:command" value
+     *
+     * @param cmd a non-null, non-empty command
+     * @return the decoded "protocol:command" value or null if the command isn't indexed
+     */
+    @Nullable
+    String lookup(final String cmd) {
+        SonyUtil.validateNotEmpty(cmd, "cmd cannot be empty");
+
+        final Index localIndex = checkMapFile();
+        final @Nullable String value = localIndex.exact.get(cmd);
+        return value == null ? localIndex.ignoreCase.get(cmd.toLowerCase()) : value;
+    }
+
+    /**
+     * Reloads the index now (ie after the map file was written) rather than waiting for the next check
+     */
+    void reload() {
+        synchronized (reloadLock) {
+            index = load(null);
+            lastChecked = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Checks (if due) whether the map file has changed and reloads the index if so
+     *
+     * @return the non-null, current index
+     */
+    private Index checkMapFile() {
+        final long now = System.currentTimeMillis();
+        if (mapFile == null || now - lastChecked < CHECK_INTERVAL_MS) {
+            return index;
+        }
+
+        synchronized (reloadLock) {
+            if (now - lastChecked >= CHECK_INTERVAL_MS) {
+                final @Nullable BasicFileAttributes attrs = getAttributes();
+                final Index localIndex = index;
+                if (!localIndex.isSame(attrs)) {
+                    logger.debug("Command map file {} has changed - reloading", mapFile);
+                    index = load(attrs);
+                }
+                lastChecked = now;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Helper method to build the index from the remote commands and the map file
+     *
+     * @param knownAttrs the attributes of the map file if already known (null to read them)
+     * @return a non-null index
+     */
+    private Index load(final @Nullable BasicFileAttributes knownAttrs) {
+        final Map<String, String> cmds = new HashMap<>(remoteCommands);
+
+        final @Nullable Path localMapFile = mapFile;
+        final @Nullable BasicFileAttributes attrs = knownAttrs == null ? getAttributes() : knownAttrs;
+        if (localMapFile != null && attrs != null) {
+            final Properties props = new Properties();
+            try (Reader reader = Files.newBufferedReader(localMapFile, StandardCharsets.UTF_8)) {
+                props.load(reader);
+                for (final String key : props.stringPropertyNames()) {
+                    cmds.put(key, decode(props.getProperty(key)));
+                }
+                logger.debug("Loaded {} commands from command map file {}", props.size(), localMapFile);
+            } catch (final IOException | IllegalArgumentException e) {
+                logger.debug("Exception reading command map file {} - using remote commands only: {}", localMapFile,
+                        e.getMessage());
+            }
+        }
+
+        return new Index(cmds, attrs);
+    }
+
+    /**
+     * Helper method to get the attributes of the map file
+     *
+     * @return the attributes or null if there is no map file (or it doesn't exist)
+     */
+    private @Nullable BasicFileAttributes getAttributes() {
+        final @Nullable Path localMapFile = mapFile;
+        if (localMapFile == null) {
+            return null;
+        }
+        try {
+            return Files.readAttributes(localMapFile, BasicFileAttributes.class);
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException e) {
+            logger.debug("Exception reading attributes of command map file {}: {}", localMapFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Helper method to decode a map value (values are encoded in case they are URLs)
+     *
+     * @param value a non-null value
+     * @return a non-null decoded value (or the value if it couldn't be decoded)
+     */
+    private String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            logger.debug("Failed to decode {}, exception={} - ignoring error", value, e.getMessage());
+            return value;
+        }
+    }
+
+    /**
+     * An immutable index along with the size and last modified time of the map file it was built from
+     */
+    @NonNullByDefault
+    private static class Index {
+        /** The commands by name */
+        private final Map<String, String> exact;
+
+        /** The commands by lowercase name */
+        private final Map<String, String> ignoreCase;
+
+        /** The size of the map file (or -1 if none) */
+        private final long size;
+
+        /** The last modified time of the map file (or -1 if none) */
+        private final long lastModified;
+
+        /**
+         * Constructs the index
+         *
+         * @param cmds a non-null, possibly empty map of commands by name
+         * @param attrs the possibly null attributes of the map file
+         */
+        private Index(final Map<String, String> cmds, final @Nullable BasicFileAttributes attrs) {
+            final Map<String, String> lower = new HashMap<>();
+            for (final Map.Entry<String, String> entry : cmds.entrySet()) {
+                lower.putIfAbsent(entry.getKey().toLowerCase(), entry.getValue());
+            }
+            this.exact = Collections.unmodifiableMap(new HashMap<>(cmds));
+            this.ignoreCase = Collections.unmodifiableMap(lower);
+            this.size = attrs == null ? -1 : attrs.size();
+            this.lastModified = attrs == null ? -1 : attrs.lastModifiedTime().toMillis();
+        }
+
+        /**
+         * Determines if the index was built from the map file with the given attributes
+         *
+         * @param attrs the possibly null current attributes of the map file
+         * @return true if the same, false otherwise
+         */
+        private boolean isSame(final @Nullable BasicFileAttributes attrs) {
+            return attrs == null ? size == -1 && lastModified == -1
+                    : size == attrs.size() && lastModified == attrs.lastModifiedTime().toMillis();
+        }
+    }
+}
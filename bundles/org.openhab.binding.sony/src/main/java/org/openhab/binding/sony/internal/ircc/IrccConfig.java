@@ -33,6 +33,9 @@ public class IrccConfig extends AbstractConfig {
     /** The commands map file */
     private @Nullable String commandsMapFile;
 
+    /** The gap (in milliseconds) between IRCC keys sent in a sequence (null for default) */
+    private @Nullable Integer irccKeyGap;
+
     // ---- the following properties are not part of the config.xml (and are properties) ----
 
     /** The commands map file. */
@@ -84,6 +87,24 @@ public class IrccConfig extends AbstractConfig {
         this.discoveredCommandsMapFile = discoveredCommandsMapFile;
     }
 
+    /**
+     * Gets the gap (in milliseconds) between IRCC keys sent in a sequence
+     *
+     * @return the key gap or null for the default
+     */
+    public @Nullable Integer getIrccKeyGap() {
+        return irccKeyGap;
+    }
+
+    /**
+     * Sets the gap (in milliseconds) between IRCC keys sent in a sequence
+     *
+     * @param irccKeyGap the key gap (or null for the default)
+     */
+    public void setIrccKeyGap(final @Nullable Integer irccKeyGap) {
+        this.irccKeyGap = irccKeyGap;
+    }
+
     @Override
     public Map<String, Object> asProperties() {
         final Map<String, Object> props = super.asProperties();
@@ -92,6 +113,7 @@ public class IrccConfig extends AbstractConfig {
 
         conditionallyAddProperty(props, "accessCode", accessCode);
         conditionallyAddProperty(props, "commandsMapFile", commandsMapFile);
+        conditionallyAddProperty(props, "irccKeyGap", irccKeyGap);
         return props;
     }
 }
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.ircc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class sequences the keys (IR commands) sent to a single device. A command is a single key unless it starts with
+ * the sequence prefix, in which case the remainder is a sequence of keys separated by a comma (ie
+ * "seq:Num1,Num2,Enter") that may contain waits (ie "wait:500" to wait 500ms). Sequences are opt-in so that existing
+ * commands containing commas (like url commands or map values) are still sent as a single key. Keys are sent one at a
+ * time (in order) with a configurable gap between keys. A sequence of multiple keys cancels the remainder of any
+ * sequence still being sent and keys are rejected if too many are queued (to prevent floods).
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+public class IrccKeySequencer implements AutoCloseable {
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(IrccKeySequencer.class);
+
+    /** The default gap (in milliseconds) between keys */
+    public static final int DEFAULT_KEY_GAP_MS = 100;
+
+    /** The maximum number of keys that can be queued */
+    private static final int MAX_QUEUED = 64;
+
+    /** The prefix of a command that is a sequence of keys */
+    private static final String SEQUENCE_PREFIX = "seq:";
+
+    /** The separator between keys in a sequence */
+    private static final String SEPARATOR = ",";
+
+    /** The prefix of a wait within a sequence */
+    private static final String WAIT_PREFIX = "wait:";
+
+    /** The scheduler the keys are sent on */
+    private static final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("sony");
+
+    /** The sender of a single key */
+    private final KeySender sender;
+
+    /** The gap (in milliseconds) between keys */
+    private final int keyGap;
+
+    /** The queued keys */
+    private final BlockingDeque<QueuedKey> queue = new LinkedBlockingDeque<>(MAX_QUEUED);
+
+    /** Whether the queue is being drained (only one key is sent at a time) */
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    /** Whether the sequencer has been closed */
+    private volatile boolean closed;
+
+    /**
+     * Constructs the sequencer
+     *
+     * @param sender the non-null sender of a single key
+     * @param keyGap the possibly null gap (in milliseconds) between keys (null for {@link #DEFAULT_KEY_GAP_MS})
+     */
+    public IrccKeySequencer(final KeySender sender, final @Nullable Integer keyGap) {
+        Objects.requireNonNull(sender, "sender cannot be null");
+        this.sender = sender;
+        this.keyGap = keyGap == null || keyGap < 0 ? DEFAULT_KEY_GAP_MS : keyGap;
+    }
+
+    /**
+     * Queues the key (or sequence of keys) to be sent. If the command is a sequence of keys, any keys still queued
+     * (from a prior sequence) are cancelled.
+     *
+     * @param cmd a non-null, non-empty key or a sequence prefixed comma separated sequence of keys
+     */
+    public void send(final String cmd) {
+        SonyUtil.validateNotEmpty(cmd, "cmd cannot be empty");
+
+        if (closed) {
+            logger.debug("Key sequencer has been closed - ignoring {}", cmd);
+            return;
+        }
+
+        final List<QueuedKey> keys = new ArrayList<>();
+        if (cmd.regionMatches(true, 0, SEQUENCE_PREFIX, 0, SEQUENCE_PREFIX.length())) {
+            for (final String key : cmd.substring(SEQUENCE_PREFIX.length()).split(SEPARATOR)) {
+                final String trimmedKey = key.trim();
+                if (!trimmedKey.isEmpty()) {
+                    keys.add(new QueuedKey(trimmedKey, getWait(trimmedKey)));
+                }
+            }
+        } else {
+            keys.add(new QueuedKey(cmd, null));
+        }
+
+        if (keys.size() > 1) {
+            final int cancelled = queue.size();
+            queue.clear();
+            if (cancelled > 0) {
+                logger.debug("Cancelled {} queued keys for new sequence {}", cancelled, cmd);
+            }
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (!queue.offerLast(keys.get(i))) {
+                logger.debug("Too many keys queued - rejecting {} keys of {}", keys.size() - i, cmd);
+                break;
+            }
+        }
+
+        if (draining.compareAndSet(false, true)) {
+            scheduler.execute(this::drain);
+        }
+    }
+
+    /**
+     * Sends the next queued key (or waits) and schedules itself to send the following key after the key gap (or
+     * wait).
+     */
+    private void drain() {
+        final @Nullable QueuedKey key = closed ? null : queue.pollFirst();
+        if (key == null) {
+            draining.set(false);
+
+            // a key may have been queued after the poll and before draining was reset
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                scheduler.execute(this::drain);
+            }
+            return;
+        }
+
+        final @Nullable Integer wait = key.wait;
+        if (wait == null) {
+            try {
+                sender.send(key.key);
+            } catch (final RuntimeException e) {
+                logger.debug("Exception sending key {}: {}", key.key, e.getMessage(), e);
+            }
+        }
+
+        scheduler.schedule(this::drain, wait == null ? keyGap : wait, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Helper method to get the wait (in milliseconds) of a key within a sequence
+     *
+     * @param key a non-null, non-empty key
+     * @return the wait or null if the key is not a wait
+     */
+    private @Nullable Integer getWait(final String key) {
+        if (!key.regionMatches(true, 0, WAIT_PREFIX, 0, WAIT_PREFIX.length())) {
+            return null;
+        }
+
+        final String wait = key.substring(WAIT_PREFIX.length()).trim();
+        try {
+            return Math.max(0, Integer.parseInt(wait));
+        } catch (final NumberFormatException e) {
+            logger.debug("Wait was not a number - ignoring: {}", key);
+            return 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    /**
+     * A key (or wait) waiting to be sent
+     */
+    @NonNullByDefault
+    private static class QueuedKey {
+        /** The key */
+        private final String key;
+
+        /** The wait (in milliseconds) or null if the key is not a wait */
+        private final @Nullable Integer wait;
+
+        /**
+         * Constructs the queued key
+         *
+         * @param key a non-null, non-empty key
+         * @param wait the possibly null wait (in milliseconds)
+         */
+        private QueuedKey(final String key, final @Nullable Integer wait) {
+            this.key = key;
+            this.wait = wait;
+        }
+    }
+
+    /**
+     * Functional interface to send a single key
+     */
+    @NonNullByDefault
+    public interface KeySender {
+        /**
+         * Sends a single key to the device
+         *
+         * @param key a non-null, non-empty key
+         */
+        void send(String key);
+    }
+}
@@ -18,8 +18,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -40,6 +38,7 @@ import org.openhab.binding.sony.internal.CheckResult;
 import org.openhab.binding.sony.internal.LoginUnsuccessfulResponse;
 import org.openhab.binding.sony.internal.SonyAuth;
 import org.openhab.binding.sony.internal.SonyAuthChecker;
+import org.openhab.binding.sony.internal.SonyFileWriter;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.ThingCallback;
 import org.openhab.binding.sony.internal.ircc.models.IrccClient;
@@ -62,7 +61,6 @@ import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.RawType;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
-import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.UnDefType;
 import org.slf4j.Logger;
@@ -96,12 +94,18 @@ class IrccProtocol<T extends ThingCallback<String>> implements AutoCloseable {
     /** The {@link SonyHttpTransport} to use */
     private final SonyHttpTransport transport;
 
-    /** The transform service to use to transform commands with */
+    /** The transform service (the command map file is only written if a MAP transformation is available) */
     private final @Nullable TransformationService transformService;
 
     /** The {@link IrccClient} to use */
     private final IrccClient irccClient;
 
+    /** The index used to translate commands */
+    private final IrccCommandIndex commandIndex;
+
+    /** The sequencer the keys are sent through */
+    private final IrccKeySequencer keySequencer;
+
     // ---------------------- The following variables are state variables ------------------
     /** Whether the devices is in a text field or not */
     private final AtomicBoolean isInText = new AtomicBoolean(false);
@@ -140,6 +144,8 @@ class IrccProtocol<T extends ThingCallback<String>> implements AutoCloseable {
         this.transport = SonyTransportFactory.createHttpTransport(irccClient.getBaseUrl().toExternalForm(),
                 clientBuilder);
         this.sonyAuth = new SonyAuth(() -> irccClient);
+        this.commandIndex = new IrccCommandIndex(irccClient.getRemoteCommands(), getCommandMapFile());
+        this.keySequencer = new IrccKeySequencer(this::sendKey, config.getIrccKeyGap());
     }
 
     /**
@@ -262,15 +268,12 @@ class IrccProtocol<T extends ThingCallback<String>> implements AutoCloseable {
         if (transformService == null) {
             logger.debug("No MAP transformation service - skipping writing a map file");
         } else {
-            final String cmdMap = config.getCommandsMapFile();
-            if (cmdMap == null || cmdMap.isEmpty()) {
+            final Path file = getCommandMapFile();
+            if (file == null) {
                 logger.debug("No command map defined - ignoring");
                 return;
             }
 
-            final String filePath = OpenHAB.getConfigFolder() + File.separator
-                    + TransformationService.TRANSFORM_FOLDER_NAME + File.separator + cmdMap;
-            final Path file = Paths.get(filePath);
             if (file.toFile().exists()) {
                 logger.debug("Command map already defined - ignoring: {}", file);
                 return;
@@ -285,12 +288,29 @@ class IrccProtocol<T extends ThingCallback<String>> implements AutoCloseable {
             Collections.sort(lines, String.CASE_INSENSITIVE_ORDER);
 
             if (!lines.isEmpty()) {
+                // written immediately (rather than queued) so the command index picks up the new map right away
                 logger.debug("Writing remote commands to {}", file);
-                Files.write(file, lines, Charset.forName("UTF-8"));
+                SonyFileWriter.writeNow(file,
+                        () -> String.join(System.lineSeparator(), lines) + System.lineSeparator(), false);
+                commandIndex.reload();
             }
         }
     }
 
+    /**
+     * Helper method to get the command map file
+     *
+     * @return the command map file (which may not exist yet) or null if no command map is defined
+     */
+    private @Nullable Path getCommandMapFile() {
+        final String cmdMap = config.getCommandsMapFile();
+        if (cmdMap == null || cmdMap.isEmpty()) {
+            return null;
+        }
+        return Paths.get(OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
+                + File.separator + cmdMap);
+    }
+
     /**
      * Refresh the state for this protocol (currently only calls {@link #refreshStatus})
      */
@@ -684,51 +704,46 @@ class IrccProtocol<T extends ThingCallback<String>> implements AutoCloseable {
     }
 
     /**
-     * Send command to the device (if the command is empty, nothing occurs)
+     * Send command to the device. The command may be a single key or a "seq:" prefixed, comma separated sequence of
+     * keys (see {@link IrccKeySequencer})
      *
      * @param cmd a non-null, non-empty command to send
      */
     public void sendCommand(final String cmd) {
         SonyUtil.validateNotEmpty(cmd, "cmd cannot be empty");
+        keySequencer.send(cmd);
+    }
 
-        final String cmdMap = config.getCommandsMapFile();
-
-        String cmdToSend = cmd;
+    /**
+     * Send a single key to the device
+     *
+     * @param cmd a non-null, non-empty key to send
+     */
+    private void sendKey(final String cmd) {
+        SonyUtil.validateNotEmpty(cmd, "cmd cannot be empty");
 
-        final TransformationService localTransformService = transformService;
-        if (localTransformService == null) {
-            logger.debug("No MAP transformation service - cannot transform command");
-        } else {
+        // Commands are translated using the remote commands and the command map file (see IrccCommandIndex)
+        String cmdToSend = commandIndex.lookup(cmd);
+        if (cmdToSend == null) {
             try {
-                if (cmdMap != null && !cmdMap.isBlank()) {
-                    cmdToSend = localTransformService.transform(cmdMap, cmd);
-                    if (cmdToSend != null && !cmdToSend.equalsIgnoreCase(cmd)) {
-                        logger.debug("Transformed {} with map file '{}' to {}", cmd, cmdMap, cmdToSend);
-                    }
-                }
-            } catch (final TransformationException e) {
-                logger.debug("Failed to transform {} using map file '{}', exception={} - ignoring error", cmd, cmdMap,
-                        e.getMessage());
-            }
-        }
-
-        try {
-            if (cmdToSend != null) {
-                cmdToSend = URLDecoder.decode(cmdToSend, "UTF-8");
+                cmdToSend = URLDecoder.decode(cmd, "UTF-8");
+            } catch (final UnsupportedEncodingException | IllegalArgumentException e) {
+                logger.debug("Failed to decode {}, exception={} - ignoring error", cmd, e.getMessage());
+                cmdToSend = cmd;
             }
-        } catch (final UnsupportedEncodingException e) {
-            logger.debug("Failed to decode {}, exception={} - ignoring error", cmdToSend, e.getMessage());
+        } else if (!cmdToSend.equalsIgnoreCase(cmd)) {
+            logger.debug("Translated {} to {}", cmd, cmdToSend);
         }
 
-        final int idx = cmdToSend == null ? -1 : cmdToSend.indexOf(':');
+        final int idx = cmdToSend.indexOf(':');
 
         String protocol = IrccRemoteCommand.IRCC;
-        if (cmdToSend != null && idx >= 0) {
+        if (idx >= 0) {
             protocol = cmdToSend.substring(0, idx);
             cmdToSend = cmdToSend.substring(idx + 1);
         }
 
-        if (cmdToSend == null || cmdToSend.isEmpty()) {
+        if (cmdToSend.isEmpty()) {
             logger.debug("Command was empty - ignoring");
         } else if (IrccRemoteCommand.IRCC.equalsIgnoreCase(protocol)) {
             sendIrccCommand(cmdToSend);
@@ -754,7 +769,7 @@ class IrccProtocol<T extends ThingCallback<String>> implements AutoCloseable {
     private void sendIrccCommand(final String cmdToSend) {
         SonyUtil.validateNotEmpty(cmdToSend, "cmdToSend cannot be empty");
 
-        final HttpResponse resp = irccClient.executeSoap(transport, cmdToSend);
+        final HttpResponse resp = irccClient.executeSoap(transport, cmdToSend, IrccClient.KEEPALIVE);
         if (resp.getHttpCode() == HttpStatus.OK_200) {
             logger.trace("Sending of IRCC command {} was successful", cmdToSend);
         } else if (resp.getHttpCode() == HttpStatus.SERVICE_UNAVAILABLE_503) {
@@ -824,6 +839,7 @@ class IrccProtocol<T extends ThingCallback<String>> implements AutoCloseable {
 
     @Override
     public void close() {
+        keySequencer.close();
         transport.close();
     }
 }
@@ -13,6 +13,7 @@
 package org.openhab.binding.sony.internal.ircc.models;
 
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
@@ -23,6 +24,7 @@ import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.net.HttpResponse;
 import org.openhab.binding.sony.internal.transports.SonyHttpTransport;
+import org.openhab.binding.sony.internal.transports.TransportOption;
 import org.openhab.binding.sony.internal.transports.TransportOptionHeader;
 import org.openhab.binding.sony.internal.upnp.models.UpnpScpd;
 import org.openhab.binding.sony.internal.upnp.models.UpnpService;
@@ -75,6 +77,9 @@ public class IrccClient {
     /** The constant representing the IRCC service action to send an IRCC command */
     public static final String SRV_ACTION_SENDIRCC = "X_SendIRCC";
 
+    /** The option to keep the connection alive (for sending a sequence of commands) */
+    public static final TransportOption KEEPALIVE = new TransportOptionHeader("Connection", "keep-alive");
+
     /** The base URL for the IRCC device */
     private final URL baseUrl;
 
@@ -230,9 +235,11 @@ public class IrccClient {
      * 
      * @param transport a non-null transport to use
      * @param cmd a non-null, non-empty cmd to execute
+     * @param options any transport options to use
      * @return an HttpResponse indicating the results of the execution
      */
-    public HttpResponse executeSoap(final SonyHttpTransport transport, final String cmd) {
+    public HttpResponse executeSoap(final SonyHttpTransport transport, final String cmd,
+            final TransportOption... options) {
         Objects.requireNonNull(transport, "transport cannot be null");
         SonyUtil.validateNotEmpty(cmd, "cmd cannot be empty");
 
@@ -254,8 +261,10 @@ public class IrccClient {
             logger.debug("ControlURL for IRCC service wasn't found: {}", baseUrl);
             return new HttpResponse(HttpStatus.NOT_FOUND_404, "ControlURL for IRCC service wasn't found: " + baseUrl);
         } else {
-            return transport.executePostXml(controlUrl.toExternalForm(), soap, new TransportOptionHeader("SOAPACTION",
-                    "\"" + service.getServiceType() + "#" + IrccClient.SRV_ACTION_SENDIRCC + "\""));
+            final TransportOption[] soapOptions = Arrays.copyOf(options, options.length + 1);
+            soapOptions[options.length] = new TransportOptionHeader("SOAPACTION",
+                    "\"" + service.getServiceType() + "#" + IrccClient.SRV_ACTION_SENDIRCC + "\"");
+            return transport.executePostXml(controlUrl.toExternalForm(), soap, soapOptions);
         }
     }
 }
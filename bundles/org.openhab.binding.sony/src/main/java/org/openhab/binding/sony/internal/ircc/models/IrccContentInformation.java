@@ -12,14 +12,16 @@
  */
 package org.openhab.binding.sony.internal.ircc.models;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyUtil;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
-import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the deserialized results of an IRCC content information command. The following is an example of
@@ -43,8 +45,10 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
  * @author andan - Adaptions for OH3
  */
 @NonNullByDefault
-@XStreamAlias("contentInformation")
 public class IrccContentInformation {
+    /** The element name of the content information */
+    static final String ELEMENT = "contentInformation";
+
     /** The constant for a title (browswer title or video title) */
     public static final String TITLE = "title";
 
@@ -94,8 +98,16 @@ public class IrccContentInformation {
     public static final String ICONDATA = "iconData";
 
     /** The list of {@link IrccInfoItem} */
-    @XStreamImplicit
-    private @Nullable List<@Nullable IrccInfoItem> infoItems;
+    private final List<IrccInfoItem> infoItems;
+
+    /**
+     * Constructs the content information from the info items
+     *
+     * @param infoItems a non-null, possibly empty list of info items
+     */
+    private IrccContentInformation(final List<IrccInfoItem> infoItems) {
+        this.infoItems = infoItems;
+    }
 
     /**
      * Constructs the {@link IrccContentInformation} from the given XML
@@ -105,7 +117,26 @@ public class IrccContentInformation {
      */
     public static @Nullable IrccContentInformation get(final String xml) {
         SonyUtil.validateNotEmpty(xml, "xml cannot be null");
-        return IrccXmlReader.CONTENTINFO.fromXML(xml);
+        return XmlUtil.parse(xml, ELEMENT, IrccContentInformation::parse);
+    }
+
+    /**
+     * Parses the content information from the reader
+     *
+     * @param reader a non-null reader positioned on the content information element (and left on it's end element)
+     * @return a non-null content information
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    static IrccContentInformation parse(final XMLStreamReader reader) throws XMLStreamException {
+        final List<IrccInfoItem> infoItems = new ArrayList<>();
+        while (XmlUtil.nextChild(reader)) {
+            if (IrccInfoItem.ELEMENT.equalsIgnoreCase(reader.getLocalName())) {
+                infoItems.add(IrccInfoItem.parse(reader));
+            } else {
+                XmlUtil.skipElement(reader);
+            }
+        }
+        return new IrccContentInformation(infoItems);
     }
 
     /**
@@ -117,14 +148,9 @@ public class IrccContentInformation {
      */
     public @Nullable String getInfoItemValue(final String name) {
         SonyUtil.validateNotEmpty(name, "name cannot be empty");
-        final List<@Nullable IrccInfoItem> ii = infoItems;
-        if (ii == null) {
-            return null;
-        }
-
         final StringBuilder b = new StringBuilder();
-        for (final IrccInfoItem i : ii) {
-            if (i != null && name.equalsIgnoreCase(i.getName())) {
+        for (final IrccInfoItem i : infoItems) {
+            if (name.equalsIgnoreCase(i.getName())) {
                 b.append(i.getValue());
                 b.append(", ");
             }
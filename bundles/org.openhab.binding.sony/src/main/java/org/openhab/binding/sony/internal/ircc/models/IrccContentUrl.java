@@ -12,11 +12,13 @@
  */
 package org.openhab.binding.sony.internal.ircc.models;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyUtil;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the deserialized results of an IRCC content url command. The following is an example of
@@ -41,15 +43,26 @@ import com.thoughtworks.xstream.annotations.XStreamAlias;
  * @author andan - Adaptions for OH3
  */
 @NonNullByDefault
-@XStreamAlias("contenturl")
 public class IrccContentUrl {
+    /** The element name of the content url */
+    private static final String ELEMENT = "contenturl";
+
     /** The URL representing the content */
-    @XStreamAlias("url")
-    private @Nullable String url;
+    private final @Nullable String url;
 
     /** The content information for the URL */
-    @XStreamAlias("contentInformation")
-    private @Nullable IrccContentInformation contentInformation;
+    private final @Nullable IrccContentInformation contentInformation;
+
+    /**
+     * Constructs the content url from the url and content information
+     *
+     * @param url a possibly null, possibly empty url
+     * @param contentInformation a possibly null content information
+     */
+    private IrccContentUrl(final @Nullable String url, final @Nullable IrccContentInformation contentInformation) {
+        this.url = url;
+        this.contentInformation = contentInformation;
+    }
 
     /**
      * Creates the {@link IrccContentUrl} from the given XML
@@ -59,7 +72,32 @@ public class IrccContentUrl {
      */
     public static @Nullable IrccContentUrl get(final String xml) {
         SonyUtil.validateNotEmpty(xml, "xml cannot be empty");
-        return IrccXmlReader.CONTENTURL.fromXML(xml);
+        return XmlUtil.parse(xml, ELEMENT, IrccContentUrl::parse);
+    }
+
+    /**
+     * Parses the content url from the reader
+     *
+     * @param reader a non-null reader positioned on the content url element (and left on it's end element)
+     * @return a non-null content url
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    private static IrccContentUrl parse(final XMLStreamReader reader) throws XMLStreamException {
+        @Nullable
+        String url = null;
+        @Nullable
+        IrccContentInformation contentInformation = null;
+        while (XmlUtil.nextChild(reader)) {
+            final String name = reader.getLocalName();
+            if ("url".equalsIgnoreCase(name)) {
+                url = XmlUtil.getText(reader);
+            } else if (IrccContentInformation.ELEMENT.equalsIgnoreCase(name)) {
+                contentInformation = IrccContentInformation.parse(reader);
+            } else {
+                XmlUtil.skipElement(reader);
+            }
+        }
+        return new IrccContentUrl(url, contentInformation);
     }
 
     /**
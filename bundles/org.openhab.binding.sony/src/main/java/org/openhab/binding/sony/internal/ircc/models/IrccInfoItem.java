@@ -12,11 +12,12 @@
  */
 package org.openhab.binding.sony.internal.ircc.models;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
-import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the deserialized results of an IRCC info item. The following is an example of the results that
@@ -31,17 +32,40 @@ import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
  * @author Tim Roberts - Initial contribution
  */
 @NonNullByDefault
-@XStreamAlias("infoItem")
 class IrccInfoItem {
+    /** The element name of an info item */
+    static final String ELEMENT = "infoItem";
+
     /** The name of the info item */
-    @XStreamAsAttribute
-    @XStreamAlias("field")
-    private @Nullable String name;
+    private final @Nullable String name;
 
     /** The value related to the name */
-    @XStreamAsAttribute
-    @XStreamAlias("value")
-    private @Nullable String value;
+    private final @Nullable String value;
+
+    /**
+     * Constructs the info item from the name and value
+     *
+     * @param name a possibly null, possibly empty name
+     * @param value a possibly null, possibly empty value
+     */
+    private IrccInfoItem(final @Nullable String name, final @Nullable String value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * Parses the info item from the reader
+     *
+     * @param reader a non-null reader positioned on the info item element (and left on it's end element)
+     * @return a non-null info item
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    static IrccInfoItem parse(final XMLStreamReader reader) throws XMLStreamException {
+        final IrccInfoItem item = new IrccInfoItem(XmlUtil.getAttribute(reader, "field"),
+                XmlUtil.getAttribute(reader, "value"));
+        XmlUtil.skipElement(reader);
+        return item;
+    }
 
     /**
      * Gets the name
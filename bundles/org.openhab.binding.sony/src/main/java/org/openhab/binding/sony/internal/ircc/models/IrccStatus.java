@@ -12,15 +12,16 @@
  */
 package org.openhab.binding.sony.internal.ircc.models;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyUtil;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
-import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
-import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the status element in the XML for a IRCC device. The XML that will be deserialized will look
@@ -42,8 +43,9 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
  * @author andan - Adaptions for OH3
  */
 @NonNullByDefault
-@XStreamAlias("status")
 public class IrccStatus {
+    /** The element name of a status */
+    static final String ELEMENT = "status";
 
     /** The constant where the status is on a text input */
     public static final String TEXTINPUT = "textInput";
@@ -61,14 +63,41 @@ public class IrccStatus {
     public static final String VIEWING = "viewing";
 
     /** The name for the status (one of the constants above) */
-    @XStreamAsAttribute
-    @XStreamAlias("name")
-    private @Nullable String name;
+    private final @Nullable String name;
 
     /** The various items making up the status */
-    @Nullable
-    @XStreamImplicit
-    private List<@Nullable IrccStatusItem> items;
+    private final List<IrccStatusItem> items;
+
+    /**
+     * Constructs the status from the name and items
+     *
+     * @param name a possibly null, possibly empty name
+     * @param items a non-null, possibly empty list of items
+     */
+    private IrccStatus(final @Nullable String name, final List<IrccStatusItem> items) {
+        this.name = name;
+        this.items = items;
+    }
+
+    /**
+     * Parses the status from the reader
+     *
+     * @param reader a non-null reader positioned on the status element (and left on it's end element)
+     * @return a non-null status
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    static IrccStatus parse(final XMLStreamReader reader) throws XMLStreamException {
+        final @Nullable String name = XmlUtil.getAttribute(reader, "name");
+        final List<IrccStatusItem> items = new ArrayList<>();
+        while (XmlUtil.nextChild(reader)) {
+            if (IrccStatusItem.ELEMENT.equalsIgnoreCase(reader.getLocalName())) {
+                items.add(IrccStatusItem.parse(reader));
+            } else {
+                XmlUtil.skipElement(reader);
+            }
+        }
+        return new IrccStatus(name, items);
+    }
 
     /**
      * Gets the status name
@@ -88,12 +117,9 @@ public class IrccStatus {
     public @Nullable String getItemValue(final String name) {
         SonyUtil.validateNotEmpty(name, "name cannot be empty");
 
-        final List<@Nullable IrccStatusItem> localItems = items;
-        if (localItems != null) {
-            for (final IrccStatusItem item : localItems) {
-                if (item != null && name.equalsIgnoreCase(item.getField())) {
-                    return item.getValue();
-                }
+        for (final IrccStatusItem item : items) {
+            if (name.equalsIgnoreCase(item.getField())) {
+                return item.getValue();
             }
         }
         return null;
@@ -12,11 +12,12 @@
  */
 package org.openhab.binding.sony.internal.ircc.models;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
-import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the status element item in the XML for a IRCC device. The XML that will be deserialized will
@@ -31,8 +32,10 @@ import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
  * @author Tim Roberts - Initial contribution
  */
 @NonNullByDefault
-@XStreamAlias("statusItem")
 public class IrccStatusItem {
+    /** The element name of a status item */
+    static final String ELEMENT = "statusItem";
+
 
     /** The constant for the class field (only valid for a status of {@link IrccStatus#VIEWING}) */
     public static final String CLASS = "class";
@@ -55,14 +58,35 @@ public class IrccStatusItem {
     // fyi - DISC has "type", "mediatype", "mediaformat" - not used
 
     /** The field name identifing the status item */
-    @XStreamAsAttribute
-    @XStreamAlias("field")
-    private @Nullable String field;
+    private final @Nullable String field;
 
     /** The value of the field */
-    @XStreamAsAttribute
-    @XStreamAlias("value")
-    private @Nullable String value;
+    private final @Nullable String value;
+
+    /**
+     * Constructs the status item from the field and value
+     *
+     * @param field a possibly null, possibly empty field name
+     * @param value a possibly null, possibly empty value
+     */
+    private IrccStatusItem(final @Nullable String field, final @Nullable String value) {
+        this.field = field;
+        this.value = value;
+    }
+
+    /**
+     * Parses the status item from the reader
+     *
+     * @param reader a non-null reader positioned on the status item element (and left on it's end element)
+     * @return a non-null status item
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    static IrccStatusItem parse(final XMLStreamReader reader) throws XMLStreamException {
+        final IrccStatusItem item = new IrccStatusItem(XmlUtil.getAttribute(reader, "field"),
+                XmlUtil.getAttribute(reader, "value"));
+        XmlUtil.skipElement(reader);
+        return item;
+    }
 
     /**
      * Gets the field name
@@ -12,14 +12,16 @@
  */
 package org.openhab.binding.sony.internal.ircc.models;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyUtil;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
-import com.thoughtworks.xstream.annotations.XStreamImplicit;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * This class represents the status list element in the XML for a IRCC device. The XML that will be deserialized will
@@ -42,12 +44,21 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
  * @author andan - Adaptions for OH3
  */
 @NonNullByDefault
-@XStreamAlias("statusList")
 public class IrccStatusList {
+    /** The element name of the status list */
+    private static final String ELEMENT = "statusList";
 
     /** The list of statuses */
-    @XStreamImplicit
-    private @Nullable List<@Nullable IrccStatus> statuses;
+    private final List<IrccStatus> statuses;
+
+    /**
+     * Constructs the status list from the statuses
+     *
+     * @param statuses a non-null, possibly empty list of statuses
+     */
+    private IrccStatusList(final List<IrccStatus> statuses) {
+        this.statuses = statuses;
+    }
 
     /**
      * Parses's the {@link IrccStatusList} from the XML
@@ -57,7 +68,26 @@ public class IrccStatusList {
      */
     public static @Nullable IrccStatusList get(final String xml) {
         SonyUtil.validateNotEmpty(xml, "xml cannot be empty");
-        return IrccXmlReader.STATUS.fromXML(xml);
+        return XmlUtil.parse(xml, ELEMENT, IrccStatusList::parse);
+    }
+
+    /**
+     * Parses the status list from the reader
+     *
+     * @param reader a non-null reader positioned on the status list element (and left on it's end element)
+     * @return a non-null status list
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    private static IrccStatusList parse(final XMLStreamReader reader) throws XMLStreamException {
+        final List<IrccStatus> statuses = new ArrayList<>();
+        while (XmlUtil.nextChild(reader)) {
+            if (IrccStatus.ELEMENT.equalsIgnoreCase(reader.getLocalName())) {
+                statuses.add(IrccStatus.parse(reader));
+            } else {
+                XmlUtil.skipElement(reader);
+            }
+        }
+        return new IrccStatusList(statuses);
     }
 
     /**
@@ -66,12 +96,9 @@ public class IrccStatusList {
      * @return true if a text input, false otherwise
      */
     public boolean isTextInput() {
-        final List<@Nullable IrccStatus> localStatuses = statuses;
-        if (localStatuses != null) {
-            for (final IrccStatus status : localStatuses) {
-                if (status != null && IrccStatus.TEXTINPUT.equalsIgnoreCase(status.getName())) {
-                    return true;
-                }
+        for (final IrccStatus status : statuses) {
+            if (IrccStatus.TEXTINPUT.equalsIgnoreCase(status.getName())) {
+                return true;
             }
         }
         return false;
@@ -83,12 +110,9 @@ public class IrccStatusList {
      * @return true if a web browser, false otherwise
      */
     public boolean isWebBrowse() {
-        final List<@Nullable IrccStatus> localStatuses = statuses;
-        if (localStatuses != null) {
-            for (final IrccStatus status : localStatuses) {
-                if (status != null && IrccStatus.WEBBROWSER.equalsIgnoreCase(status.getName())) {
-                    return true;
-                }
+        for (final IrccStatus status : statuses) {
+            if (IrccStatus.WEBBROWSER.equalsIgnoreCase(status.getName())) {
+                return true;
             }
         }
         return false;
@@ -100,12 +124,9 @@ public class IrccStatusList {
      * @return true if a disk, false otherwise
      */
     public boolean isDisk() {
-        final List<@Nullable IrccStatus> localStatuses = statuses;
-        if (localStatuses != null) {
-            for (final IrccStatus status : localStatuses) {
-                if (status != null && IrccStatus.DISC.equalsIgnoreCase(status.getName())) {
-                    return true;
-                }
+        for (final IrccStatus status : statuses) {
+            if (IrccStatus.DISC.equalsIgnoreCase(status.getName())) {
+                return true;
             }
         }
         return false;
@@ -117,12 +138,9 @@ public class IrccStatusList {
      * @return the possibly null (if not {@link IrccStatus#VIEWING}) {@link IrccStatus}
      */
     public @Nullable IrccStatus getViewing() {
-        final List<@Nullable IrccStatus> localStatuses = statuses;
-        if (localStatuses != null) {
-            for (final IrccStatus status : localStatuses) {
-                if (status != null && IrccStatus.VIEWING.equalsIgnoreCase(status.getName())) {
-                    return status;
-                }
+        for (final IrccStatus status : statuses) {
+            if (IrccStatus.VIEWING.equalsIgnoreCase(status.getName())) {
+                return status;
             }
         }
         return null;
@@ -15,8 +15,7 @@ package org.openhab.binding.sony.internal.ircc.models;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyUtil;
-
-import com.thoughtworks.xstream.annotations.XStreamAlias;
+import org.openhab.binding.sony.internal.net.XmlUtil;
 
 /**
  * Class that represents the text in a text field. The XML that will be deserialized will
@@ -33,15 +32,21 @@ import com.thoughtworks.xstream.annotations.XStreamAlias;
  * @author andan - Adaptions for OH3
  */
 @NonNullByDefault
-@XStreamAlias(IrccText.TEXTROOT)
 public class IrccText {
-
-    /** The dummy root name that will be wrapped around the text element to allow parsing */
-    protected static final String TEXTROOT = "textroot";
+    /** The element name of the text */
+    private static final String ELEMENT = "text";
 
     /** The text. */
-    @XStreamAlias("text")
-    private @Nullable String text;
+    private final @Nullable String text;
+
+    /**
+     * Constructs the IRCC text from the text
+     *
+     * @param text a possibly null, possibly empty text
+     */
+    private IrccText(final @Nullable String text) {
+        this.text = text;
+    }
 
     /**
      * Gets the text.
@@ -61,13 +66,6 @@ public class IrccText {
     public @Nullable static IrccText get(final String xml) {
         SonyUtil.validateNotEmpty(xml, "xml cannot be empty");
 
-        final StringBuilder sb = new StringBuilder(xml);
-        final int idx = sb.indexOf("<text");
-        if (idx >= 0) {
-            sb.insert(idx, "<" + TEXTROOT + ">");
-            sb.append("</" + TEXTROOT + ">");
-        }
-
-        return IrccXmlReader.TEXT.fromXML(sb.toString());
+        return XmlUtil.parse(xml, ELEMENT, reader -> new IrccText(XmlUtil.getText(reader)));
     }
 }
@@ -24,7 +24,9 @@ import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.io.xml.StaxDriver;
 
 /**
- * This class represents creates the various XML readers (using XStream) to deserialize various calls.
+ * This class represents creates the various XML readers (using XStream) to deserialize various calls. These readers
+ * are only used for the (one time) device descriptions - the documents that are polled (status, content information,
+ * text and content url) are parsed with purpose built pull parsers (see {@link IrccStatusList#get(String)}).
  *
  * @author Tim Roberts - Initial contribution
  * @author andan - Adaptions for OH3
@@ -53,15 +55,6 @@ public class IrccXmlReader<T> {
             new Class[] { IrccRemoteCommands.class, IrccRemoteCommand.class, },
             new IrccRemoteCommand.IrccRemoteCommandConverter(), new IrccRemoteCommands.IrccRemoteCommandsConverter());
 
-    static final IrccXmlReader<IrccContentInformation> CONTENTINFO = new IrccXmlReader<>(
-            new Class[] { IrccContentInformation.class, IrccInfoItem.class, });
-
-    static final IrccXmlReader<IrccStatusList> STATUS = new IrccXmlReader<>(
-            new Class[] { IrccStatusList.class, IrccStatus.class, IrccStatusItem.class });
-
-    static final IrccXmlReader<IrccText> TEXT = new IrccXmlReader<>(new Class[] { IrccText.class });
-    static final IrccXmlReader<IrccContentUrl> CONTENTURL = new IrccXmlReader<>(new Class[] { IrccContentUrl.class });
-
     /**
      * Constructs the reader using the specified classes to process annotations with
      *
@@ -20,8 +20,7 @@ import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -54,10 +53,17 @@ public class HttpResponse {
     /** The character set for the encoding */
     private static final Charset CHARSET = Charset.forName(ENCODING);
 
-    /** The error pattern identifying a SOAP error (and provides groups to get the code/desc) */
-    private static final Pattern SOAPERRORPATTERN = Pattern.compile(
-            ".*<errorCode>(.*)</errorCode>.*<errorDescription>(.*)</errorDescription>.*",
-            Pattern.DOTALL | Pattern.MULTILINE);
+    /** The SOAP error code element */
+    private static final String SOAPERRORCODE = "errorCode";
+
+    /** The SOAP error description element */
+    private static final String SOAPERRORDESC = "errorDescription";
+
+    /** The shared (configured once) document builder factory */
+    private static final DocumentBuilderFactory DOCUMENTFACTORY = createDocumentFactory();
+
+    /** The document builder for each thread (document builders are not thread safe but can be reused) */
+    private static final ThreadLocal<@Nullable DocumentBuilder> DOCUMENTBUILDER = new ThreadLocal<>();
 
     /** The http status code */
     private final int httpStatus;
@@ -65,8 +71,8 @@ public class HttpResponse {
     /** The http reason */
     private final @Nullable String httpReason;
 
-    /** The headers from the response */
-    private final Map<String, String> headers = new HashMap<>();
+    /** The headers from the response (header names are case insensitive) */
+    private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
     /** The contents of the response */
     private final byte @Nullable [] contents;
@@ -177,11 +183,7 @@ public class HttpResponse {
             throw createException();
         }
 
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        factory.setIgnoringElementContentWhitespace(true);
-        factory.setIgnoringComments(true);
-        final DocumentBuilder builder = factory.newDocumentBuilder();
+        final DocumentBuilder builder = getDocumentBuilder();
 
         final String content = getContent();
         if (content.isEmpty()) {
@@ -192,36 +194,79 @@ public class HttpResponse {
         return builder.parse(inputSource);
     }
 
+    /**
+     * Helper method to create (and configure) the document builder factory
+     *
+     * @return a non-null document builder factory
+     */
+    private static DocumentBuilderFactory createDocumentFactory() {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setIgnoringElementContentWhitespace(true);
+        factory.setIgnoringComments(true);
+        return factory;
+    }
+
+    /**
+     * Helper method to get the document builder for the current thread (reset for reuse)
+     *
+     * @return a non-null document builder
+     * @throws ParserConfigurationException the parser configuration exception
+     */
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        final @Nullable DocumentBuilder builder = DOCUMENTBUILDER.get();
+        if (builder != null) {
+            builder.reset();
+            return builder;
+        }
+
+        final DocumentBuilder newBuilder;
+        synchronized (DOCUMENTFACTORY) {
+            newBuilder = DOCUMENTFACTORY.newDocumentBuilder();
+        }
+        DOCUMENTBUILDER.set(newBuilder);
+        return newBuilder;
+    }
+
     /**
      * A poor mans attempt to parse out the error code/error description from a SOAP response (don't need the full SOAP
-     * stack)
+     * stack). The error elements are located directly (no regex over the whole body).
      *
      * @return a SOAPError if found, null otherwise
      */
     public @Nullable SOAPError getSOAPError() {
-        if (httpReason != null && httpReason.isEmpty()) {
-            return null;
+        final @Nullable String reason = httpReason;
+        if (reason != null && !reason.isEmpty()) {
+            final @Nullable SOAPError error = findSOAPError(reason);
+            if (error != null) {
+                return error;
+            }
         }
+        return findSOAPError(getContent());
+    }
 
-        final Matcher m = SOAPERRORPATTERN.matcher(httpReason);
-        if (m.find() && m.groupCount() >= 2) {
-            final String code = m.group(1);
-            final String desc = m.group(2);
-
-            if (!code.isEmpty() && !desc.isEmpty()) {
-                return new SOAPError(code, desc);
-            }
+    /**
+     * Helper method to find the SOAP error code and description (the description following the code) in the text
+     *
+     * @param text a non-null, possibly empty text
+     * @return a SOAPError if found, null otherwise
+     */
+    private @Nullable SOAPError findSOAPError(final String text) {
+        final int codeEnd = text.lastIndexOf("</" + SOAPERRORCODE + ">");
+        if (codeEnd < 0) {
+            return null;
         }
-        final Matcher m2 = SOAPERRORPATTERN.matcher(getContent());
-        if (m2.find() && m2.groupCount() >= 2) {
-            final String code = m2.group(1);
-            final String desc = m2.group(2);
 
-            if (!code.isEmpty() && !desc.isEmpty()) {
-                return new SOAPError(code, desc);
-            }
+        final int codeStart = text.lastIndexOf("<" + SOAPERRORCODE + ">", codeEnd);
+        final int descEnd = text.lastIndexOf("</" + SOAPERRORDESC + ">");
+        final int descStart = descEnd < 0 ? -1 : text.lastIndexOf("<" + SOAPERRORDESC + ">", descEnd);
+        if (codeStart < 0 || descStart <= codeEnd) {
+            return null;
         }
-        return null;
+
+        final String code = text.substring(codeStart + SOAPERRORCODE.length() + 2, codeEnd);
+        final String desc = text.substring(descStart + SOAPERRORDESC.length() + 2, descEnd);
+        return code.isEmpty() || desc.isEmpty() ? null : new SOAPError(code, desc);
     }
 
     /**
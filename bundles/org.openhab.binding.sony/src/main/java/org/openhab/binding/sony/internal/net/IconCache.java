@@ -0,0 +1,679 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.net;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.binding.sony.internal.scalarweb.gson.GsonUtilities;
+import org.openhab.binding.sony.internal.transports.SonyHttpTransport;
+import org.openhab.binding.sony.internal.transports.TransportOption;
+import org.openhab.binding.sony.internal.transports.TransportOptionHeader;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.library.types.RawType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * This class is the binding wide cache of icons (images) by URL. Icons are held in memory (least recently used icons
+ * are evicted once the cached icons exceed {@link #MAX_BYTES}) and, if enabled (see {@link #configure(Map)}), on disk
+ * (under the user data folder) so they survive a restart. The disk tier is bounded as well: the least recently
+ * validated icons are deleted once the persisted icons exceed the configured size. Identical icons (by content hash)
+ * are shared - the same {@link RawType} is returned for all URLs serving the same image so callers can cheaply detect
+ * an unchanged image. A cached icon is reused for {@link #FRESH_MS} and then revalidated with a conditional request
+ * (using the ETag and Last-Modified validators of the prior response).
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+public class IconCache {
+    /** The logger */
+    private static final Logger logger = LoggerFactory.getLogger(IconCache.class);
+
+    /** The maximum number of bytes of icons held in memory */
+    private static final long MAX_BYTES = 8 * 1024 * 1024;
+
+    /** How long (in milliseconds) a cached icon is used before it's revalidated */
+    private static final long FRESH_MS = TimeUnit.MINUTES.toMillis(10);
+
+    /** The folder the icons are persisted to */
+    private static final Path FOLDER = Path.of(OpenHAB.getUserDataFolder(), "sony", "icons");
+
+    /** The extension of the file holding the details of an icon url */
+    private static final String METAEXT = ".json";
+
+    /** The extension of the file holding the content of an icon */
+    private static final String DATAEXT = ".bin";
+
+    /** The extension of a file being written */
+    private static final String TEMPEXT = ".tmp";
+
+    /** The OSGI property enabling the disk tier */
+    private static final String PROP_DISKCACHE = "icon-diskcache";
+
+    /** The OSGI property of the maximum size (in megabytes) of the disk tier */
+    private static final String PROP_DISKCACHESIZE = "icon-diskcachesize";
+
+    /** The default maximum size (in megabytes) of the disk tier */
+    private static final int DEFAULT_DISKCACHESIZE = 16;
+
+    /** The gson used to persist the details of an icon url */
+    private static final Gson gson = GsonUtilities.getDefaultGson();
+
+    /** The executor the icons are persisted on */
+    private static final ExecutorService executor = ThreadPoolManager.getPool("sony");
+
+    /** The lock guarding the maps and byte count */
+    private static final Object lock = new Object();
+
+    /** The cached icons by url (in access order) */
+    private static final LinkedHashMap<String, UrlEntry> byUrl = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The icon contents by content hash */
+    private static final Map<String, Payload> byHash = new HashMap<>();
+
+    /** The number of bytes of icon contents held in memory */
+    private static long cachedBytes;
+
+    /** The lock serializing the writing and pruning of the disk tier */
+    private static final Object diskLock = new Object();
+
+    /** Whether icons are persisted to disk */
+    private static volatile boolean diskEnabled;
+
+    /** The maximum number of bytes of icons persisted to disk */
+    private static volatile long maxDiskBytes = DEFAULT_DISKCACHESIZE * 1024L * 1024L;
+
+    /**
+     * Private constructor - all methods are static
+     */
+    private IconCache() {
+    }
+
+    /**
+     * Configures the disk tier from the OSGI properties: "icon-diskcache" enables it (disabled by default) and
+     * "icon-diskcachesize" is its maximum size in megabytes. If enabled, the disk tier is pruned to the (possibly
+     * lowered) maximum size in the background.
+     *
+     * @param osgiProperties a non-null, possibly empty map of OSGI properties
+     */
+    public static void configure(final Map<String, String> osgiProperties) {
+        Objects.requireNonNull(osgiProperties, "osgiProperties cannot be null");
+
+        int size = DEFAULT_DISKCACHESIZE;
+        try {
+            size = Integer.parseInt(SonyUtil.defaultIfEmpty(osgiProperties.get(PROP_DISKCACHESIZE), ""));
+        } catch (final NumberFormatException e) {
+            // use the default size
+        }
+        maxDiskBytes = Math.max(0, size) * 1024L * 1024L;
+        diskEnabled = Boolean.TRUE.equals(SonyUtil.toBooleanObject(osgiProperties.get(PROP_DISKCACHE)));
+
+        if (diskEnabled) {
+            executor.execute(IconCache::prune);
+        }
+    }
+
+    /**
+     * Gets the icon for the url (from the cache if fresh or unchanged)
+     *
+     * @param transport a non-null transport to fetch the icon with
+     * @param url a non-null, non-empty icon url
+     * @return the icon or null if the icon could not be retrieved
+     */
+    public static @Nullable RawType get(final SonyHttpTransport transport, final String url) {
+        Objects.requireNonNull(transport, "transport cannot be null");
+        SonyUtil.validateNotEmpty(url, "url cannot be empty");
+
+        @Nullable
+        UrlEntry entry = lookup(url);
+        if (entry == null) {
+            entry = load(url);
+        }
+
+        final long now = System.currentTimeMillis();
+        if (entry != null && now - entry.validated < FRESH_MS) {
+            return entry.rawType;
+        }
+
+        final List<TransportOption> options = new ArrayList<>();
+        if (entry != null && entry.etag != null) {
+            options.add(new TransportOptionHeader("If-None-Match", entry.etag));
+        }
+        if (entry != null && entry.lastModified != null) {
+            options.add(new TransportOptionHeader("If-Modified-Since", entry.lastModified));
+        }
+
+        final HttpResponse resp = transport.executeGet(url, options.toArray(new TransportOption[0]));
+        if (resp.getHttpCode() == HttpStatus.NOT_MODIFIED_304 && entry != null) {
+            logger.trace("Icon {} is unchanged", url);
+            touch(url);
+            return put(url, new UrlEntry(entry, now));
+        }
+
+        if (resp.getHttpCode() != HttpStatus.OK_200) {
+            logger.debug("Could not retrieve icon {}: {}", url, resp.getHttpCode());
+            return null;
+        }
+
+        final byte @Nullable [] content = resp.getContentAsBytes();
+        if (content == null) {
+            return null;
+        }
+
+        final String mimeType = getMimeType(resp);
+        final String hash = createHash(mimeType.getBytes(StandardCharsets.UTF_8), content);
+
+        final RawType rawType;
+        synchronized (lock) {
+            final @Nullable Payload payload = byHash.get(hash);
+            rawType = payload == null ? new RawType(content, mimeType) : payload.rawType;
+        }
+
+        final UrlEntry newEntry = new UrlEntry(hash, rawType, resp.getResponseHeader("ETag"),
+                resp.getResponseHeader("Last-Modified"), now);
+        persist(url, newEntry, entry == null ? null : entry.hash);
+        return put(url, newEntry);
+    }
+
+    /**
+     * Helper method to lookup the cached icon for the url in memory
+     *
+     * @param url a non-null, non-empty url
+     * @return the cached icon or null if not cached in memory
+     */
+    private static @Nullable UrlEntry lookup(final String url) {
+        synchronized (lock) {
+            return byUrl.get(url);
+        }
+    }
+
+    /**
+     * Helper method to put the icon for the url in memory (evicting the least recently used icons if needed)
+     *
+     * @param url a non-null, non-empty url
+     * @param entry a non-null entry
+     * @return the non-null icon
+     */
+    private static RawType put(final String url, final UrlEntry entry) {
+        synchronized (lock) {
+            final @Nullable UrlEntry prior = byUrl.put(url, entry);
+            @Nullable
+            Payload payload = byHash.get(entry.hash);
+            if (payload == null) {
+                payload = new Payload(entry.rawType);
+                byHash.put(entry.hash, payload);
+                cachedBytes += entry.rawType.getBytes().length;
+            }
+            payload.refs++;
+            if (prior != null) {
+                release(prior);
+            }
+
+            final Iterator<Map.Entry<String, UrlEntry>> iter = byUrl.entrySet().iterator();
+            while (cachedBytes > MAX_BYTES && iter.hasNext()) {
+                final Map.Entry<String, UrlEntry> eldest = iter.next();
+                if (!eldest.getKey().equals(url)) {
+                    iter.remove();
+                    release(eldest.getValue());
+                }
+            }
+
+            // return the shared icon (if the contents were already cached)
+            return payload.rawType;
+        }
+    }
+
+    /**
+     * Helper method to release the content held by an entry (must be called while holding the lock)
+     *
+     * @param entry a non-null entry
+     */
+    private static void release(final UrlEntry entry) {
+        final @Nullable Payload payload = byHash.get(entry.hash);
+        if (payload != null && --payload.refs <= 0) {
+            byHash.remove(entry.hash);
+            cachedBytes -= payload.rawType.getBytes().length;
+        }
+    }
+
+    /**
+     * Helper method to load the icon for the url from disk (which will be revalidated before use)
+     *
+     * @param url a non-null, non-empty url
+     * @return the cached icon or null if not cached on disk
+     */
+    private static @Nullable UrlEntry load(final String url) {
+        if (!diskEnabled) {
+            return null;
+        }
+
+        final Path metaPath = getMetaPath(url);
+        try {
+            final @Nullable IconMeta meta = gson.fromJson(Files.readString(metaPath, StandardCharsets.UTF_8),
+                    IconMeta.class);
+            final @Nullable String hash = meta == null ? null : meta.hash;
+            final @Nullable String mimeType = meta == null ? null : meta.mimeType;
+            if (meta == null || !url.equals(meta.url) || hash == null || mimeType == null) {
+                return null;
+            }
+
+            final byte[] content = Files.readAllBytes(FOLDER.resolve(hash + DATAEXT));
+            final UrlEntry entry = new UrlEntry(hash, new RawType(content, mimeType), meta.etag, meta.lastModified,
+                    0);
+            put(url, entry);
+            logger.trace("Loaded icon {} from disk", url);
+            return lookup(url);
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException | JsonParseException e) {
+            logger.debug("Ignoring cached icon for {} - could not be read: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Helper method to persist the icon for the url to disk (in the background). The disk tier is pruned if a new
+     * content was written or the content of the url changed (possibly leaving the prior content unreferenced).
+     *
+     * @param url a non-null, non-empty url
+     * @param entry a non-null entry
+     * @param priorHash the possibly null content hash previously cached for the url
+     */
+    private static void persist(final String url, final UrlEntry entry, final @Nullable String priorHash) {
+        if (!diskEnabled) {
+            return;
+        }
+
+        final Path dataPath = FOLDER.resolve(entry.hash + DATAEXT);
+        final Path metaPath = getMetaPath(url);
+
+        executor.execute(() -> {
+            synchronized (diskLock) {
+                final boolean newData = !Files.exists(dataPath);
+                try {
+                    // the content is addressed by its hash so it never changes once written
+                    if (newData) {
+                        write(dataPath, entry.rawType.getBytes());
+                    }
+                    write(metaPath, gson.toJson(new IconMeta(url, entry)).getBytes(StandardCharsets.UTF_8));
+                } catch (final IOException e) {
+                    logger.debug("Exception writing icon {} to disk: {}", url, e.getMessage());
+                    return;
+                }
+
+                if (newData || (priorHash != null && !priorHash.equals(entry.hash))) {
+                    prune();
+                }
+            }
+        });
+    }
+
+    /**
+     * Helper method to mark the persisted icon for the url as recently used (in the background) by updating the
+     * modification time of its details
+     *
+     * @param url a non-null, non-empty url
+     */
+    private static void touch(final String url) {
+        if (!diskEnabled) {
+            return;
+        }
+
+        final Path metaPath = getMetaPath(url);
+        executor.execute(() -> {
+            try {
+                Files.setLastModifiedTime(metaPath, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (final NoSuchFileException e) {
+                // not persisted (or pruned)
+            } catch (final IOException e) {
+                logger.debug("Exception touching cached icon {}: {}", metaPath, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Helper method to prune the disk tier. The details of the least recently validated icons are deleted once the
+     * persisted icons exceed the maximum size, then any content no longer referenced by the details of an icon (and any
+     * file left over from an interrupted write) is deleted.
+     */
+    private static void prune() {
+        synchronized (diskLock) {
+            final List<Path> paths;
+            try (Stream<Path> files = Files.list(FOLDER)) {
+                paths = files.collect(Collectors.toList());
+            } catch (final NoSuchFileException e) {
+                return;
+            } catch (final IOException e) {
+                logger.debug("Exception listing cached icons in {}: {}", FOLDER, e.getMessage());
+                return;
+            }
+
+            final List<DiskEntry> entries = new ArrayList<>();
+            for (final Path path : paths) {
+                if (path.getFileName().toString().endsWith(METAEXT)) {
+                    final @Nullable DiskEntry entry = DiskEntry.read(path);
+                    if (entry == null) {
+                        delete(path);
+                    } else {
+                        entries.add(entry);
+                    }
+                }
+            }
+
+            // keep the most recently validated icons (sharing content) that fit in the maximum size
+            entries.sort(Comparator.comparingLong((DiskEntry e) -> e.lastModified).reversed());
+            final Set<String> referenced = new HashSet<>();
+            long bytes = 0;
+            int pruned = 0;
+            for (final DiskEntry entry : entries) {
+                final long size = entry.size + (referenced.contains(entry.hash) ? 0 : entry.dataSize);
+                if (entry.dataSize < 0 || bytes + size > maxDiskBytes) {
+                    delete(entry.metaPath);
+                    pruned++;
+                } else {
+                    bytes += size;
+                    referenced.add(entry.hash);
+                }
+            }
+
+            for (final Path path : paths) {
+                final String fileName = path.getFileName().toString();
+                if (fileName.endsWith(TEMPEXT) || (fileName.endsWith(DATAEXT)
+                        && !referenced.contains(fileName.substring(0, fileName.length() - DATAEXT.length())))) {
+                    delete(path);
+                }
+            }
+            logger.debug("Pruned {} cached icons from {} ({} bytes kept)", pruned, FOLDER, bytes);
+        }
+    }
+
+    /**
+     * Helper method to write the file (through a temporary file so a partial file is never read)
+     *
+     * @param path a non-null path
+     * @param contents the non-null contents to write
+     * @throws IOException if an IO exception occurs writing the file
+     */
+    private static void write(final Path path, final byte[] contents) throws IOException {
+        Files.createDirectories(FOLDER);
+        final Path tempPath = path.resolveSibling(path.getFileName() + TEMPEXT);
+        Files.write(tempPath, contents);
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Helper method to delete the file (ignoring any failure)
+     *
+     * @param path a non-null path
+     */
+    private static void delete(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            logger.debug("Exception deleting cached icon file {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Helper method to get the path of the details of the icon url
+     *
+     * @param url a non-null, non-empty url
+     * @return a non-null path
+     */
+    private static Path getMetaPath(final String url) {
+        return FOLDER.resolve(createHash(url.getBytes(StandardCharsets.UTF_8)) + METAEXT);
+    }
+
+    /**
+     * Helper method to get the mime type of an icon response
+     *
+     * @param resp a non-null response
+     * @return a non-null, non-empty mime type
+     */
+    private static String getMimeType(final HttpResponse resp) {
+        String mimeType = resp.getResponseHeader(HttpHeader.CONTENT_TYPE.asString());
+        if (SonyUtil.isEmpty(mimeType)) {
+            // probably a 'content' header of value 'Content-Type: image/png' instead
+            mimeType = resp.getResponseHeader("content");
+            if (mimeType != null) {
+                final int idx = mimeType.indexOf(":");
+                if (idx >= 0) {
+                    mimeType = mimeType.substring(idx + 1).trim();
+                }
+            }
+        }
+        return mimeType == null || mimeType.isEmpty() ? RawType.DEFAULT_MIME_TYPE : mimeType;
+    }
+
+    /**
+     * Helper method to create a (file name safe) hash of the given contents
+     *
+     * @param contents the non-null contents to hash
+     * @return a non-null, non-empty hash
+     */
+    private static String createHash(final byte[]... contents) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every java platform
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        for (final byte[] content : contents) {
+            digest.update(content);
+            digest.update((byte) 0);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    }
+
+    /**
+     * A cached icon url
+     */
+    @NonNullByDefault
+    private static class UrlEntry {
+        /** The content hash of the icon */
+        private final String hash;
+
+        /** The icon */
+        private final RawType rawType;
+
+        /** The ETag of the response (or null if none) */
+        private final @Nullable String etag;
+
+        /** The Last-Modified of the response (or null if none) */
+        private final @Nullable String lastModified;
+
+        /** The time (in milliseconds) the icon was last validated */
+        private final long validated;
+
+        /**
+         * Constructs the entry
+         *
+         * @param hash a non-null, non-empty content hash
+         * @param rawType a non-null icon
+         * @param etag a possibly null ETag
+         * @param lastModified a possibly null Last-Modified
+         * @param validated the time (in milliseconds) the icon was validated
+         */
+        private UrlEntry(final String hash, final RawType rawType, final @Nullable String etag,
+                final @Nullable String lastModified, final long validated) {
+            this.hash = hash;
+            this.rawType = rawType;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.validated = validated;
+        }
+
+        /**
+         * Constructs a revalidated copy of the entry
+         *
+         * @param entry a non-null entry
+         * @param validated the time (in milliseconds) the icon was revalidated
+         */
+        private UrlEntry(final UrlEntry entry, final long validated) {
+            this(entry.hash, entry.rawType, entry.etag, entry.lastModified, validated);
+        }
+    }
+
+    /**
+     * The (shared) content of an icon along with the number of urls referencing it
+     */
+    @NonNullByDefault
+    private static class Payload {
+        /** The icon */
+        private final RawType rawType;
+
+        /** The number of urls referencing the icon */
+        private int refs;
+
+        /**
+         * Constructs the payload
+         *
+         * @param rawType a non-null icon
+         */
+        private Payload(final RawType rawType) {
+            this.rawType = rawType;
+        }
+    }
+
+    /**
+     * The persisted details of an icon url
+     */
+    @NonNullByDefault
+    private static class IconMeta {
+        /** The icon url */
+        private @Nullable String url;
+
+        /** The content hash of the icon */
+        private @Nullable String hash;
+
+        /** The mime type of the icon */
+        private @Nullable String mimeType;
+
+        /** The ETag of the response (or null if none) */
+        private @Nullable String etag;
+
+        /** The Last-Modified of the response (or null if none) */
+        private @Nullable String lastModified;
+
+        /**
+         * Constructs the details from the url and entry
+         *
+         * @param url a non-null, non-empty url
+         * @param entry a non-null entry
+         */
+        private IconMeta(final String url, final UrlEntry entry) {
+            this.url = url;
+            this.hash = entry.hash;
+            this.mimeType = entry.rawType.getMimeType();
+            this.etag = entry.etag;
+            this.lastModified = entry.lastModified;
+        }
+    }
+
+    /**
+     * The persisted details of an icon url as seen when pruning the disk tier
+     */
+    @NonNullByDefault
+    private static class DiskEntry {
+        /** The path of the details */
+        private final Path metaPath;
+
+        /** The content hash of the icon */
+        private final String hash;
+
+        /** The time (in milliseconds) the details were last written or touched */
+        private final long lastModified;
+
+        /** The size (in bytes) of the details */
+        private final long size;
+
+        /** The size (in bytes) of the content (or -1 if the content is missing) */
+        private final long dataSize;
+
+        /**
+         * Constructs the entry
+         *
+         * @param metaPath a non-null path of the details
+         * @param hash a non-null, non-empty content hash
+         * @param lastModified the time (in milliseconds) the details were last modified
+         * @param size the size (in bytes) of the details
+         * @param dataSize the size (in bytes) of the content (or -1 if missing)
+         */
+        private DiskEntry(final Path metaPath, final String hash, final long lastModified, final long size,
+                final long dataSize) {
+            this.metaPath = metaPath;
+            this.hash = hash;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.dataSize = dataSize;
+        }
+
+        /**
+         * Reads the entry from the details
+         *
+         * @param metaPath a non-null path of the details
+         * @return the entry or null if the details could not be read (or are invalid)
+         */
+        private static @Nullable DiskEntry read(final Path metaPath) {
+            try {
+                final @Nullable IconMeta meta = gson.fromJson(Files.readString(metaPath, StandardCharsets.UTF_8),
+                        IconMeta.class);
+                final @Nullable String hash = meta == null ? null : meta.hash;
+                if (hash == null || hash.isEmpty()) {
+                    return null;
+                }
+
+                final Path dataPath = FOLDER.resolve(hash + DATAEXT);
+                final long dataSize = Files.exists(dataPath) ? Files.size(dataPath) : -1;
+                return new DiskEntry(metaPath, hash, Files.getLastModifiedTime(metaPath).toMillis(),
+                        Files.size(metaPath), dataSize);
+            } catch (final IOException | JsonParseException e) {
+                logger.debug("Ignoring cached icon {} - could not be read: {}", metaPath, e.getMessage());
+                return null;
+            }
+        }
+    }
+}
@@ -30,8 +30,6 @@ import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.jetty.http.HttpHeader;
-import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.transports.SonyHttpTransport;
 import org.openhab.core.library.types.RawType;
@@ -246,7 +244,7 @@ public class NetUtil {
     }
 
     /**
-     * Gets an raw type from the given transport and url
+     * Gets an raw type from the given transport and url (using the binding wide {@link IconCache})
      * 
      * @param transport a non-null http transport to use
      * @param url a possibly null, possibly empty URL to use
@@ -254,28 +252,7 @@ public class NetUtil {
      */
     public static @Nullable RawType getRawType(final SonyHttpTransport transport, final @Nullable String url) {
         Objects.requireNonNull(transport, "transport is not null");
-
-        byte[] iconData = null;
-        String mimeType = RawType.DEFAULT_MIME_TYPE;
-
-        if (url != null && !url.isEmpty()) {
-            final HttpResponse resp = transport.executeGet(url);
-            if (resp.getHttpCode() == HttpStatus.OK_200) {
-                iconData = resp.getContentAsBytes();
-                mimeType = resp.getResponseHeader(HttpHeader.CONTENT_TYPE.asString());
-                if (SonyUtil.isEmpty(mimeType)) {
-                    // probably a 'content' header of value 'Content-Type: image/png' instead
-                    mimeType = resp.getResponseHeader("content");
-                    if (mimeType != null) {
-                        final int idx = mimeType.indexOf(":");
-                        if (idx >= 0) {
-                            mimeType = mimeType.substring(idx + 1).trim();
-                        }
-                    }
-                }
-            }
-        }
-        return iconData == null ? null : new RawType(iconData, mimeType == null ? RawType.DEFAULT_MIME_TYPE : mimeType);
+        return url == null || url.isEmpty() ? null : IconCache.get(transport, url);
     }
 
     /**
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.net;
+
+import java.io.StringReader;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This utility class provides the ability to parse small, fixed schema XML documents with a StAX pull parser. The
+ * input factory is created and configured once (and is thread safe once configured). Element names are matched by
+ * their local name (ignoring any namespace) and unknown elements are skipped.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+public class XmlUtil {
+    /** The logger */
+    private static final Logger logger = LoggerFactory.getLogger(XmlUtil.class);
+
+    /** The shared input factory (DTDs and external entities are not supported) */
+    private static final XMLInputFactory INPUTFACTORY = createInputFactory();
+
+    /**
+     * Private constructor - all methods are static
+     */
+    private XmlUtil() {
+    }
+
+    /**
+     * Helper method to create (and configure) the input factory
+     *
+     * @return a non-null input factory
+     */
+    private static XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Parses the XML using the parser. The parser will be called with the reader positioned on the root element if the
+     * root element has the given name.
+     *
+     * @param xml a non-null, possibly empty XML document
+     * @param rootName a non-null, non-empty local name of the root element
+     * @param parser a non-null parser
+     * @return the parsed result or null if the XML was empty, had a different root or was not valid
+     */
+    public static <T> @Nullable T parse(final String xml, final String rootName, final Parser<T> parser) {
+        Objects.requireNonNull(xml, "xml cannot be null");
+        SonyUtil.validateNotEmpty(rootName, "rootName cannot be empty");
+        Objects.requireNonNull(parser, "parser cannot be null");
+
+        if (xml.isEmpty()) {
+            return null;
+        }
+
+        @Nullable
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUTFACTORY.createXMLStreamReader(new StringReader(xml));
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    if (!rootName.equalsIgnoreCase(reader.getLocalName())) {
+                        logger.debug("Expected root element {} but found {}", rootName, reader.getLocalName());
+                        return null;
+                    }
+                    return parser.parse(reader);
+                }
+            }
+            return null;
+        } catch (final XMLStreamException e) {
+            logger.debug("Exception parsing {} XML: {}", rootName, e.getMessage());
+            return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (final XMLStreamException e) {
+                    logger.trace("Exception closing the XML reader: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the reader to the next child element of the current element. The reader must be positioned on the start
+     * element of the parent (or on the end element of a previous child).
+     *
+     * @param reader a non-null reader
+     * @return true if positioned on the next child element, false if positioned on the end element of the parent
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    public static boolean nextChild(final XMLStreamReader reader) throws XMLStreamException {
+        Objects.requireNonNull(reader, "reader cannot be null");
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips the current element (and all of it's children). The reader must be positioned on the start element and
+     * will be positioned on the matching end element.
+     *
+     * @param reader a non-null reader
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    public static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        Objects.requireNonNull(reader, "reader cannot be null");
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the text of the current element. Any child elements are skipped. The reader must be positioned on the
+     * start element and will be positioned on the matching end element.
+     *
+     * @param reader a non-null reader
+     * @return the non-null, possibly empty text
+     * @throws XMLStreamException if an exception occurs reading the XML
+     */
+    public static String getText(final XMLStreamReader reader) throws XMLStreamException {
+        Objects.requireNonNull(reader, "reader cannot be null");
+        final StringBuilder sb = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (depth == 1 && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE)) {
+                sb.append(reader.getText());
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Gets the value of an attribute (by local name, ignoring case) of the current element
+     *
+     * @param reader a non-null reader positioned on a start element
+     * @param localName a non-null, non-empty attribute name
+     * @return the attribute value or null if not found
+     */
+    public static @Nullable String getAttribute(final XMLStreamReader reader, final String localName) {
+        Objects.requireNonNull(reader, "reader cannot be null");
+        SonyUtil.validateNotEmpty(localName, "localName cannot be empty");
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (localName.equalsIgnoreCase(reader.getAttributeLocalName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Functional interface to parse an element
+     *
+     * @param <T> the type parsed
+     */
+    @NonNullByDefault
+    public interface Parser<T> {
+        /**
+         * Parses the element the reader is positioned on. The reader must be left positioned on the matching end
+         * element.
+         *
+         * @param reader a non-null reader positioned on the start element
+         * @return the possibly null result
+         * @throws XMLStreamException if an exception occurs reading the XML
+         */
+        @Nullable
+        T parse(XMLStreamReader reader) throws XMLStreamException;
+    }
+}
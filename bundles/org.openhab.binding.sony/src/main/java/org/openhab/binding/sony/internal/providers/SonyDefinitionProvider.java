@@ -15,9 +15,11 @@ package org.openhab.binding.sony.internal.providers;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.providers.models.SonyDeviceCapability;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.ThingTypeProvider;
 import org.openhab.core.thing.type.ChannelGroupTypeProvider;
 
@@ -46,4 +48,14 @@ public interface SonyDefinitionProvider extends ThingTypeProvider, ChannelGroupT
      * @param channelFilter a non-null channel filter to use
      */
     void writeThing(String service, String configUri, String modelName, Thing thing, Predicate<Channel> channelFilter);
+
+    /**
+     * Finds the latest thing type specific to the service/model name
+     *
+     * @param service a non-null, non-empty service
+     * @param modelName a non-null, non-empty model name
+     * @return the thing type UID or null if there is no specific thing type for the model
+     */
+    @Nullable
+    ThingTypeUID getThingTypeUID(String service, String modelName);
 }
@@ -14,7 +14,10 @@ package org.openhab.binding.sony.internal.providers;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -33,6 +36,7 @@ import org.openhab.binding.sony.internal.providers.sources.SonyGithubSource;
 import org.openhab.binding.sony.internal.providers.sources.SonySource;
 import org.openhab.binding.sony.internal.scalarweb.models.ScalarWebService;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -74,8 +78,40 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
     /** The list of sources (created in activate, cleared in deactivate) */
     private final List<SonySource> sources;
 
-    /** The list of dynamic state overrides by channel uid */
-    private final Map<ChannelUID, StateDescription> stateOverride = new HashMap<>();
+    /** The version of the thing type index (incremented on every rebuild) */
+    private final AtomicLong thingTypeIndexVersion = new AtomicLong();
+
+    /** The merged thing type index across all sources (null until first needed) */
+    private final AtomicReference<@Nullable ThingTypeIndex> thingTypeIndex = new AtomicReference<>();
+
+    /** The lock used to serialize writers of the state overrides (readers never lock) */
+    private final Object overrideLock = new Object();
+
+    /** The unmodifiable map of dynamic state overrides by channel uid (replaced as a whole on every change) */
+    private volatile Map<ChannelUID, StateDescription> stateOverride = Collections.emptyMap();
+
+    /** The memoized (merged) state descriptions by channel uid */
+    private final Map<ChannelUID, MergedStateDescription> mergedStates = new ConcurrentHashMap<>();
+
+    /** The listener that will invalidate the merged state descriptions when a thing is added/removed/retyped */
+    private final RegistryChangeListener<Thing> thingListener = new RegistryChangeListener<Thing>() {
+        @Override
+        public void added(final Thing element) {
+            invalidateMergedStates(element.getUID());
+        }
+
+        @Override
+        public void removed(final Thing element) {
+            invalidateMergedStates(element.getUID());
+        }
+
+        @Override
+        public void updated(final Thing oldElement, final Thing element) {
+            if (!oldElement.getThingTypeUID().equals(element.getThingTypeUID())) {
+                invalidateMergedStates(element.getUID());
+            }
+        }
+    };
 
     /** The thing registry used to lookup things */
     private final ThingRegistry thingRegistry;
@@ -117,6 +153,8 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
             srcs.add(new SonyGithubSource(scheduler, properties, this.clientBuilder));
         }
         this.sources = Collections.unmodifiableList(srcs);
+
+        thingRegistry.addRegistryChangeListener(thingListener);
     }
 
     @Override
@@ -152,31 +190,58 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
 
     @Override
     public Collection<ThingType> getThingTypes(final @Nullable Locale locale) {
-        final Map<ThingTypeUID, ThingType> thingTypes = new HashMap<>();
-        for (final SonySource src : sources) {
-            for (final ThingType tt : src.getThingTypes()) {
-                if (!thingTypes.containsKey(tt.getUID())) {
-                    thingTypes.put(tt.getUID(), tt);
-                }
-            }
-        }
-        return thingTypes.values();
+        return getThingTypeIndex().thingTypes.values();
     }
 
     @Override
     public @Nullable ThingType getThingType(final ThingTypeUID thingTypeUID, final @Nullable Locale locale) {
         Objects.requireNonNull(thingTypeUID, "thingTypeUID cannot be null");
         if (SonyBindingConstants.BINDING_ID.equalsIgnoreCase(thingTypeUID.getBindingId())) {
-            for (final SonySource src : sources) {
-                final ThingType thingType = src.getThingType(thingTypeUID);
-                if (thingType != null) {
-                    return thingType;
-                }
-            }
+            return getThingTypeIndex().thingTypes.get(thingTypeUID);
         }
         return null;
     }
 
+    @Override
+    public @Nullable ThingTypeUID getThingTypeUID(final String service, final String modelName) {
+        SonyUtil.validateNotEmpty(service, "service cannot be empty");
+        SonyUtil.validateNotEmpty(modelName, "modelName cannot be empty");
+        return getThingTypeIndex().modelIndex.findLatestThingTypeUID(service, modelName);
+    }
+
+    /**
+     * Helper method to get the current thing type index. The index will be rebuilt if any of the sources has changed
+     * since the index was built
+     *
+     * @return a non-null thing type index
+     */
+    private ThingTypeIndex getThingTypeIndex() {
+        final long[] sourceVersions = sources.stream().mapToLong(SonySource::getVersion).toArray();
+
+        final @Nullable ThingTypeIndex index = thingTypeIndex.get();
+        if (index != null && Arrays.equals(index.sourceVersions, sourceVersions)) {
+            return index;
+        }
+
+        // local takes preference over github (sources are in order of preference)
+        final Map<ThingTypeUID, ThingType> thingTypes = new LinkedHashMap<>();
+        for (final SonySource src : sources) {
+            for (final ThingType tt : src.getThingTypes()) {
+                thingTypes.putIfAbsent(tt.getUID(), tt);
+            }
+        }
+
+        final ThingTypeIndex newIndex = new ThingTypeIndex(thingTypeIndexVersion.incrementAndGet(), sourceVersions,
+                thingTypes);
+        logger.debug("Rebuilt thing type index (version {}) with {} thing types", newIndex.version,
+                thingTypes.size());
+
+        // only replace if nobody else has already published a newer index
+        thingTypeIndex.accumulateAndGet(newIndex,
+                (curr, upd) -> curr == null || curr.version < upd.version ? upd : curr);
+        return newIndex;
+    }
+
     @Override
     public void addStateOverride(final ThingUID thingUID, final String channelId,
             final StateDescription stateDescription) {
@@ -184,8 +249,35 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
         SonyUtil.validateNotEmpty(channelId, "channelId cannot be empty");
         Objects.requireNonNull(stateDescription, "stateDescription cannot be null");
 
-        final ChannelUID id = new ChannelUID(thingUID, channelId);
-        stateOverride.put(id, stateDescription);
+        addStateOverrides(thingUID, Collections.singletonMap(channelId, stateDescription));
+    }
+
+    @Override
+    public void addStateOverrides(final ThingUID thingUID, final Map<String, StateDescription> stateDescriptions) {
+        Objects.requireNonNull(thingUID, "thingUID cannot be null");
+        Objects.requireNonNull(stateDescriptions, "stateDescriptions cannot be null");
+
+        synchronized (overrideLock) {
+            final Map<ChannelUID, StateDescription> current = stateOverride;
+            final Map<ChannelUID, StateDescription> changed = new HashMap<>();
+            for (final Map.Entry<String, StateDescription> entry : stateDescriptions.entrySet()) {
+                final ChannelUID id = new ChannelUID(thingUID, entry.getKey());
+                if (!entry.getValue().equals(current.get(id))) {
+                    changed.put(id, entry.getValue());
+                }
+            }
+
+            // Nothing changed - don't republish (protocols will refresh overrides with the same values)
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            final Map<ChannelUID, StateDescription> newOverride = new HashMap<>(current);
+            newOverride.putAll(changed);
+            stateOverride = Collections.unmodifiableMap(newOverride);
+
+            changed.keySet().forEach(mergedStates::remove);
+        }
     }
 
     @Override
@@ -205,10 +297,20 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
         return getStateDescription(thingUID, channelId, null);
     }
 
+    /**
+     * Helper method to invalidate all merged state descriptions for the given thing
+     *
+     * @param thingUID a non-null thing uid
+     */
+    private void invalidateMergedStates(final ThingUID thingUID) {
+        Objects.requireNonNull(thingUID, "thingUID cannot be null");
+        mergedStates.keySet().removeIf(id -> thingUID.equals(id.getThingUID()));
+    }
+
     /**
      * This is a helper method to get a state description for a specific thingUID
-     * and channel ID. This will intelligenly merge the original state description
-     * (from a thing definition) with any overrides that have been added
+     * and channel ID. The merged state description is memoized and reused as long as both the override and the
+     * original state description are the same as the ones it was merged from.
      *
      * @param thingUID a non-null thing uid
      * @param channelId a non-null, non-empty channel id
@@ -221,10 +323,38 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
         Objects.requireNonNull(thingUID, "thingUID cannot be null");
         SonyUtil.validateNotEmpty(channelId, "channelID cannot be empty");
 
+        final ChannelUID id = new ChannelUID(thingUID, channelId);
+        final @Nullable StateDescription overrideDesc = stateOverride.get(id);
+
+        final @Nullable MergedStateDescription memo = mergedStates.get(id);
+        if (memo != null && memo.isMergedFrom(overrideDesc, originalStateDescription)) {
+            return memo.merged;
+        }
+
+        final @Nullable StateDescription merged = mergeStateDescription(thingUID, overrideDesc,
+                originalStateDescription);
+        mergedStates.put(id, new MergedStateDescription(overrideDesc, originalStateDescription, merged));
+        return merged;
+    }
+
+    /**
+     * This is a helper method to merge a state description for a specific thingUID
+     * and channel ID. This will intelligenly merge the original state description
+     * (from a thing definition) with any overrides that have been added
+     *
+     * @param thingUID a non-null thing uid
+     * @param overrideDesc a potentially null (if none) override state description
+     * @param originalStateDescription a potentially null (if none) original state
+     *            description
+     * @return the state definition for the thing/channel or the original if none found
+     */
+    private @Nullable StateDescription mergeStateDescription(final ThingUID thingUID,
+            final @Nullable StateDescription overrideDesc, final @Nullable StateDescription originalStateDescription) {
+        Objects.requireNonNull(thingUID, "thingUID cannot be null");
+
         final ThingRegistry localThingRegistry = thingRegistry;
         if (localThingRegistry != null) {
             final Thing thing = localThingRegistry.get(thingUID);
-            final ChannelUID id = new ChannelUID(thingUID, channelId);
 
             if (thing != null) {
                 BigDecimal min = null, max = null, step = null;
@@ -233,9 +363,6 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
                 List<StateOption> options = null;
 
                 // First use any specified override (if found)
-                // Note since compiler thinks overrideDesc cannot be null
-                // it flags the 'readonly' below as can't be null (which is incorrect)
-                final StateDescription overrideDesc = stateOverride.get(id);
                 if (overrideDesc != null) {
                     min = overrideDesc.getMinimum();
                     max = overrideDesc.getMaximum();
@@ -371,6 +498,8 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
 
     @Deactivate
     public void deactivate() {
+        thingRegistry.removeRegistryChangeListener(thingListener);
+        mergedStates.clear();
         for (final SonySource src : sources) {
             src.close();
         }
@@ -386,4 +515,81 @@ public class SonyDefinitionProviderImpl implements SonyDefinitionProvider, SonyD
     public boolean removeListener(final SonyModelListener listener) {
         return sources.stream().map(s -> s.removeListener(listener)).anyMatch(e -> e);
     }
+
+    /**
+     * An immutable index of the thing types across all sources. The index is versioned and records the version of each
+     * source it was built from so that it's only rebuilt when a source changes
+     */
+    @NonNullByDefault
+    private static class ThingTypeIndex {
+        /** The version of the index */
+        private final long version;
+
+        /** The versions of the sources (in source order) the index was built from */
+        private final long[] sourceVersions;
+
+        /** The unmodifiable thing types by their UID */
+        private final Map<ThingTypeUID, ThingType> thingTypes;
+
+        /** The model name lookup for the thing types */
+        private final SonyModelIndex modelIndex;
+
+        /**
+         * Constructs the index
+         *
+         * @param version the version of the index
+         * @param sourceVersions a non-null array of source versions
+         * @param thingTypes a non-null, possibly empty map of thing types by UID
+         */
+        private ThingTypeIndex(final long version, final long[] sourceVersions,
+                final Map<ThingTypeUID, ThingType> thingTypes) {
+            this.version = version;
+            this.sourceVersions = sourceVersions;
+            this.thingTypes = Collections.unmodifiableMap(thingTypes);
+            this.modelIndex = new SonyModelIndex(thingTypes.keySet());
+        }
+    }
+
+    /**
+     * A memoized merged state description along with the override/original state descriptions it was merged from
+     */
+    @NonNullByDefault
+    private static class MergedStateDescription {
+        /** The override the state description was merged from (null if none) */
+        private final @Nullable StateDescription overrideDesc;
+
+        /** The original state description the state description was merged from (null if none) */
+        private final @Nullable StateDescription originalDesc;
+
+        /** The merged state description (null if nothing to merge) */
+        private final @Nullable StateDescription merged;
+
+        /**
+         * Constructs the memo
+         *
+         * @param overrideDesc a possibly null override
+         * @param originalDesc a possibly null original state description
+         * @param merged a possibly null merged state description
+         */
+        private MergedStateDescription(final @Nullable StateDescription overrideDesc,
+                final @Nullable StateDescription originalDesc, final @Nullable StateDescription merged) {
+            this.overrideDesc = overrideDesc;
+            this.originalDesc = originalDesc;
+            this.merged = merged;
+        }
+
+        /**
+         * Determines if this memo was merged from the given override/original state descriptions. The override is
+         * compared by reference (overrides are replaced, never mutated) and the original by value (the framework may
+         * hand us a new but equal instance on every call)
+         *
+         * @param override a possibly null override
+         * @param original a possibly null original state description
+         * @return true if merged from the same descriptions, false otherwise
+         */
+        private boolean isMergedFrom(final @Nullable StateDescription override,
+                final @Nullable StateDescription original) {
+            return overrideDesc == override && Objects.equals(originalDesc, original);
+        }
+    }
 }
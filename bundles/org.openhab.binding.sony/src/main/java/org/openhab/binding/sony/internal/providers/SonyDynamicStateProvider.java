@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.sony.internal.providers;
 
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.ThingUID;
@@ -35,6 +37,15 @@ public interface SonyDynamicStateProvider extends DynamicStateDescriptionProvide
      */
     public void addStateOverride(ThingUID thingUID, String channelId, StateDescription stateDescription);
 
+    /**
+     * Adds a number of state overrides for the given thingUID in one step (all of them will become visible at the
+     * same time)
+     *
+     * @param thingUID a non-null thing uid
+     * @param stateDescriptions a non-null, possibly empty map of state descriptions by channel ID
+     */
+    public void addStateOverrides(ThingUID thingUID, Map<String, StateDescription> stateDescriptions);
+
     /**
      * Returns a state description for a thing UID/channel ID. Please note this will only return those items that were
      * added via {@link #addStateOverride(ThingUID, String, StateDescription)}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.providers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyBindingConstants;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.core.thing.ThingTypeUID;
+
+/**
+ * This immutable class indexes thing type UIDs by service and model name so that the thing type for a device model
+ * can be found without matching the model name against every thing type. Model names without wildcards are looked up
+ * directly while model names with wildcards (see {@link SonyUtil#isModelMatch(String, String, String, String)}) are
+ * matched in order of their version. Lookups are memoized for the life of the index.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+public class SonyModelIndex {
+    /** The lowercase model name version prefix */
+    private static final String VERSION_PREFIX = SonyBindingConstants.MODELNAME_VERSION_PREFIX.toLowerCase();
+
+    /** An empty index */
+    public static final SonyModelIndex EMPTY = new SonyModelIndex(Collections.emptyList());
+
+    /** The thing type UIDs (latest version first) by service and lowercase model name (without wildcards) */
+    private final Map<String, Map<String, List<ThingTypeUID>>> exactModels = new HashMap<>();
+
+    /** The thing type UIDs (latest version first) with wildcard model names by service */
+    private final Map<String, List<ThingTypeUID>> wildcardModels = new HashMap<>();
+
+    /** The memoized lookups by service name and model name */
+    private final Map<String, Optional<ThingTypeUID>> lookups = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the index from the thing type UIDs
+     *
+     * @param uids a non-null, possibly empty collection of thing type UIDs
+     */
+    public SonyModelIndex(final Collection<ThingTypeUID> uids) {
+        Objects.requireNonNull(uids, "uids cannot be null");
+
+        for (final ThingTypeUID uid : uids) {
+            final String serviceName = SonyUtil.getServiceName(uid);
+            final String modelName = SonyUtil.getModelName(uid);
+            if (modelName == null || modelName.isEmpty()) {
+                continue;
+            }
+
+            final String lowerModelName = modelName.toLowerCase();
+
+            // "x" denotes a wildcard and "_v" may be a version identifier that isModelMatch will strip
+            if (modelName.contains("x") || lowerModelName.contains(VERSION_PREFIX)) {
+                wildcardModels.computeIfAbsent(serviceName, k -> new ArrayList<>()).add(uid);
+            } else {
+                exactModels.computeIfAbsent(serviceName, k -> new HashMap<>())
+                        .computeIfAbsent(lowerModelName, k -> new ArrayList<>()).add(uid);
+            }
+        }
+
+        final Comparator<ThingTypeUID> latestFirst = Comparator
+                .comparingInt((ThingTypeUID uid) -> SonyUtil.getModelVersion(uid)).reversed();
+        wildcardModels.values().forEach(l -> l.sort(latestFirst));
+        exactModels.values().forEach(m -> m.values().forEach(l -> l.sort(latestFirst)));
+    }
+
+    /**
+     * Finds the latest (highest version) thing type UID matching the service and model name
+     *
+     * @param serviceName a non-null, non-empty service name
+     * @param modelName a non-null, non-empty model name
+     * @return the latest thing type UID or null if none matched
+     */
+    public @Nullable ThingTypeUID findLatestThingTypeUID(final String serviceName, final String modelName) {
+        SonyUtil.validateNotEmpty(serviceName, "serviceName cannot be empty");
+        SonyUtil.validateNotEmpty(modelName, "modelName cannot be empty");
+
+        return lookups.computeIfAbsent(serviceName + "/" + modelName,
+                k -> Optional.ofNullable(find(serviceName, modelName))).orElse(null);
+    }
+
+    /**
+     * Helper method to find the latest thing type UID from the exact and wildcard model names
+     *
+     * @param serviceName a non-null, non-empty service name
+     * @param modelName a non-null, non-empty model name
+     * @return the latest thing type UID or null if none matched
+     */
+    private @Nullable ThingTypeUID find(final String serviceName, final String modelName) {
+        @Nullable
+        ThingTypeUID max = null;
+
+        final @Nullable Map<String, List<ThingTypeUID>> models = exactModels.get(serviceName);
+        final @Nullable List<ThingTypeUID> exact = models == null ? null : models.get(modelName.toLowerCase());
+        if (exact != null) {
+            max = exact.get(0);
+        }
+
+        final @Nullable List<ThingTypeUID> wildcards = wildcardModels.get(serviceName);
+        if (wildcards != null) {
+            for (final ThingTypeUID uid : wildcards) {
+                if (max != null && SonyUtil.getModelVersion(uid) <= SonyUtil.getModelVersion(max)) {
+                    break;
+                }
+                if (SonyUtil.isModelMatch(uid, serviceName, modelName)) {
+                    max = uid;
+                    break;
+                }
+            }
+        }
+        return max;
+    }
+}
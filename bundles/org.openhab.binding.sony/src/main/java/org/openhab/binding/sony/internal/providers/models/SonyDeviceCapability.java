@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -39,6 +40,9 @@ public class SonyDeviceCapability {
     /** A list of service capabilities */
     private @Nullable List<@Nullable SonyServiceCapability> services;
 
+    /** The lazily computed content fingerprint (see {@link #getFingerprint()}) */
+    private transient volatile @Nullable String fingerprint;
+
     /**
      * Empty constructor for deserialization
      */
@@ -80,6 +84,28 @@ public class SonyDeviceCapability {
         return Collections.unmodifiableList(SonyUtil.convertNull(services));
     }
 
+    /**
+     * Gets the content fingerprint of the device. The fingerprint is order and case insensitive and covers the model
+     * name and the fingerprints of the services (the base URL is not part of a match). The fingerprint is computed
+     * once (the capability is immutable).
+     *
+     * @return a non-null, non-empty fingerprint
+     */
+    public String getFingerprint() {
+        String localFingerprint = fingerprint;
+        if (localFingerprint == null) {
+            final List<@Nullable String> parts = new ArrayList<>();
+            parts.add(SonyUtil.toLowerCase(modelName));
+            final List<String> fingerprints = getServices().stream().map(s -> s.getFingerprint()).sorted()
+                    .collect(Collectors.toList());
+            parts.add(String.valueOf(fingerprints.size()));
+            parts.addAll(fingerprints);
+            localFingerprint = SonyUtil.createFingerprint(parts);
+            fingerprint = localFingerprint;
+        }
+        return localFingerprint;
+    }
+
     @Override
     public String toString() {
         return "SonyDeviceCapability [modelName=" + modelName + ", baseURL=" + baseURL + ", services=" + services + "]";
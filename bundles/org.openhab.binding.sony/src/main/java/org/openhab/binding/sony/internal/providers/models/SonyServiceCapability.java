@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -45,6 +46,9 @@ public class SonyServiceCapability {
     /** The notifications that can be sent from the service */
     private @Nullable List<@Nullable ScalarWebMethod> notifications;
 
+    /** The lazily computed content fingerprint (see {@link #getFingerprint()}) */
+    private transient volatile @Nullable String fingerprint;
+
     /**
      * Empty constructor for deserialization
      */
@@ -120,6 +124,42 @@ public class SonyServiceCapability {
         return Collections.unmodifiableList(SonyUtil.convertNull(notifications));
     }
 
+    /**
+     * Gets the content fingerprint of the service. The fingerprint is order and case insensitive and covers the
+     * service name, version, transport and the fingerprints of the methods and notifications (excluding those of an
+     * unknown variation). The fingerprint is computed once (the capability is immutable).
+     *
+     * @return a non-null, non-empty fingerprint
+     */
+    public String getFingerprint() {
+        String localFingerprint = fingerprint;
+        if (localFingerprint == null) {
+            final List<@Nullable String> parts = new ArrayList<>();
+            parts.add(SonyUtil.toLowerCase(serviceName));
+            parts.add(SonyUtil.toLowerCase(version));
+            parts.add(SonyUtil.toLowerCase(transport));
+            addFingerprints(parts, getMethods());
+            addFingerprints(parts, getNotifications());
+            localFingerprint = SonyUtil.createFingerprint(parts);
+            fingerprint = localFingerprint;
+        }
+        return localFingerprint;
+    }
+
+    /**
+     * Helper method to add the sorted fingerprints of the methods (excluding unknown variations) to the parts
+     *
+     * @param parts a non-null list of fingerprint parts to add to
+     * @param methods a non-null, possibly empty list of methods
+     */
+    private static void addFingerprints(final List<@Nullable String> parts, final List<ScalarWebMethod> methods) {
+        final List<String> fingerprints = methods.stream()
+                .filter(m -> m.getVariation() != ScalarWebMethod.UNKNOWN_VARIATION).map(m -> m.getFingerprint())
+                .sorted().collect(Collectors.toList());
+        parts.add(String.valueOf(fingerprints.size()));
+        parts.addAll(fingerprints);
+    }
+
     @Override
     public String toString() {
         return "SonyServiceCapability [serviceName=" + serviceName + ", version=" + version + ", transport=" + transport
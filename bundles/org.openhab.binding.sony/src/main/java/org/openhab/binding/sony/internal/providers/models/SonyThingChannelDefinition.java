@@ -12,8 +12,10 @@
  */
 package org.openhab.binding.sony.internal.providers.models;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -44,6 +46,9 @@ public class SonyThingChannelDefinition {
     /** The channel options */
     private @Nullable SonyThingStateDefinition state;
 
+    /** The lazily computed content fingerprint (see {@link #getFingerprint()}) */
+    private transient volatile @Nullable String fingerprint;
+
     /**
      * Empty constructor used for deserialization
      */
@@ -108,6 +113,36 @@ public class SonyThingChannelDefinition {
         return state;
     }
 
+    /**
+     * Gets the content fingerprint of the channel. The fingerprint is order and case insensitive and covers the
+     * channel type and the properties (ignoring properties with an empty key or value). The channel id is not part of
+     * the fingerprint since it is matched after conversion (see {@link #getChannelId()}). The fingerprint is computed
+     * once (the definition is immutable).
+     *
+     * @return a non-null, non-empty fingerprint
+     */
+    public String getFingerprint() {
+        String localFingerprint = fingerprint;
+        if (localFingerprint == null) {
+            final List<@Nullable String> parts = new ArrayList<>();
+            parts.add(SonyUtil.toLowerCase(channelType));
+            final List<String> props = new ArrayList<>();
+            for (final Map.Entry<@Nullable String, @Nullable String> entry : getProperties().entrySet()) {
+                final @Nullable String key = entry.getKey();
+                final @Nullable String value = entry.getValue();
+                if (key != null && !key.isEmpty() && value != null && !value.isEmpty()) {
+                    props.add(key.toLowerCase() + "=" + value.toLowerCase());
+                }
+            }
+            Collections.sort(props);
+            parts.add(String.valueOf(props.size()));
+            parts.addAll(props);
+            localFingerprint = SonyUtil.createFingerprint(parts);
+            fingerprint = localFingerprint;
+        }
+        return localFingerprint;
+    }
+
     @Override
     public String toString() {
         return "SonyThingChannelDefinition [channelId=" + channelId + ", channelType=" + channelType + ", properties="
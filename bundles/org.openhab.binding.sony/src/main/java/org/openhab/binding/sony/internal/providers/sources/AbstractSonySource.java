@@ -23,11 +23,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -37,6 +40,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sony.internal.SonyBindingConstants;
 import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.binding.sony.internal.providers.SonyModelIndex;
 import org.openhab.binding.sony.internal.providers.SonyModelListener;
 import org.openhab.binding.sony.internal.providers.models.SonyThingChannelDefinition;
 import org.openhab.binding.sony.internal.providers.models.SonyThingDefinition;
@@ -77,17 +81,14 @@ public abstract class AbstractSonySource implements SonySource {
     /** The GSON that will be used for deserialization */
     protected final Gson gson = GsonUtilities.getDefaultGson();
 
-    /** THe lock protecting the state (thingTypeDefinitions, thingTypes and groupTypes - not listeners) */
-    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    /** The scheduler used for background work (like reading the files) */
+    protected final ScheduledExecutorService scheduler;
 
-    /** Our reference of thing type uids to thing type definitions */
-    private final Map<ThingTypeUID, SonyThingDefinition> thingTypeDefinitions = new HashMap<>();
+    /** The lock used to serialize writers of the state (readers never lock) */
+    private final Object stateLock = new Object();
 
-    /** Our reference of thing type uids to thing types */
-    private final Map<ThingTypeUID, ThingType> thingTypes = new HashMap<>();
-
-    /** Our reference of thing type uids to thing types */
-    private final Map<ChannelGroupTypeUID, ChannelGroupType> groupTypes = new HashMap<>();
+    /** The current immutable state (thing types, thing definitions and group types - not listeners) */
+    private volatile State state = State.EMPTY;
 
     /** The lock used to manage listeners */
     private final ReadWriteLock listenerLock = new ReentrantReadWriteLock();
@@ -95,67 +96,52 @@ public abstract class AbstractSonySource implements SonySource {
     /** The list of listeners */
     private final Map<ServiceModelName, List<SonyModelListener>> listeners = new HashMap<>();
 
+    /**
+     * Constructs the source
+     *
+     * @param scheduler a non-null scheduler to use
+     */
+    protected AbstractSonySource(final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(scheduler, "scheduler cannot be null");
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public long getVersion() {
+        return state.version;
+    }
+
     @Override
     public Collection<ThingType> getThingTypes() {
-        final Lock readLock = stateLock.readLock();
-        readLock.lock();
-        try {
-            return thingTypes.values();
-        } finally {
-            readLock.unlock();
-        }
+        return state.thingTypes.values();
     }
 
     @Override
     public @Nullable ThingType getThingType(final ThingTypeUID thingTypeUID) {
         Objects.requireNonNull(thingTypeUID, "thingTypeUID cannot be null");
-
-        final Lock readLock = stateLock.readLock();
-        readLock.lock();
-        try {
-            return thingTypes.get(thingTypeUID);
-        } finally {
-            readLock.unlock();
-        }
+        return state.thingTypes.get(thingTypeUID);
     }
 
     @Override
     public @Nullable ChannelGroupType getChannelGroupType(final ChannelGroupTypeUID channelGroupTypeUID) {
         Objects.requireNonNull(channelGroupTypeUID, "channelGroupTypeUID cannot be null");
-        final Lock readLock = stateLock.readLock();
-        readLock.lock();
-        try {
-            return groupTypes.get(channelGroupTypeUID);
-        } finally {
-            readLock.unlock();
-        }
+        return state.groupTypes.get(channelGroupTypeUID);
     }
 
     @Override
     public @Nullable Collection<ChannelGroupType> getChannelGroupTypes() {
-        final Lock readLock = stateLock.readLock();
-        readLock.lock();
-        try {
-            return groupTypes.values();
-        } finally {
-            readLock.unlock();
-        }
+        return state.groupTypes.values();
     }
 
     @Override
     public @Nullable SonyThingDefinition getSonyThingTypeDefinition(final ThingTypeUID thingTypeUID) {
         Objects.requireNonNull(thingTypeUID, "thingTypeUID cannot be null");
-        final Lock readLock = stateLock.readLock();
-        readLock.lock();
-        try {
-            return thingTypeDefinitions.get(thingTypeUID);
-        } finally {
-            readLock.unlock();
-        }
+        return state.thingTypeDefinitions.get(thingTypeUID);
     }
 
     /**
-     * Will read all files in the specified folder and store the related thing types
+     * Will read all files in the specified folder and store the related thing types. The files are parsed before the
+     * state is locked and the state is then replaced in one step.
      *
      * @param folder a non-null, non-empty folder (within userdata)
      * @throws IOException if an IO exception occurs reading the files
@@ -166,27 +152,31 @@ public abstract class AbstractSonySource implements SonySource {
 
         logger.debug("Reading all files in {}", folder);
 
-        final Lock writeLock = stateLock.writeLock();
-        writeLock.lock();
-        try {
-            // clear out prior entries
-            groupTypes.clear();
-            thingTypes.clear();
-            thingTypeDefinitions.clear();
-
-            for (final File file : new File(folder).listFiles()) {
+        final Map<String, Contribution> newContributions = new LinkedHashMap<>();
+        final File[] files = new File(folder).listFiles();
+        if (files != null) {
+            for (final File file : files) {
                 if (file.isFile()) {
-                    readFile(file.getAbsolutePath());
+                    final List<SonyThingDefinition> ttds = readThingDefinitions(file.getAbsolutePath());
+                    if (!ttds.isEmpty()) {
+                        newContributions.put(file.getName(), createContribution(file.getName(), ttds));
+                    }
                 }
             }
-        } finally {
-            writeLock.unlock();
         }
+
+        synchronized (stateLock) {
+            // start from empty maps (clearing out prior entries) but carry the version forward
+            final StateBuilder bld = new StateBuilder(state.version);
+            newContributions.forEach(bld::apply);
+            publish(bld);
+        }
+        fireThingTypesFound(newContributions.values());
     }
 
     /**
-     * Reads the specified file path, validates the syntax and stores the new thing
-     * type
+     * Reads the specified file path, validates the syntax and replaces whatever the file contributed before with the
+     * new thing types (a file without any thing definitions simply removes the prior contribution)
      *
      * @param filePath a possibly null, possibly empty file path to read
      * @return a non-null, potentially empty list of thing definitions to their thing type
@@ -197,6 +187,7 @@ public abstract class AbstractSonySource implements SonySource {
             throws IOException, JsonSyntaxException {
         final List<SonyThingDefinition> ttds = readThingDefinitions(filePath);
         if (ttds.isEmpty()) {
+            removeFile(filePath);
             return Collections.emptyList();
         }
 
@@ -204,6 +195,26 @@ public abstract class AbstractSonySource implements SonySource {
         return addThingDefinitions(fileName, ttds);
     }
 
+    /**
+     * Removes whatever the file path had contributed (thing types, thing definitions and channel group types)
+     *
+     * @param filePath a possibly null, possibly empty file path that was removed
+     */
+    protected void removeFile(final @Nullable String filePath) {
+        if (filePath == null || filePath.isEmpty()) {
+            return;
+        }
+
+        final String fileName = Path.of(filePath).getFileName().toString();
+        synchronized (stateLock) {
+            final StateBuilder bld = new StateBuilder(state);
+            if (bld.remove(fileName)) {
+                logger.debug("Removed thing types contributed by {}", fileName);
+                publish(bld);
+            }
+        }
+    }
+
     /**
      * Reads the specified file path and returns the thing definitions within it
      *
@@ -243,7 +254,8 @@ public abstract class AbstractSonySource implements SonySource {
     }
 
     /**
-     * Adds thing definition(s) for the reference name
+     * Adds thing definition(s) for the reference name. Anything previously added for the reference name will be
+     * replaced. The thing types are created before the state is locked and then published as a new state.
      * 
      * @param referenceName a non-null, non-empty reference name
      * @param ttds a non-null, possibly empty list of thing definitions
@@ -254,160 +266,196 @@ public abstract class AbstractSonySource implements SonySource {
         SonyUtil.validateNotEmpty(referenceName, "referenceName cannot be empty");
         Objects.requireNonNull(ttds, "ttds cannot be null");
 
-        logger.debug("Processing {}", referenceName);
-        int idx = 0;
-
-        final List<Map.Entry<ThingType, SonyThingDefinition>> results = new ArrayList<>();
-
-        final Lock writeLock = stateLock.writeLock();
-        writeLock.lock();
-        try {
-            for (final SonyThingDefinition ttd : ttds) {
-                idx++;
-
-                final List<String> validationMessage = new ArrayList<>();
-                final Map<String, String> channelGroups = ttd.getChannelGroups();
-
-                final String service = ttd.getService();
-                if (service == null || service.isEmpty()) {
-                    validationMessage.add("Invalid/missing service element");
-                } else if (!service.matches(AbstractUID.SEGMENT_PATTERN)) {
-                    validationMessage.add("Invalid service element (must be a valid UID): " + service);
-                }
-
-                final String modelName = ttd.getModelName();
-                if (modelName == null || modelName.isEmpty()) {
-                    validationMessage.add("Invalid/missing modelName element");
-                } else if (!modelName.matches(AbstractUID.SEGMENT_PATTERN)) {
-                    validationMessage.add("Invalid modelName element (must be a valid UID): " + modelName);
-                }
+        final Contribution contribution = createContribution(referenceName, ttds);
 
-                final String label = ttd.getLabel();
-                final String desc = ttd.getDescription();
+        synchronized (stateLock) {
+            final StateBuilder bld = new StateBuilder(state);
+            bld.apply(referenceName, contribution);
+            publish(bld);
+        }
+        fireThingTypesFound(Collections.singletonList(contribution));
 
-                final List<SonyThingChannelDefinition> chls = ttd.getChannels();
+        return contribution.thingTypes.values().stream()
+                .map(tt -> new AbstractMap.SimpleEntry<>(tt,
+                        Objects.requireNonNull(contribution.thingTypeDefinitions.get(tt.getUID()))))
+                .collect(Collectors.toList());
+    }
 
-                final Map<String, List<ChannelDefinition>> cds = new HashMap<>();
-                for (final SonyThingChannelDefinition chl : chls) {
+    /**
+     * Creates the thing types (and channel group types) for the thing definition(s) of a reference name. This does not
+     * modify the state (and does not need the state lock)
+     * 
+     * @param referenceName a non-null, non-empty reference name
+     * @param ttds a non-null, possibly empty list of thing definitions
+     * @return a non-null contribution
+     */
+    private Contribution createContribution(final String referenceName, final List<SonyThingDefinition> ttds) {
+        SonyUtil.validateNotEmpty(referenceName, "referenceName cannot be empty");
+        Objects.requireNonNull(ttds, "ttds cannot be null");
 
-                    final List<String> channelValidationMessage = new ArrayList<>();
+        logger.debug("Processing {}", referenceName);
+        int idx = 0;
 
-                    final String channelId = chl.getChannelId();
-                    if (channelId == null || channelId.isEmpty()) {
-                        channelValidationMessage.add("Missing channelID element");
-                        continue;
-                    }
+        final Contribution contribution = new Contribution();
+        for (final SonyThingDefinition ttd : ttds) {
+            idx++;
 
-                    final String groupId = SonyUtil.substringBefore(channelId, "#");
-                    if (groupId == null || groupId.isEmpty()) {
-                        channelValidationMessage.add("Missing groupID from channelId: " + channelId);
-                        continue;
-                    }
+            final List<String> validationMessage = new ArrayList<>();
+            final Map<String, String> channelGroups = ttd.getChannelGroups();
 
-                    final String idWithoutGroup = SonyUtil.substringAfter(channelId, "#");
+            final String service = ttd.getService();
+            if (service == null || service.isEmpty()) {
+                validationMessage.add("Invalid/missing service element");
+            } else if (!service.matches(AbstractUID.SEGMENT_PATTERN)) {
+                validationMessage.add("Invalid service element (must be a valid UID): " + service);
+            }
 
-                    final String channelType = chl.getChannelType();
-                    if (channelType == null || channelType.isEmpty()) {
-                        channelValidationMessage.add("Missing channelType element");
-                        continue;
-                    } else if (!channelType.matches(AbstractUID.SEGMENT_PATTERN)) {
-                        channelValidationMessage
-                                .add("Invalid channelType element (must be a valid UID): " + channelType);
-                        continue;
-                    }
+            final String modelName = ttd.getModelName();
+            if (modelName == null || modelName.isEmpty()) {
+                validationMessage.add("Invalid/missing modelName element");
+            } else if (!modelName.matches(AbstractUID.SEGMENT_PATTERN)) {
+                validationMessage.add("Invalid modelName element (must be a valid UID): " + modelName);
+            }
 
-                    final Map<String, String> props = new HashMap<>();
-                    for (final Entry<@Nullable String, @Nullable String> entry : chl.getProperties().entrySet()) {
-                        final @Nullable String propKey = entry.getKey();
-                        final @Nullable String propValue = entry.getValue();
-                        if (propKey == null || propKey.isEmpty()) {
-                            channelValidationMessage.add("Missing property key value");
-                        } else {
-                            props.put(propKey, propValue == null ? "" : propValue);
-                        }
-                    }
+            final String label = ttd.getLabel();
+            final String desc = ttd.getDescription();
 
-                    props.put(ScalarWebChannel.CNL_BASECHANNELID, channelId);
+            final List<SonyThingChannelDefinition> chls = ttd.getChannels();
 
-                    if (channelValidationMessage.isEmpty()) {
-                        List<ChannelDefinition> chlDefs = cds.get(groupId);
-                        if (chlDefs == null) {
-                            chlDefs = new ArrayList<>();
-                            cds.put(groupId, chlDefs);
-                        }
+            final Map<String, List<ChannelDefinition>> cds = new HashMap<>();
+            for (final SonyThingChannelDefinition chl : chls) {
 
-                        chlDefs.add(new ChannelDefinitionBuilder(idWithoutGroup,
-                                new ChannelTypeUID(SonyBindingConstants.BINDING_ID, channelType)).withProperties(props)
-                                        .build());
-                    } else {
-                        validationMessage.addAll(channelValidationMessage);
-                    }
-                }
+                final List<String> channelValidationMessage = new ArrayList<>();
 
-                if (chls.isEmpty()) {
-                    validationMessage.add("Has no valid channels");
+                final String channelId = chl.getChannelId();
+                if (channelId == null || channelId.isEmpty()) {
+                    channelValidationMessage.add("Missing channelID element");
                     continue;
                 }
 
-                final String configUriStr = ttd.getConfigUri();
-                if (configUriStr == null || configUriStr.isEmpty()) {
-                    validationMessage.add("Invalid thing definition - missing configUri string");
+                final String groupId = SonyUtil.substringBefore(channelId, "#");
+                if (groupId == null || groupId.isEmpty()) {
+                    channelValidationMessage.add("Missing groupID from channelId: " + channelId);
+                    continue;
                 }
 
-                final String thingTypeId = service + "-" + modelName;
-                if (validationMessage.isEmpty()) {
-                    try {
-                        final Map<String, ChannelGroupType> cgd = cds.entrySet().stream()
-                                .collect(Collectors.toMap(k -> k.getKey(), e -> {
-                                    final String groupId = e.getKey();
-                                    final List<ChannelDefinition> channels = e.getValue();
-                                    final String groupLabel = channelGroups.getOrDefault(groupId, groupId);
-                                    final String groupTypeId = thingTypeId + "-" + groupId;
-
-                                    return ChannelGroupTypeBuilder.instance(
-                                            new ChannelGroupTypeUID(SonyBindingConstants.BINDING_ID, groupTypeId),
-                                            groupLabel).withChannelDefinitions(channels).build();
-                                }));
+                final String idWithoutGroup = SonyUtil.substringAfter(channelId, "#");
 
-                        final List<ChannelGroupDefinition> gDefs = cgd.entrySet().stream()
-                                .map(gt -> new ChannelGroupDefinition(gt.getKey(), gt.getValue().getUID()))
-                                .collect(Collectors.toList());
+                final String channelType = chl.getChannelType();
+                if (channelType == null || channelType.isEmpty()) {
+                    channelValidationMessage.add("Missing channelType element");
+                    continue;
+                } else if (!channelType.matches(AbstractUID.SEGMENT_PATTERN)) {
+                    channelValidationMessage.add("Invalid channelType element (must be a valid UID): " + channelType);
+                    continue;
+                }
 
-                        final URI configUri = new URI(configUriStr);
-                        final ThingType thingType = ThingTypeBuilder
-                                .instance(SonyBindingConstants.BINDING_ID, thingTypeId, label)
-                                .withConfigDescriptionURI(configUri).withDescription(desc)
-                                .withChannelGroupDefinitions(gDefs).build();
+                final Map<String, String> props = new HashMap<>();
+                for (final Entry<@Nullable String, @Nullable String> entry : chl.getProperties().entrySet()) {
+                    final @Nullable String propKey = entry.getKey();
+                    final @Nullable String propValue = entry.getValue();
+                    if (propKey == null || propKey.isEmpty()) {
+                        channelValidationMessage.add("Missing property key value");
+                    } else {
+                        props.put(propKey, propValue == null ? "" : propValue);
+                    }
+                }
 
-                        final ThingTypeUID uid = thingType.getUID();
+                props.put(ScalarWebChannel.CNL_BASECHANNELID, channelId);
 
-                        groupTypes.putAll(cgd.values().stream().collect(Collectors.toMap(k -> k.getUID(), v -> v)));
-                        thingTypes.put(uid, thingType);
-                        thingTypeDefinitions.put(uid, ttd);
+                if (channelValidationMessage.isEmpty()) {
+                    List<ChannelDefinition> chlDefs = cds.get(groupId);
+                    if (chlDefs == null) {
+                        chlDefs = new ArrayList<>();
+                        cds.put(groupId, chlDefs);
+                    }
 
-                        results.add(new AbstractMap.SimpleEntry<>(thingType, ttd));
+                    chlDefs.add(new ChannelDefinitionBuilder(idWithoutGroup,
+                            new ChannelTypeUID(SonyBindingConstants.BINDING_ID, channelType)).withProperties(props)
+                                    .build());
+                } else {
+                    validationMessage.addAll(channelValidationMessage);
+                }
+            }
 
-                        fireThingTypeFound(uid);
+            if (chls.isEmpty()) {
+                validationMessage.add("Has no valid channels");
+                continue;
+            }
 
-                        logger.debug("Successfully created a thing type {} from {}", thingType.getUID(), referenceName);
+            final String configUriStr = ttd.getConfigUri();
+            if (configUriStr == null || configUriStr.isEmpty()) {
+                validationMessage.add("Invalid thing definition - missing configUri string");
+            }
 
-                    } catch (final URISyntaxException e) {
-                        validationMessage.add("Configuration URI (" + configUriStr + ") was not a valid URI");
-                    }
+            final String thingTypeId = service + "-" + modelName;
+            if (validationMessage.isEmpty()) {
+                try {
+                    final Map<String, ChannelGroupType> cgd = cds.entrySet().stream()
+                            .collect(Collectors.toMap(k -> k.getKey(), e -> {
+                                final String groupId = e.getKey();
+                                final List<ChannelDefinition> channels = e.getValue();
+                                final String groupLabel = channelGroups.getOrDefault(groupId, groupId);
+                                final String groupTypeId = thingTypeId + "-" + groupId;
+
+                                return ChannelGroupTypeBuilder.instance(
+                                        new ChannelGroupTypeUID(SonyBindingConstants.BINDING_ID, groupTypeId),
+                                        groupLabel).withChannelDefinitions(channels).build();
+                            }));
+
+                    final List<ChannelGroupDefinition> gDefs = cgd.entrySet().stream()
+                            .map(gt -> new ChannelGroupDefinition(gt.getKey(), gt.getValue().getUID()))
+                            .collect(Collectors.toList());
+
+                    final URI configUri = new URI(configUriStr);
+                    final ThingType thingType = ThingTypeBuilder
+                            .instance(SonyBindingConstants.BINDING_ID, thingTypeId, label)
+                            .withConfigDescriptionURI(configUri).withDescription(desc)
+                            .withChannelGroupDefinitions(gDefs).build();
+
+                    final ThingTypeUID uid = thingType.getUID();
+
+                    cgd.values().forEach(gt -> contribution.groupTypes.put(gt.getUID(), gt));
+                    contribution.thingTypes.put(uid, thingType);
+                    contribution.thingTypeDefinitions.put(uid, ttd);
+
+                    logger.debug("Successfully created a thing type {} from {}", thingType.getUID(), referenceName);
+
+                } catch (final URISyntaxException e) {
+                    validationMessage.add("Configuration URI (" + configUriStr + ") was not a valid URI");
                 }
+            }
 
-                if (!validationMessage.isEmpty()) {
-                    logger.debug("Error creating a thing type from element #{} ({}) in {}:", idx, modelName,
-                            referenceName);
-                    for (final String msg : validationMessage) {
-                        logger.debug("   {}", msg);
-                    }
+            if (!validationMessage.isEmpty()) {
+                logger.debug("Error creating a thing type from element #{} ({}) in {}:", idx, modelName,
+                        referenceName);
+                for (final String msg : validationMessage) {
+                    logger.debug("   {}", msg);
                 }
             }
-            return results;
-        } finally {
-            writeLock.unlock();
         }
+        return contribution;
+    }
+
+    /**
+     * Publishes the new state (must be called while synchronized on the {@link #stateLock})
+     *
+     * @param bld a non-null state builder
+     */
+    private void publish(final StateBuilder bld) {
+        Objects.requireNonNull(bld, "bld cannot be null");
+        state = bld.build();
+    }
+
+    /**
+     * Notifies listeners of the thing types that were added (must be called after the state was published and NOT
+     * while synchronized on the {@link #stateLock} - listeners may call back into the source)
+     *
+     * @param added a non-null, possibly empty collection of contributions that were added
+     */
+    private void fireThingTypesFound(final Collection<Contribution> added) {
+        Objects.requireNonNull(added, "added cannot be null");
+        added.forEach(c -> c.thingTypes.keySet().forEach(this::fireThingTypeFound));
     }
 
     @Override
@@ -501,26 +549,8 @@ public abstract class AbstractSonySource implements SonySource {
     protected @Nullable ThingTypeUID findLatestThingTypeUID(final ServiceModelName srvModelName) {
         Objects.requireNonNull(srvModelName, "srvModelName cannot be empty");
 
-        final Lock readLock = stateLock.readLock();
-        try {
-            readLock.lock();
-
-            ThingTypeUID max = null;
-            Integer maxVers = null;
-            for (final ThingTypeUID uid : thingTypes.keySet()) {
-                if (SonyUtil.isModelMatch(uid, srvModelName.getServiceName(), srvModelName.getModelName())) {
-                    final Integer vers = SonyUtil.getModelVersion(uid);
-                    if (maxVers == null || vers > maxVers) {
-                        max = uid;
-                        maxVers = vers;
-                    }
-                }
-            }
-
-            return max;
-        } finally {
-            readLock.unlock();
-        }
+        return state.getModelIndex().findLatestThingTypeUID(srvModelName.getServiceName(),
+                srvModelName.getModelName());
     }
 
     /**
@@ -612,6 +642,219 @@ public abstract class AbstractSonySource implements SonySource {
         return false;
     }
 
+    /**
+     * The immutable state of the source. A new state is published whenever anything changes so readers never have to
+     * lock (and always see a consistent set of thing types, definitions and group types)
+     */
+    private static class State {
+        /** The empty state */
+        private static final State EMPTY = new State(0, Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyMap(), Collections.emptyMap());
+
+        /** The version of the state (incremented whenever the thing types change) */
+        private final long version;
+
+        /** The unmodifiable thing types by thing type uid */
+        private final Map<ThingTypeUID, ThingType> thingTypes;
+
+        /** The unmodifiable thing definitions by thing type uid */
+        private final Map<ThingTypeUID, SonyThingDefinition> thingTypeDefinitions;
+
+        /** The unmodifiable channel group types by channel group type uid */
+        private final Map<ChannelGroupTypeUID, ChannelGroupType> groupTypes;
+
+        /** The unmodifiable contributions by reference name (file name) */
+        private final Map<String, Contribution> contributions;
+
+        /** The model index of the thing types (null until first needed) */
+        private final AtomicReference<@Nullable SonyModelIndex> modelIndex = new AtomicReference<>();
+
+        /**
+         * Constructs the state from the maps (which will be wrapped, not copied)
+         *
+         * @param version the version of the state
+         * @param thingTypes a non-null, possibly empty map of thing types
+         * @param thingTypeDefinitions a non-null, possibly empty map of thing definitions
+         * @param groupTypes a non-null, possibly empty map of channel group types
+         * @param contributions a non-null, possibly empty map of contributions
+         */
+        private State(final long version, final Map<ThingTypeUID, ThingType> thingTypes,
+                final Map<ThingTypeUID, SonyThingDefinition> thingTypeDefinitions,
+                final Map<ChannelGroupTypeUID, ChannelGroupType> groupTypes,
+                final Map<String, Contribution> contributions) {
+            this.version = version;
+            this.thingTypes = Collections.unmodifiableMap(thingTypes);
+            this.thingTypeDefinitions = Collections.unmodifiableMap(thingTypeDefinitions);
+            this.groupTypes = Collections.unmodifiableMap(groupTypes);
+            this.contributions = Collections.unmodifiableMap(contributions);
+        }
+
+        /**
+         * Returns the model index for the thing types of this state (built on first use)
+         *
+         * @return a non-null model index
+         */
+        private SonyModelIndex getModelIndex() {
+            final @Nullable SonyModelIndex index = modelIndex.get();
+            if (index != null) {
+                return index;
+            }
+            final SonyModelIndex newIndex = new SonyModelIndex(thingTypes.keySet());
+            return modelIndex.compareAndSet(null, newIndex) ? newIndex
+                    : Objects.requireNonNull(modelIndex.get(), "modelIndex cannot be null");
+        }
+    }
+
+    /**
+     * Builds the next state from a prior state (this is only used by writers while synchronized on the stateLock)
+     */
+    private static class StateBuilder {
+        /** The version of the prior state */
+        private final long priorVersion;
+
+        /** The thing types by thing type uid (copied from the prior state) */
+        private final Map<ThingTypeUID, ThingType> thingTypes;
+
+        /** The thing definitions by thing type uid (copied from the prior state) */
+        private final Map<ThingTypeUID, SonyThingDefinition> thingTypeDefinitions;
+
+        /** The channel group types by channel group type uid (copied from the prior state) */
+        private final Map<ChannelGroupTypeUID, ChannelGroupType> groupTypes;
+
+        /** The contributions by reference name (copied from the prior state) */
+        private final Map<String, Contribution> contributions;
+
+        /**
+         * Constructs an empty builder (clearing out anything of the prior state) that continues the version of the
+         * prior state
+         *
+         * @param priorVersion the version of the prior state
+         */
+        private StateBuilder(final long priorVersion) {
+            this.priorVersion = priorVersion;
+            this.thingTypes = new HashMap<>();
+            this.thingTypeDefinitions = new HashMap<>();
+            this.groupTypes = new HashMap<>();
+            this.contributions = new HashMap<>();
+        }
+
+        /**
+         * Constructs the builder from the prior state
+         *
+         * @param prior a non-null prior state
+         */
+        private StateBuilder(final State prior) {
+            Objects.requireNonNull(prior, "prior cannot be null");
+            this.priorVersion = prior.version;
+            this.thingTypes = new HashMap<>(prior.thingTypes);
+            this.thingTypeDefinitions = new HashMap<>(prior.thingTypeDefinitions);
+            this.groupTypes = new HashMap<>(prior.groupTypes);
+            this.contributions = new HashMap<>(prior.contributions);
+        }
+
+        /**
+         * Applies a contribution for a reference name, replacing whatever the reference name had contributed before
+         *
+         * @param referenceName a non-null, non-empty reference name
+         * @param contribution a non-null contribution
+         */
+        private void apply(final String referenceName, final Contribution contribution) {
+            SonyUtil.validateNotEmpty(referenceName, "referenceName cannot be empty");
+            Objects.requireNonNull(contribution, "contribution cannot be null");
+
+            final @Nullable Contribution prior = contributions.put(referenceName, contribution);
+            if (prior != null) {
+                removeContribution(prior, contribution);
+            }
+
+            groupTypes.putAll(contribution.groupTypes);
+            thingTypes.putAll(contribution.thingTypes);
+            thingTypeDefinitions.putAll(contribution.thingTypeDefinitions);
+        }
+
+        /**
+         * Removes whatever the reference name had contributed
+         *
+         * @param referenceName a non-null, non-empty reference name
+         * @return true if the reference name had contributed anything, false otherwise
+         */
+        private boolean remove(final String referenceName) {
+            SonyUtil.validateNotEmpty(referenceName, "referenceName cannot be empty");
+
+            final @Nullable Contribution prior = contributions.remove(referenceName);
+            if (prior == null) {
+                return false;
+            }
+            removeContribution(prior, new Contribution());
+            return true;
+        }
+
+        /**
+         * Removes what a prior contribution had added. Entries the replacement provides again are left alone (they
+         * will be overwritten) and if another reference name provides an entry that is removed, that one will be used
+         * instead.
+         *
+         * @param prior a non-null contribution that is no longer in {@link #contributions}
+         * @param replacement a non-null, possibly empty contribution replacing the prior one
+         */
+        private void removeContribution(final Contribution prior, final Contribution replacement) {
+            Objects.requireNonNull(prior, "prior cannot be null");
+            Objects.requireNonNull(replacement, "replacement cannot be null");
+
+            for (final ThingTypeUID uid : prior.thingTypes.keySet()) {
+                if (!replacement.thingTypes.containsKey(uid)) {
+                    thingTypes.remove(uid);
+                    thingTypeDefinitions.remove(uid);
+                    for (final Contribution other : contributions.values()) {
+                        final @Nullable ThingType thingType = other.thingTypes.get(uid);
+                        final @Nullable SonyThingDefinition ttd = other.thingTypeDefinitions.get(uid);
+                        if (thingType != null && ttd != null) {
+                            thingTypes.put(uid, thingType);
+                            thingTypeDefinitions.put(uid, ttd);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            for (final ChannelGroupTypeUID uid : prior.groupTypes.keySet()) {
+                if (!replacement.groupTypes.containsKey(uid)) {
+                    groupTypes.remove(uid);
+                    for (final Contribution other : contributions.values()) {
+                        final @Nullable ChannelGroupType groupType = other.groupTypes.get(uid);
+                        if (groupType != null) {
+                            groupTypes.put(uid, groupType);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Builds the next state
+         *
+         * @return a non-null state
+         */
+        private State build() {
+            return new State(priorVersion + 1, thingTypes, thingTypeDefinitions, groupTypes, contributions);
+        }
+    }
+
+    /**
+     * Helper class that represents what a single reference name (file) contributed to the state
+     */
+    private static class Contribution {
+        /** The thing types (in definition order) by thing type uid */
+        private final Map<ThingTypeUID, ThingType> thingTypes = new LinkedHashMap<>();
+
+        /** The thing definitions by thing type uid */
+        private final Map<ThingTypeUID, SonyThingDefinition> thingTypeDefinitions = new HashMap<>();
+
+        /** The channel group types by channel group type uid */
+        private final Map<ChannelGroupTypeUID, ChannelGroupType> groupTypes = new HashMap<>();
+    }
+
     /**
      * Helper class that represents a service name/model pair and provide equals/hashcode services for them
      */
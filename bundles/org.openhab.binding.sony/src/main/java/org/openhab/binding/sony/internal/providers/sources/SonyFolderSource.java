@@ -15,15 +15,20 @@ package org.openhab.binding.sony.internal.providers.sources;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyFileWriter;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.providers.models.SonyDeviceCapability;
 import org.openhab.binding.sony.internal.providers.models.SonyThingDefinition;
@@ -48,6 +53,9 @@ public class SonyFolderSource extends AbstractSonySource {
     private static final String PROP_DEFTYPES = "SonyFolderSource.Folder.DefinitionTypes";
     private static final String PROP_DEFCAPS = "SonyFolderSource.Folder.DefinitionCapabilities";
 
+    /** The time (in milliseconds) to wait for a burst of file changes to settle before reloading them */
+    private static final int RELOAD_DELAY_MS = 500;
+
     /** Folder paths */
     private final String folderThingTypes;
     private final String folderDefThingTypes;
@@ -59,6 +67,18 @@ public class SonyFolderSource extends AbstractSonySource {
     /** The folder watch dog (null if none being watched) */
     private final AtomicReference<@Nullable Future<?>> watchDog = new AtomicReference<>(null);
 
+    /** The files that have changed (created/modified/deleted) since the last reload */
+    private final Set<Path> changedFiles = ConcurrentHashMap.newKeySet();
+
+    /** Whether all files should be reloaded (the watch service overflowed) */
+    private final AtomicBoolean reloadAll = new AtomicBoolean(false);
+
+    /** The pending reload of the changed files (null if none pending) */
+    private final AtomicReference<@Nullable Future<?>> reload = new AtomicReference<>(null);
+
+    /** The lock used to make sure reloads are applied in order */
+    private final Object reloadLock = new Object();
+
     /**
      * Constructs the source and starts the various threads
      *
@@ -66,7 +86,7 @@ public class SonyFolderSource extends AbstractSonySource {
      * @param properties a non-null, possibly empty map of properties
      */
     public SonyFolderSource(final ScheduledExecutorService scheduler, final Map<String, String> properties) {
-        Objects.requireNonNull(scheduler, "scheduler cannot be null");
+        super(scheduler);
         Objects.requireNonNull(properties, "properties cannot be null");
 
         // create the folders we will use
@@ -98,18 +118,8 @@ public class SonyFolderSource extends AbstractSonySource {
         final Path filePath = Path
                 .of(folderDefThingTypes + File.separator + thingTypeDefinition.getModelName() + "." + JSONEXT);
 
-        if (filePath.toFile().exists()) {
-            logger.debug("File for thing definition already exists (write ignored): {}", filePath.toFile());
-            return;
-        }
-
-        final String json = gson.toJson(new SonyThingDefinition[] { thingTypeDefinition });
-
-        try {
-            Files.writeString(filePath, json);
-        } catch (final IOException e) {
-            logger.debug("IOException writing thing defintion to {}: {}", filePath.toFile(), e.getMessage(), e);
-        }
+        // existing files are never overwritten (they may have been modified by the user)
+        SonyFileWriter.write(filePath, () -> gson.toJson(new SonyThingDefinition[] { thingTypeDefinition }), false);
     }
 
     @Override
@@ -123,30 +133,81 @@ public class SonyFolderSource extends AbstractSonySource {
         }
 
         final Path filePath = Path.of(folderDefCapability + File.separator + modelName + "." + JSONEXT);
-        if (filePath.toFile().exists()) {
-            logger.debug("File for thing definition already exists (write ignored): {}", filePath.toFile());
-            return;
-        }
-
-        final String json = gson.toJson(deviceCapability);
 
-        try {
-            Files.writeString(filePath, json);
-        } catch (final IOException e) {
-            logger.debug("IOException writing methods to {}: {}", filePath.toFile(), e.getMessage(), e);
-        }
+        // existing files are never overwritten (they may have been modified by the user)
+        SonyFileWriter.write(filePath, () -> gson.toJson(deviceCapability), false);
     }
 
     @Override
     public void close() {
         SonyUtil.cancel(watchDog.get());
         SonyUtil.cancel(watcher.get());
+        SonyUtil.cancel(reload.getAndSet(null));
+    }
+
+    /**
+     * Notes a changed file (or that all files should be reloaded if the path is null) and (re)schedules the reload so
+     * that a burst of changes is reloaded at once
+     *
+     * @param changedFile the possibly null path to the changed file
+     */
+    private void scheduleReload(final @Nullable Path changedFile) {
+        if (changedFile == null) {
+            reloadAll.set(true);
+        } else {
+            changedFiles.add(changedFile);
+        }
+
+        // don't interrupt a running reload - it will simply leave the new changes for this one
+        final @Nullable Future<?> prior = reload.getAndSet(scheduler.schedule(this::reloadChanges, RELOAD_DELAY_MS,
+                TimeUnit.MILLISECONDS));
+        if (prior != null) {
+            prior.cancel(false);
+        }
+    }
+
+    /**
+     * Reloads the files that have changed since the last reload. Created or modified files replace what they had
+     * contributed before and deleted files simply remove their contribution
+     */
+    private void reloadChanges() {
+        synchronized (reloadLock) {
+            try {
+                if (reloadAll.getAndSet(false)) {
+                    changedFiles.clear();
+                    logger.debug("Watch events were lost, reloading ALL definitions");
+                    readFiles(folderThingTypes);
+                    return;
+                }
+
+                final Set<Path> files = new HashSet<>(changedFiles);
+                changedFiles.removeAll(files);
+
+                for (final Path file : files) {
+                    if (SonyUtil.isInterrupted()) {
+                        return;
+                    }
+
+                    try {
+                        if (Files.isRegularFile(file)) {
+                            readFile(file.toString());
+                        } else {
+                            removeFile(file.toString());
+                        }
+                    } catch (JsonSyntaxException | IOException e) {
+                        logger.debug("Exception reloading {}: {}", file, e.getMessage(), e);
+                    }
+                }
+            } catch (JsonSyntaxException | IOException e) {
+                logger.debug("Exception reloading all definitions: {}", e.getMessage(), e);
+            }
+        }
     }
 
     /**
      *
-     * This private helper class will watch the file system for changes and recreate
-     * thing types if a file is added/changed/deleted
+     * This private helper class will watch the file system for changes and schedule a reload of the
+     * files that were added/changed/deleted
      *
      * @author Tim Roberts - Initial contribution
      */
@@ -182,15 +243,15 @@ public class SonyFolderSource extends AbstractSonySource {
                                 return;
                             }
 
-                            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
-                                logger.debug("File deletion occurred, reloading ALL definitions");
-                                readFiles(folderThingTypes);
+                            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                                scheduleReload(null);
                             } else {
                                 final Path eventPath = (Path) event.context();
                                 if (eventPath == null) {
                                     logger.debug("Watch notification without an path in the context: {}", event);
                                 } else {
-                                    readFile(eventPath.toAbsolutePath().toString());
+                                    // the context is relative to the watched folder
+                                    scheduleReload(path.resolve(eventPath));
                                 }
                             }
                         }
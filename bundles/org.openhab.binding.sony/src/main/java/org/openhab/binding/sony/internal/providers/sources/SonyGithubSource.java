@@ -189,7 +189,7 @@ public class SonyGithubSource extends AbstractSonySource {
      */
     public SonyGithubSource(final ScheduledExecutorService scheduler, final Map<String, String> properties,
             final ClientBuilder clientBuilder) {
-        Objects.requireNonNull(scheduler, "scheduler cannot be null");
+        super(scheduler);
         Objects.requireNonNull(properties, "properties cannot be null");
 
         gson = GsonUtilities.getDefaultGsonBuilder()
@@ -235,16 +235,26 @@ public class SonyGithubSource extends AbstractSonySource {
         thingTypePath = Paths.get(FOLDERBASE + getProperty(properties, PROP_FOLDERTYPES));
         createFolder(thingTypePath.toString());
 
+        // read the cached thing types first (in the background so activation is not delayed by the number of files)
+        // and then start checking github for updates
         final int scanInterval = getPropertyInt(properties, PROP_SCANINTERVAL);
-        SonyUtil.cancel(watcher.getAndSet(scheduler.scheduleWithFixedDelay(() -> {
-            updateFromGithub();
-        }, 0, scanInterval, TimeUnit.SECONDS)));
+        SonyUtil.cancel(watcher.getAndSet(scheduler.scheduleWithFixedDelay(new Runnable() {
+            private boolean filesRead = false;
 
-        try {
-            readFiles(thingTypePath.toString());
-        } catch (JsonSyntaxException | IOException e) {
-            logger.debug("Exception reading files from {}: {}", thingTypePath.toString(), e.getMessage(), e);
-        }
+            @Override
+            public void run() {
+                if (!filesRead) {
+                    filesRead = true;
+                    try {
+                        readFiles(thingTypePath.toString());
+                    } catch (JsonSyntaxException | IOException e) {
+                        logger.debug("Exception reading files from {}: {}", thingTypePath.toString(), e.getMessage(),
+                                e);
+                    }
+                }
+                updateFromGithub();
+            }
+        }, 0, scanInterval, TimeUnit.SECONDS)));
     }
 
     @Override
@@ -381,12 +391,11 @@ public class SonyGithubSource extends AbstractSonySource {
                             deviceService, labelOpenHAB, labelApi, labelService);
                 }
 
-                // Get all the various methods for the service name (across all service
-                // versions)
-                final List<ScalarWebMethod> mstrMethods = masterServices.stream()
-                        .flatMap(srv -> srv.getMethods().stream())
+                // Get the fingerprints of all the various methods for the service name (across all service
+                // versions) - methods match if their fingerprints are equal
+                final Set<String> mstrMethods = masterServices.stream().flatMap(srv -> srv.getMethods().stream())
                         .filter(m -> m.getVariation() != ScalarWebMethod.UNKNOWN_VARIATION)
-                        .collect(Collectors.toList());
+                        .map(m -> m.getFingerprint()).collect(Collectors.toSet());
 
                 // Find the method and if not, post an issue
                 final List<ScalarWebMethod> deviceMethods = deviceService.getMethods().stream()
@@ -394,7 +403,7 @@ public class SonyGithubSource extends AbstractSonySource {
                         .collect(Collectors.toList());
 
                 for (final ScalarWebMethod mth : deviceMethods) {
-                    if ((mstrMethods.isEmpty() || mstrMethods.stream().noneMatch(m -> SonyMatcher.matches(mth, m)))
+                    if (!mstrMethods.contains(mth.getFingerprint())
                             && Boolean.FALSE.equals(findIssue(apiDevIssues, b -> {
                                 final ScalarWebMethod issueMth = gson.fromJson(b.replaceAll(GITHUB_CODEFENCE, ""),
                                         ScalarWebMethod.class);
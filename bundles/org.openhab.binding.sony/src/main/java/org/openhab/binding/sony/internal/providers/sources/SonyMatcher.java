@@ -13,8 +13,9 @@
 package org.openhab.binding.sony.internal.providers.sources;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -34,6 +35,12 @@ import org.openhab.binding.sony.internal.scalarweb.models.ScalarWebMethod;
  * this class to define what is included or excluded from a match. Generally device properties (ie not user settable)
  * and additive properties (like something new in an array or list) are what is checked.
  * 
+ * Each model carries a canonical, order and case insensitive content fingerprint that honours the same rules (see
+ * {@link ScalarWebMethod#getFingerprint()}, {@link SonyServiceCapability#getFingerprint()} and
+ * {@link SonyDeviceCapability#getFingerprint()}). Equal fingerprints mean equal content and therefore a match without
+ * walking the trees. Since a match allows additions, different fingerprints only mean 'not a match' for methods (which
+ * have no additive properties) - for everything else, the lists are walked to determine if the difference is additive.
+ * 
  * @author Tim Roberts - Initial contribution
  */
 @NonNullByDefault
@@ -85,6 +92,12 @@ class SonyMatcher {
         Objects.requireNonNull(right, "right cannot be null");
         Objects.requireNonNull(meta, "meta cannot be null");
 
+        final @Nullable String leftFingerprint = getFingerprint(left, meta);
+        if (left.getService() != null && left.getModelName() != null && leftFingerprint != null
+                && leftFingerprint.equals(getFingerprint(right, meta))) {
+            return true;
+        }
+
         return left.getService() != null && left.getService().equalsIgnoreCase(right.getService())
                 && left.getModelName() != null && left.getModelName().equalsIgnoreCase(right.getModelName())
                 && SonyUtil.equalsIgnoreCase(left.getChannelGroups(), right.getChannelGroups())
@@ -142,6 +155,11 @@ class SonyMatcher {
         Objects.requireNonNull(left, "left cannot be null");
         Objects.requireNonNull(right, "right cannot be null");
 
+        if (left.getServiceName() != null && left.getVersion() != null && left.getTransport() != null
+                && left.getFingerprint().equals(right.getFingerprint())) {
+            return true;
+        }
+
         return left.getServiceName() != null && left.getServiceName().equalsIgnoreCase(right.getServiceName())
                 && left.getVersion() != null && left.getVersion().equalsIgnoreCase(right.getVersion())
                 && left.getTransport() != null && left.getTransport().equalsIgnoreCase(right.getTransport())
@@ -172,6 +190,12 @@ class SonyMatcher {
         Objects.requireNonNull(left, "left cannot be null");
         Objects.requireNonNull(right, "right cannot be null");
 
+        if (left.getModelName() != null && left.getServices().stream().allMatch(s -> s.getServiceName() != null
+                && s.getVersion() != null && s.getTransport() != null)
+                && left.getFingerprint().equals(right.getFingerprint())) {
+            return true;
+        }
+
         return left.getModelName() != null && left.getModelName().equalsIgnoreCase(right.getModelName())
                 && matches(left.getServices(), right.getServices(), SERVICECAPABILITYCOMPARATOR, SERVICECALLBACK, true);
     }
@@ -187,10 +211,44 @@ class SonyMatcher {
         Objects.requireNonNull(left, "left cannot be null");
         Objects.requireNonNull(right, "right cannot be null");
 
-        return left.getMethodName().equalsIgnoreCase(right.getMethodName())
-                && left.getVersion().equalsIgnoreCase(right.getVersion())
-                && SonyUtil.equalsIgnoreCase(new HashSet<>(left.getParms()), new HashSet<>(right.getParms()))
-                && SonyUtil.equalsIgnoreCase(new HashSet<>(left.getRetVals()), new HashSet<>(right.getRetVals()));
+        return left.getFingerprint().equals(right.getFingerprint());
+    }
+
+    /**
+     * Gets the content fingerprint of a {@link SonyThingDefinition}. The fingerprint depends on the meta information
+     * (channel ids are converted and ignored channel ids are excluded) so is not cached on the definition but is
+     * built from the cached fingerprints of the channels.
+     * 
+     * @param def a non-null thing definition
+     * @param meta a non-null meta
+     * @return the fingerprint or null if the definition has a channel without a channel id or type (never a match)
+     */
+    private static @Nullable String getFingerprint(final SonyThingDefinition def, final MetaInfo meta) {
+        final List<@Nullable String> parts = new ArrayList<>();
+        parts.add(SonyUtil.toLowerCase(def.getService()));
+        parts.add(SonyUtil.toLowerCase(def.getModelName()));
+
+        final List<String> groups = def.getChannelGroups().entrySet().stream()
+                .map(e -> e.getKey().toLowerCase() + "=" + e.getValue().toLowerCase()).sorted()
+                .collect(Collectors.toList());
+        parts.add(String.valueOf(groups.size()));
+        parts.addAll(groups);
+
+        final List<String> channels = new ArrayList<>();
+        for (final SonyThingChannelDefinition chl : def.getChannels()) {
+            final String channelId = chl.getChannelId();
+            if (channelId == null || channelId.isEmpty() || chl.getChannelType() == null) {
+                return null;
+            }
+            if (!meta.isIgnoredChannelId(channelId)) {
+                channels.add(meta.getChannelId(channelId).toLowerCase() + "=" + chl.getFingerprint());
+            }
+        }
+        Collections.sort(channels);
+        parts.add(String.valueOf(channels.size()));
+        parts.addAll(channels);
+
+        return SonyUtil.createFingerprint(parts);
     }
 
     /**
@@ -31,6 +31,14 @@ import org.openhab.core.thing.type.ThingType;
  */
 @NonNullByDefault
 public interface SonySource extends AutoCloseable, SonyModelProvider {
+    /**
+     * Returns the version of the source. The version will change whenever the thing types (or channel group types)
+     * within the source change
+     *
+     * @return the version of the source
+     */
+    long getVersion();
+
     /**
      * Returns a collection of thing types within the source
      *
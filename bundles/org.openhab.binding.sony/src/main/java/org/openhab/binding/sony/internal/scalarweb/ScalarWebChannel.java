@@ -168,6 +168,17 @@ public class ScalarWebChannel {
         }
     }
 
+    /**
+     * Creates a copy of the web channel (the properties of the copy can be changed without affecting this channel)
+     *
+     * @return a non-null copy of the web channel
+     */
+    public ScalarWebChannel copy() {
+        final ScalarWebChannel copy = new ScalarWebChannel(service, category, id, paths);
+        copy.properties.putAll(properties);
+        return copy;
+    }
+
     /**
      * Gets the service identifier
      *
@@ -12,31 +12,36 @@
  */
 package org.openhab.binding.sony.internal.scalarweb;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.ChannelUID;
 
 /**
- * This class will track what channels have been linked by category
+ * This class will track what channels have been linked by category.
+ *
+ * Linking/unlinking is rare compared to the lookups done on every refresh and event, so the tracker publishes an
+ * immutable snapshot on every change (copy-on-write). Lookups read the current snapshot without locking and return
+ * precomputed (or memoized) unmodifiable sets. Categories and channel ids are matched case insensitively.
  *
  * @author Tim Roberts - Initial contribution
  */
 @NonNullByDefault
 public class ScalarWebChannelTracker {
-    /** The lock used to control access to the state */
-    private final ReadWriteLock linkLock = new ReentrantReadWriteLock();
+    /** The lock used to serialize writers (readers never lock) */
+    private final Object writeLock = new Object();
 
-    /** The channel categories that have been linked to which web channels */
-    private final Map<String, Set<ScalarWebChannel>> linkedChannelIds = new HashMap<>();
+    /** The current snapshot of linked channels */
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap());
 
     /**
      * Notification that a channel has been linked
@@ -46,17 +51,10 @@ public class ScalarWebChannelTracker {
     public void channelLinked(final ScalarWebChannel channel) {
         Objects.requireNonNull(channel, "channel cannot be null");
 
-        final Lock writeLock = linkLock.writeLock();
-        writeLock.lock();
-        try {
-            Set<ScalarWebChannel> channels = linkedChannelIds.get(channel.getCategory());
-            if (channels == null) {
-                channels = new HashSet<>();
-                linkedChannelIds.put(channel.getCategory(), channels);
-            }
-            channels.add(channel);
-        } finally {
-            writeLock.unlock();
+        synchronized (writeLock) {
+            final Map<String, Set<ScalarWebChannel>> linkedChannels = snapshot.copyCategories();
+            linkedChannels.computeIfAbsent(normalize(channel.getCategory()), k -> new HashSet<>()).add(channel);
+            snapshot = new Snapshot(linkedChannels);
         }
     }
 
@@ -69,25 +67,23 @@ public class ScalarWebChannelTracker {
     public boolean channelUnlinked(final ChannelUID channelUID) {
         Objects.requireNonNull(channelUID, "channelUID cannot be null");
 
-        final Lock writeLock = linkLock.writeLock();
-        writeLock.lock();
-        try {
-            final String channelId = channelUID.getId();
-
-            boolean found = false;
-            for (final String id : new HashSet<String>(linkedChannelIds.keySet())) {
-                final Set<ScalarWebChannel> channels = linkedChannelIds.get(id);
-                if (channels.removeIf(ch -> ch.getChannelId().equalsIgnoreCase(channelId))) {
-                    found = true;
-                    if (channels.isEmpty()) {
-                        linkedChannelIds.remove(id);
-                    }
-                    break;
+        synchronized (writeLock) {
+            final @Nullable ScalarWebChannel channel = snapshot.byChannelId.get(normalize(channelUID.getId()));
+            if (channel == null) {
+                return false;
+            }
+
+            final Map<String, Set<ScalarWebChannel>> linkedChannels = snapshot.copyCategories();
+            final String ctgy = normalize(channel.getCategory());
+            final @Nullable Set<ScalarWebChannel> channels = linkedChannels.get(ctgy);
+            if (channels != null) {
+                channels.remove(channel);
+                if (channels.isEmpty()) {
+                    linkedChannels.remove(ctgy);
                 }
             }
-            return found;
-        } finally {
-            writeLock.unlock();
+            snapshot = new Snapshot(linkedChannels);
+            return true;
         }
     }
 
@@ -99,22 +95,7 @@ public class ScalarWebChannelTracker {
      */
     public boolean isLinked(final ScalarWebChannel channel) {
         Objects.requireNonNull(channel, "channel cannot be null");
-
-        final Lock readLock = linkLock.readLock();
-        readLock.lock();
-        try {
-            final String channelId = channel.getChannelId();
-            for (final Set<ScalarWebChannel> chnls : linkedChannelIds.values()) {
-                for (final ScalarWebChannel chnl : chnls) {
-                    if (chnl.getChannelId().equalsIgnoreCase(channelId)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
-        } finally {
-            readLock.unlock();
-        }
+        return snapshot.byChannelId.containsKey(normalize(channel.getChannelId()));
     }
 
     /**
@@ -124,40 +105,41 @@ public class ScalarWebChannelTracker {
      * @return true if linked, false otherwise
      */
     public boolean isCategoryLinked(final String... categories) {
-        final Lock readLock = linkLock.readLock();
-        readLock.lock();
-        try {
-            for (final String ctgy : categories) {
-                if (linkedChannelIds.containsKey(ctgy)) {
-                    return true;
-                }
+        final Snapshot localSnapshot = snapshot;
+        for (final String ctgy : categories) {
+            if (localSnapshot.byCategory.containsKey(normalize(ctgy))) {
+                return true;
             }
-            return false;
-        } finally {
-            readLock.unlock();
         }
+        return false;
+    }
+
+    /**
+     * Checks if any channel category starting with the prefix has been linked
+     *
+     * @param prefix the non-null, possibly empty category prefix
+     * @return true if linked, false otherwise
+     */
+    public boolean isCategoryPrefixLinked(final String prefix) {
+        Objects.requireNonNull(prefix, "prefix cannot be null");
+        return !getLinkedChannelsForCategoryPrefix(prefix).isEmpty();
     }
 
     /**
-     * Checks if any of the channel category has been linked based on a filter
+     * Checks if any of the channel category has been linked based on a filter. Note: prefer
+     * {@link #isCategoryPrefixLinked(String)} for prefix filters since that lookup is indexed.
      *
      * @param ctgyFilter the non-null filter to use
      * @return true if linked, false otherwise
      */
     public boolean isCategoryLinked(final Parms ctgyFilter) {
         Objects.requireNonNull(ctgyFilter, "ctgyFilter cannot be null");
-        final Lock readLock = linkLock.readLock();
-        readLock.lock();
-        try {
-            for (final String ctgy : linkedChannelIds.keySet()) {
-                if (ctgyFilter.isMatch(ctgy)) {
-                    return true;
-                }
+        for (final String ctgy : snapshot.byCategory.keySet()) {
+            if (ctgyFilter.isMatch(ctgy)) {
+                return true;
             }
-            return false;
-        } finally {
-            readLock.unlock();
         }
+        return false;
     }
 
     /**
@@ -167,46 +149,70 @@ public class ScalarWebChannelTracker {
      * @return the non-null, possibly empty unmodifiable list of linked channels
      */
     public Set<ScalarWebChannel> getLinkedChannelsForCategory(final String... categories) {
-        final Lock readLock = linkLock.readLock();
-        readLock.lock();
-        try {
+        final Snapshot localSnapshot = snapshot;
+        if (categories.length == 1) {
+            final @Nullable Set<ScalarWebChannel> channels = localSnapshot.byCategory.get(normalize(categories[0]));
+            return channels == null ? Collections.emptySet() : channels;
+        }
+
+        return localSnapshot.multiCategoryMemo.computeIfAbsent(Arrays.asList(categories), k -> {
             final Set<ScalarWebChannel> channels = new HashSet<>();
-            for (final String ctgy : categories) {
-                final Set<ScalarWebChannel> ctgyChannels = linkedChannelIds.get(ctgy);
+            for (final String ctgy : k) {
+                final @Nullable Set<ScalarWebChannel> ctgyChannels = localSnapshot.byCategory.get(normalize(ctgy));
                 if (ctgyChannels != null) {
                     channels.addAll(ctgyChannels);
                 }
             }
             return Collections.unmodifiableSet(channels);
-        } finally {
-            readLock.unlock();
-        }
+        });
     }
 
     /**
-     * Gets the linked channels for any category that passes the filter
+     * Gets the linked channels for any category that starts with the prefix
      *
-     * @param ctgyFilter the non-null filter to use
+     * @param prefix the non-null, possibly empty category prefix
      * @return the non-null, possibly empty unmodifiable list of linked channels
      */
-    public Set<ScalarWebChannel> getLinkedChannelsForCategory(final Parms ctgyFilter) {
-        Objects.requireNonNull(ctgyFilter, "ctgyFilter cannot be null");
-        final Lock readLock = linkLock.readLock();
-        readLock.lock();
-        try {
+    public Set<ScalarWebChannel> getLinkedChannelsForCategoryPrefix(final String prefix) {
+        Objects.requireNonNull(prefix, "prefix cannot be null");
+        final Snapshot localSnapshot = snapshot;
+        return localSnapshot.prefixMemo.computeIfAbsent(normalize(prefix), k -> {
             final Set<ScalarWebChannel> channels = new HashSet<>();
-            for (final Map.Entry<String, Set<ScalarWebChannel>> entry : linkedChannelIds.entrySet()) {
-                if (ctgyFilter.isMatch(entry.getKey())) {
-                    final Set<ScalarWebChannel> ctgyChannels = entry.getValue();
-                    if (ctgyChannels != null) {
-                        channels.addAll(ctgyChannels);
-                    }
+            for (final Map.Entry<String, Set<ScalarWebChannel>> entry : localSnapshot.byCategory.entrySet()) {
+                if (entry.getKey().startsWith(k)) {
+                    channels.addAll(entry.getValue());
                 }
             }
             return Collections.unmodifiableSet(channels);
-        } finally {
-            readLock.unlock();
+        });
+    }
+
+    /**
+     * Gets the linked channels for any category that passes the filter. Note: prefer
+     * {@link #getLinkedChannelsForCategoryPrefix(String)} for prefix filters since that lookup is indexed.
+     *
+     * @param ctgyFilter the non-null filter to use
+     * @return the non-null, possibly empty unmodifiable list of linked channels
+     */
+    public Set<ScalarWebChannel> getLinkedChannelsForCategory(final Parms ctgyFilter) {
+        Objects.requireNonNull(ctgyFilter, "ctgyFilter cannot be null");
+        final Set<ScalarWebChannel> channels = new HashSet<>();
+        for (final Map.Entry<String, Set<ScalarWebChannel>> entry : snapshot.byCategory.entrySet()) {
+            if (ctgyFilter.isMatch(entry.getKey())) {
+                channels.addAll(entry.getValue());
+            }
         }
+        return Collections.unmodifiableSet(channels);
+    }
+
+    /**
+     * Helper method to normalize a category or channel id for lookups
+     *
+     * @param key a non-null key
+     * @return a non-null normalized key
+     */
+    private static String normalize(final String key) {
+        return key.toLowerCase();
     }
 
     /**
@@ -222,4 +228,54 @@ public class ScalarWebChannelTracker {
          */
         boolean isMatch(String ctgy);
     }
+
+    /**
+     * An immutable snapshot of the linked channels with precomputed indexes. The memos are scoped to the snapshot
+     * and are simply discarded when a new snapshot is published.
+     */
+    @NonNullByDefault
+    private static class Snapshot {
+        /** The unmodifiable channel sets by normalized category */
+        private final Map<String, Set<ScalarWebChannel>> byCategory;
+
+        /** The channels by normalized channel id */
+        private final Map<String, ScalarWebChannel> byChannelId;
+
+        /** The memoized channel sets by normalized category prefix */
+        private final Map<String, Set<ScalarWebChannel>> prefixMemo = new ConcurrentHashMap<>();
+
+        /** The memoized channel sets for multiple category lookups */
+        private final Map<List<String>, Set<ScalarWebChannel>> multiCategoryMemo = new ConcurrentHashMap<>();
+
+        /**
+         * Constructs the snapshot from the linked channels by normalized category
+         *
+         * @param linkedChannels a non-null, possibly empty map of channels by normalized category
+         */
+        private Snapshot(final Map<String, Set<ScalarWebChannel>> linkedChannels) {
+            final Map<String, Set<ScalarWebChannel>> categories = new HashMap<>();
+            final Map<String, ScalarWebChannel> channelIds = new HashMap<>();
+            for (final Map.Entry<String, Set<ScalarWebChannel>> entry : linkedChannels.entrySet()) {
+                categories.put(entry.getKey(), Collections.unmodifiableSet(new HashSet<>(entry.getValue())));
+                for (final ScalarWebChannel chnl : entry.getValue()) {
+                    channelIds.put(normalize(chnl.getChannelId()), chnl);
+                }
+            }
+            this.byCategory = Collections.unmodifiableMap(categories);
+            this.byChannelId = Collections.unmodifiableMap(channelIds);
+        }
+
+        /**
+         * Creates a mutable copy of the channels by category (used by writers to build the next snapshot)
+         *
+         * @return a non-null, possibly empty mutable copy
+         */
+        private Map<String, Set<ScalarWebChannel>> copyCategories() {
+            final Map<String, Set<ScalarWebChannel>> copy = new HashMap<>();
+            for (final Map.Entry<String, Set<ScalarWebChannel>> entry : byCategory.entrySet()) {
+                copy.put(entry.getKey(), new HashSet<>(entry.getValue()));
+            }
+            return copy;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.scalarweb;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.Command;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class will coalesce commands sent to a channel. For each channel, at most one command will be in-flight (being
+ * sent to the device) and at most one command will be pending. A command that arrives while another is in-flight will
+ * replace any pending command (latest wins) and will be sent by the thread that is processing the in-flight command
+ * once that command completes. This allows a rapid series of slider updates to collapse to a handful of requests.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+public class ScalarWebCommandCoalescer {
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(ScalarWebCommandCoalescer.class);
+
+    /** The slots by channel id */
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Submits a command for the given channel. If no command is in-flight for the channel, the command will be executed
+     * on the calling thread (as well as any command that arrives while it executes). If a command is in-flight, the
+     * command will replace any pending command and this method will return immediately.
+     *
+     * @param channelId a non-null, non-empty channel id
+     * @param command a non-null command (used for logging)
+     * @param action a non-null action that will send the command
+     */
+    public void submit(final String channelId, final Command command, final Runnable action) {
+        Objects.requireNonNull(channelId, "channelId cannot be null");
+        Objects.requireNonNull(command, "command cannot be null");
+        Objects.requireNonNull(action, "action cannot be null");
+
+        final Slot slot = slots.computeIfAbsent(channelId, k -> new Slot());
+        synchronized (slot) {
+            if (slot.inFlight) {
+                final @Nullable PendingCommand pending = slot.pending;
+                if (pending != null) {
+                    logger.trace("Command {} for {} superseded by {}", pending.command, channelId, command);
+                }
+                slot.pending = new PendingCommand(command, action);
+                return;
+            }
+            slot.inFlight = true;
+        }
+
+        @Nullable Runnable next = action;
+        while (next != null) {
+            try {
+                next.run();
+            } catch (final RuntimeException e) {
+                logger.debug("Exception sending command for {}: {}", channelId, e.getMessage(), e);
+            }
+
+            synchronized (slot) {
+                final @Nullable PendingCommand pending = slot.pending;
+                slot.pending = null;
+                if (pending == null) {
+                    slot.inFlight = false;
+                    next = null;
+                } else {
+                    logger.trace("Sending latest pending command for {}: {}", channelId, pending.command);
+                    next = pending.action;
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards any pending commands (in-flight commands will complete normally)
+     */
+    public void clear() {
+        for (final Slot slot : slots.values()) {
+            synchronized (slot) {
+                slot.pending = null;
+            }
+        }
+    }
+
+    /**
+     * The per-channel state of the coalescer (guarded by synchronizing on the slot)
+     */
+    private static class Slot {
+        /** Whether a command is currently being sent */
+        private boolean inFlight;
+
+        /** The latest command waiting to be sent */
+        private @Nullable PendingCommand pending;
+    }
+
+    /**
+     * A command waiting to be sent
+     */
+    private static class PendingCommand {
+        /** The command (for logging) */
+        private final Command command;
+
+        /** The action that sends the command */
+        private final Runnable action;
+
+        /**
+         * Constructs the pending command
+         *
+         * @param command a non-null command
+         * @param action a non-null action
+         */
+        private PendingCommand(final Command command, final Runnable action) {
+            this.command = command;
+            this.action = action;
+        }
+    }
+}
@@ -44,6 +44,12 @@ public class ScalarWebConfig extends AbstractConfig {
     /** Flag for configurable presets */
     private @Nullable Boolean configurablePresets;
 
+    /** The gap (in milliseconds) between IRCC keys sent in a sequence (null for default) */
+    private @Nullable Integer irccKeyGap;
+
+    /** The interval (in milliseconds) extrapolated clocks are published at (0 to disable, null for default) */
+    private @Nullable Integer clockInterval;
+
     // ---- the following properties are not part of the config.xml (and are properties) ----
 
     /** The commands map file */
@@ -181,6 +187,42 @@ public class ScalarWebConfig extends AbstractConfig {
         this.configurablePresets = configurablePresets;
     }
 
+    /**
+     * Gets the gap (in milliseconds) between IRCC keys sent in a sequence
+     *
+     * @return the key gap or null for the default
+     */
+    public @Nullable Integer getIrccKeyGap() {
+        return irccKeyGap;
+    }
+
+    /**
+     * Sets the gap (in milliseconds) between IRCC keys sent in a sequence
+     *
+     * @param irccKeyGap the key gap (or null for the default)
+     */
+    public void setIrccKeyGap(final @Nullable Integer irccKeyGap) {
+        this.irccKeyGap = irccKeyGap;
+    }
+
+    /**
+     * Gets the interval (in milliseconds) extrapolated clocks (ie playback position, current time) are published at
+     *
+     * @return the interval (0 if disabled) or null for the default
+     */
+    public @Nullable Integer getClockInterval() {
+        return clockInterval;
+    }
+
+    /**
+     * Sets the interval (in milliseconds) extrapolated clocks (ie playback position, current time) are published at
+     *
+     * @param clockInterval the interval (0 to disable) or null for the default
+     */
+    public void setClockInterval(final @Nullable Integer clockInterval) {
+        this.clockInterval = clockInterval;
+    }
+
     @Override
     public Map<String, Object> asProperties() {
         final Map<String, Object> props = super.asProperties();
@@ -193,6 +235,8 @@ public class ScalarWebConfig extends AbstractConfig {
         conditionallyAddProperty(props, "irccUrl", irccUrl);
         conditionallyAddProperty(props, "modelName", modelName);
         conditionallyAddProperty(props, "configurablePresets", configurablePresets);
+        conditionallyAddProperty(props, "irccKeyGap", irccKeyGap);
+        conditionallyAddProperty(props, "clockInterval", clockInterval);
 
         return props;
     }
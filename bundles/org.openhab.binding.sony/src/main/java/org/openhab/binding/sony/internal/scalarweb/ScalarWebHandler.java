@@ -15,10 +15,14 @@ package org.openhab.binding.sony.internal.scalarweb;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -47,6 +51,7 @@ import org.openhab.binding.sony.internal.scalarweb.protocols.ScalarWebProtocol;
 import org.openhab.binding.sony.internal.scalarweb.protocols.ScalarWebProtocolFactory;
 import org.openhab.binding.sony.internal.scalarweb.protocols.ScalarWebSystemProtocol;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -57,6 +62,7 @@ import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.type.ChannelKind;
+import org.openhab.core.thing.type.ChannelTypeUID;
 import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
@@ -94,6 +100,16 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
     private final AtomicReference<@Nullable ScalarWebProtocolFactory<ThingCallback<String>>> protocolFactory = new AtomicReference<>(
             null);
 
+    /**
+     * The version of the channel set/protocol factory the routing table must match (incremented on changes)
+     */
+    private final AtomicLong routingVersion = new AtomicLong(0);
+
+    /**
+     * The routing table of channel UIDs to scalar channels/protocols - will be null until the first command
+     */
+    private final AtomicReference<@Nullable ChannelRoutes> channelRoutes = new AtomicReference<>(null);
+
     /**
      * The thing callback
      */
@@ -134,6 +150,16 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
      */
     private final Map<String, String> osgiProperties;
 
+    /**
+     * The coalescer for numeric (slider) commands
+     */
+    private final ScalarWebCommandCoalescer commandCoalescer = new ScalarWebCommandCoalescer();
+
+    /**
+     * The channel type ids whose commands should not be coalesced
+     */
+    private final Set<String> noCoalesceChannelTypes;
+
     /**
      * Constructs the web handler
      *
@@ -164,6 +190,9 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
         this.sonyDefinitionProvider = sonyDefinitionProvider;
         this.sonyDynamicStateProvider = sonyDynamicStateProvider;
         this.osgiProperties = osgiProperties;
+        this.noCoalesceChannelTypes = Arrays
+                .stream(SonyUtil.defaultIfEmpty(osgiProperties.get("command-nocoalesce"), "").split(","))
+                .map(String::trim).filter(e -> !e.isEmpty()).map(String::toLowerCase).collect(Collectors.toSet());
 
         callback = new ThingCallback<String>() {
             @Override
@@ -194,7 +223,8 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
                 // Update the discovered model name if found
                 if (propertyName.equals(ScalarWebConstants.PROP_MODEL) && propertyValue != null
                         && !propertyValue.isEmpty()) {
-                    final ScalarWebConfig swConfig = getSonyConfig();
+                    // get a copy since the configuration snapshot must not be modified
+                    final ScalarWebConfig swConfig = getConfigAs(ScalarWebConfig.class);
                     swConfig.setDiscoveredModelName(propertyValue);
 
                     final Configuration config = getConfig();
@@ -226,9 +256,9 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
         Objects.requireNonNull(channelUID, "channelUID cannot be null");
         Objects.requireNonNull(command, "command cannot be null");
 
-        final Channel channel = getThing().getChannel(channelUID.getId());
-        if (channel != null) {
-            final ScalarWebChannel scalarChannel = new ScalarWebChannel(channelUID, channel);
+        final ChannelRoute route = getChannelRoute(channelUID);
+        if (route != null) {
+            final ScalarWebChannel scalarChannel = route.scalarChannel;
             if (scalarChannel.getService().equals(ScalarWebService.SYSTEM)
                     && scalarChannel.getCategory().equals(ScalarWebSystemProtocol.POWERSTATUS)) {
                 if (command instanceof OnOffType) {
@@ -255,33 +285,88 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
         Objects.requireNonNull(channelUID, "channelUID cannot be null");
         Objects.requireNonNull(command, "command cannot be null");
 
-        final Channel channel = getThing().getChannel(channelUID.getId());
-        if (channel == null) {
+        final ChannelRoute route = getChannelRoute(channelUID);
+        if (route == null) {
             logger.debug("Channel for {} could not be found", channelUID);
             return;
         }
-        final ScalarWebChannel scalarChannel = new ScalarWebChannel(channelUID, channel);
+        final Channel channel = route.channel;
 
-        final ScalarWebProtocolFactory<ThingCallback<String>> localProtocolFactory = protocolFactory.get();
-        if (localProtocolFactory == null) {
+        // the routed channel is shared across commands - protocols may change the properties of the channel
+        final ScalarWebChannel scalarChannel = route.scalarChannel.copy();
+
+        if (protocolFactory.get() == null) {
             logger.debug("Trying to handle a channel command before a protocol factory has been created");
             return;
         }
 
-        final ScalarWebProtocol<ThingCallback<String>> protocol = localProtocolFactory
-                .getProtocol(scalarChannel.getService());
+        final ScalarWebProtocol<ThingCallback<String>> protocol = route.protocol;
         if (protocol == null) {
             logger.debug("Unknown channel service: {} for {} and command {}", scalarChannel.getService(), channelUID,
                     command);
         } else {
             if (command instanceof RefreshType) {
                 protocol.refreshChannel(scalarChannel);
+            } else if (isCoalesced(channel, command)) {
+                commandCoalescer.submit(channelUID.getId(), command, () -> protocol.setChannel(scalarChannel, command));
             } else {
                 protocol.setChannel(scalarChannel, command);
             }
         }
     }
 
+    /**
+     * Helper method to get the route for a channel UID. The routing table is (re)built if the channels or the protocol
+     * factory have changed since it was last built.
+     *
+     * @param channelUID a non-null channel UID
+     * @return the route for the channel UID or null if the channel was not found (or is not a valid scalar channel)
+     */
+    private @Nullable ChannelRoute getChannelRoute(final ChannelUID channelUID) {
+        Objects.requireNonNull(channelUID, "channelUID cannot be null");
+
+        final long version = routingVersion.get();
+        ChannelRoutes routes = channelRoutes.get();
+        if (routes == null || routes.version != version) {
+            routes = new ChannelRoutes(version, getThing().getChannels(), protocolFactory.get());
+            channelRoutes.set(routes);
+        }
+        return routes.routes.get(channelUID);
+    }
+
+    /**
+     * Helper method to invalidate the routing table (will be rebuilt on the next command)
+     */
+    private void invalidateChannelRoutes() {
+        routingVersion.incrementAndGet();
+    }
+
+    @Override
+    protected void updateThing(final Thing thing) {
+        super.updateThing(thing);
+        invalidateChannelRoutes();
+    }
+
+    /**
+     * Helper method to determine if a command should be coalesced. Only numeric commands (usually from sliders) are
+     * coalesced unless the channel type has been excluded via the "command-nocoalesce" property.
+     *
+     * @param channel a non-null channel
+     * @param command a non-null command
+     * @return true if the command should be coalesced, false otherwise
+     */
+    private boolean isCoalesced(final Channel channel, final Command command) {
+        Objects.requireNonNull(channel, "channel cannot be null");
+        Objects.requireNonNull(command, "command cannot be null");
+
+        if (!(command instanceof DecimalType)) {
+            return false;
+        }
+
+        final ChannelTypeUID channelTypeUID = channel.getChannelTypeUID();
+        return channelTypeUID == null || !noCoalesceChannelTypes.contains(channelTypeUID.getId().toLowerCase());
+    }
+
     @Override
     protected void connect() {
         final ScalarWebConfig config = getSonyConfig();
@@ -346,6 +431,7 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
                 SonyUtil.checkInterrupt();
 
                 SonyUtil.close(protocolFactory.getAndSet(factory));
+                invalidateChannelRoutes();
                 updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE);
 
                 // add already linked channels to the tracker to enable state refresh
@@ -531,7 +617,9 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
     public void dispose() {
         super.dispose();
         sonyDefinitionProvider.removeListener(definitionListener);
+        commandCoalescer.clear();
         SonyUtil.close(protocolFactory.getAndSet(null));
+        invalidateChannelRoutes();
         SonyUtil.close(scalarClient.getAndSet(null));
     }
 
@@ -552,4 +640,71 @@ public class ScalarWebHandler extends AbstractThingHandler<ScalarWebConfig> {
             }
         }
     }
+
+    /**
+     * An immutable routing table of channel UIDs to their scalar channel and protocol
+     */
+    @NonNullByDefault
+    private class ChannelRoutes {
+        /** The routing version this table was built for */
+        private final long version;
+
+        /** The routes by channel UID */
+        private final Map<ChannelUID, ChannelRoute> routes;
+
+        /**
+         * Builds the routing table from the channels and the protocol factory
+         *
+         * @param version the routing version
+         * @param channels a non-null, possibly empty list of channels
+         * @param factory a possibly null protocol factory (if null, no protocols will be resolved)
+         */
+        private ChannelRoutes(final long version, final List<Channel> channels,
+                final @Nullable ScalarWebProtocolFactory<ThingCallback<String>> factory) {
+            Objects.requireNonNull(channels, "channels cannot be null");
+
+            final Map<ChannelUID, ChannelRoute> localRoutes = new HashMap<>();
+            for (final Channel channel : channels) {
+                try {
+                    final ScalarWebChannel scalarChannel = new ScalarWebChannel(channel.getUID(), channel);
+                    localRoutes.put(channel.getUID(), new ChannelRoute(channel, scalarChannel,
+                            factory == null ? null : factory.getProtocol(scalarChannel.getService())));
+                } catch (final IllegalArgumentException e) {
+                    logger.debug("Channel {} is not a valid scalar web channel: {}", channel.getUID(), e.getMessage());
+                }
+            }
+
+            this.version = version;
+            this.routes = Collections.unmodifiableMap(localRoutes);
+        }
+    }
+
+    /**
+     * The route of a single channel
+     */
+    @NonNullByDefault
+    private class ChannelRoute {
+        /** The thing channel */
+        private final Channel channel;
+
+        /** The scalar channel (prebuilt from the channel properties) */
+        private final ScalarWebChannel scalarChannel;
+
+        /** The protocol handling the channel (null if not resolved) */
+        private final @Nullable ScalarWebProtocol<ThingCallback<String>> protocol;
+
+        /**
+         * Constructs the route
+         *
+         * @param channel a non-null channel
+         * @param scalarChannel a non-null scalar channel
+         * @param protocol a possibly null protocol
+         */
+        private ChannelRoute(final Channel channel, final ScalarWebChannel scalarChannel,
+                final @Nullable ScalarWebProtocol<ThingCallback<String>> protocol) {
+            this.channel = channel;
+            this.scalarChannel = scalarChannel;
+            this.protocol = protocol;
+        }
+    }
 }
@@ -12,11 +12,14 @@
  */
 package org.openhab.binding.sony.internal.scalarweb.models;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -184,6 +187,9 @@ public class ScalarWebMethod {
     /** The method version */
     private final int variation;
 
+    /** The lazily computed content fingerprint (see {@link #getFingerprint()}) */
+    private transient volatile @Nullable String fingerprint;
+
     // The comparator to compare scalar web methods
     public static final Comparator<ScalarWebMethod> COMPARATOR = Comparator
             .comparing((final ScalarWebMethod e) -> e.getMethodName()).thenComparing(e -> e.getVersion());
@@ -269,6 +275,43 @@ public class ScalarWebMethod {
         return variation;
     }
 
+    /**
+     * Gets the content fingerprint of the method. The fingerprint is order and case insensitive and covers the method
+     * name, version, parameters and return values (but not the variation) - two methods with the same fingerprint
+     * will match each other. The fingerprint is computed once (the method is immutable).
+     *
+     * @return a non-null, non-empty fingerprint
+     */
+    public String getFingerprint() {
+        String localFingerprint = fingerprint;
+        if (localFingerprint == null) {
+            final List<@Nullable String> parts = new ArrayList<>();
+            parts.add(methodName.toLowerCase());
+            parts.add(version.toLowerCase());
+            addFingerprintSet(parts, parms);
+            addFingerprintSet(parts, retVals);
+            localFingerprint = SonyUtil.createFingerprint(parts);
+            fingerprint = localFingerprint;
+        }
+        return localFingerprint;
+    }
+
+    /**
+     * Helper method to add a list (treated as a case insensitive set) to the fingerprint parts. The number of distinct
+     * (case sensitive) values is included since sets that only differ by case in size do not match.
+     *
+     * @param parts a non-null list of fingerprint parts to add to
+     * @param values a possibly null list of values
+     */
+    private static void addFingerprintSet(final List<@Nullable String> parts, final @Nullable List<String> values) {
+        final Set<@Nullable String> distinct = values == null ? Collections.emptySet() : new HashSet<>(values);
+        final TreeSet<String> lower = new TreeSet<>();
+        distinct.forEach(v -> lower.add(v == null ? "" : v.toLowerCase()));
+        parts.add(String.valueOf(distinct.size()));
+        parts.add(String.valueOf(lower.size()));
+        parts.addAll(lower);
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder(100);
@@ -17,13 +17,15 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -77,14 +79,11 @@ class ScalarWebAppControlProtocol<T extends ThingCallback<String>> extends Abstr
     private static final int APPLISTINTERVAL = 60000;
     private static final int ACTIVEAPPINTERVAL = 10000;
 
-    /** The lock used to modify app information */
+    /** The lock used to refresh the app catalogue */
     private final Lock appListLock = new ReentrantLock();
 
-    /** The last time the app list was accessed */
-    private long appListLastTime = 0;
-
-    /** The applications */
-    private final List<ApplicationList> apps = new CopyOnWriteArrayList<ApplicationList>();
+    /** The app catalogue (replaced as a whole on each refresh) */
+    private volatile AppCatalog appCatalog = new AppCatalog(Collections.emptyList(), 0);
 
     /** The lock used to access activeApp */
     private final Lock webAppStatusLock = new ReentrantLock();
@@ -194,52 +193,90 @@ class ScalarWebAppControlProtocol<T extends ThingCallback<String>> extends Abstr
 
     @Override
     public void refreshState(boolean initial) {
-        final Set<ScalarWebChannel> appChannels = getChannelTracker().getLinkedChannelsForCategory(APPTITLE, APPICON,
-                APPDATA, APPSTATUS, TEXTFORM, STATUS);
-        for (final ScalarWebChannel chl : appChannels) {
-            refreshChannel(chl);
-        }
+        refreshChannels(getChannelTracker().getLinkedChannelsForCategory(APPTITLE, APPICON, APPDATA, APPSTATUS,
+                TEXTFORM, STATUS));
     }
 
     @Override
     public void refreshChannel(final ScalarWebChannel channel) {
         Objects.requireNonNull(channel, "channel cannot be null");
+        refreshChannels(Collections.singleton(channel));
+    }
+
+    /**
+     * Refreshes the channels from a single fetch of the app catalogue, the web app status and the application status
+     * list (each only fetched if needed by a channel)
+     *
+     * @param channels a non-null, possibly empty collection of channels
+     */
+    private void refreshChannels(final Collection<ScalarWebChannel> channels) {
+        Objects.requireNonNull(channels, "channels cannot be null");
+        if (channels.isEmpty()) {
+            return;
+        }
+
+        final Set<String> ctgys = channels.stream().map(c -> c.getCategory()).collect(Collectors.toSet());
+        final AppCatalog catalog = getAppCatalog();
+        final @Nullable WebAppStatus webAppStatus = ctgys.contains(APPSTATUS) ? getWebAppStatus() : null;
+        final @Nullable Map<String, Boolean> statuses = ctgys.contains(STATUS) ? getApplicationStatuses() : null;
+
+        for (final ScalarWebChannel channel : channels) {
+            final String ctgy = channel.getCategory();
+            final String channelId = channel.getChannelId();
+            if (TEXTFORM.equalsIgnoreCase(ctgy)) {
+                refreshTextForm(channelId);
+                continue;
+            }
 
-        final String ctgy = channel.getCategory();
-        if (TEXTFORM.equalsIgnoreCase(ctgy)) {
-            refreshTextForm(channel.getChannelId());
-        } else {
             final String[] paths = channel.getPaths();
             if (paths.length == 0) {
                 logger.debug("Refresh Channel path invalid: {}", channel);
-            } else {
-                final String target = paths[0];
+                continue;
+            }
 
-                switch (ctgy) {
-                    case APPTITLE:
-                        refreshAppTitle(channel.getChannelId(), target);
-                        break;
+            final String target = paths[0];
+            switch (ctgy) {
+                case APPTITLE: {
+                    final @Nullable ApplicationList app = catalog.get(target);
+                    if (app != null) {
+                        callback.stateChanged(channelId, SonyUtil.newStringType(app.getTitle()));
+                    }
+                    break;
+                }
 
-                    case APPICON:
-                        refreshAppIcon(channel.getChannelId(), target);
-                        break;
+                case APPICON: {
+                    final @Nullable ApplicationList app = catalog.get(target);
+                    if (app != null) {
+                        refreshAppIcon(channelId, app);
+                    }
+                    break;
+                }
 
-                    case APPDATA:
-                        refreshAppData(channel.getChannelId(), target);
-                        break;
+                case APPDATA: {
+                    final @Nullable ApplicationList app = catalog.get(target);
+                    if (app != null) {
+                        callback.stateChanged(channelId, SonyUtil.newStringType(app.getData()));
+                    }
+                    break;
+                }
 
-                    case APPSTATUS:
-                        refreshAppStatus(channel.getChannelId(), target);
-                        break;
+                case APPSTATUS: {
+                    final boolean active = webAppStatus != null && webAppStatus.isActive()
+                            && target.equalsIgnoreCase(webAppStatus.getUrl());
+                    callback.stateChanged(channelId, SonyUtil.newStringType(active ? START : STOP));
+                    break;
+                }
 
-                    case STATUS:
-                        refreshStatus(channel.getChannelId(), target);
-                        break;
+                case STATUS:
+                    if (statuses != null) {
+                        callback.stateChanged(channelId,
+                                Boolean.TRUE.equals(statuses.get(target.toLowerCase())) ? OnOffType.ON : OnOffType.OFF);
+                    }
+                    break;
 
-                    default:
-                        logger.debug("Unknown refresh channel: {}", channel);
-                        break;
-                }
+                default:
+                    logger.debug("Unknown refresh channel: {}", channel);
+                    break;
             }
         }
     }
@@ -276,132 +313,79 @@ class ScalarWebAppControlProtocol<T extends ThingCallback<String>> extends Abstr
      * @return the non-null, possibly empty unmodifiable list of applications
      */
     private List<ApplicationList> getApplications() {
-        appListLock.lock();
-        try {
-            final long now = System.currentTimeMillis();
-            if (appListLastTime + APPLISTINTERVAL < now) {
-                apps.clear();
-                apps.addAll(execute(ScalarWebMethod.GETAPPLICATIONLIST).asArray(ApplicationList.class));
-                appListLastTime = now;
-            }
-
-            return Collections.unmodifiableList(apps);
-        } catch (final IOException e) {
-            // already handled by execute
-            return Collections.unmodifiableList(apps);
-        } finally {
-            appListLock.unlock();
-        }
+        return getAppCatalog().getApps();
     }
 
     /**
-     * Gets the application list for the given URI
+     * Gets the app catalogue. Note that the catalogue is cached for {@link #APPLISTINTERVAL} milliseconds to prevent
+     * excessive retrieving of the application list (applications don't change that often!)
      *
-     * @param appUri the non-null, non-empty application URI
-     * @return the application list or null if none
+     * @return the non-null app catalogue
      */
-    private @Nullable ApplicationList getApplicationList(final String appUri) {
-        SonyUtil.validateNotEmpty(appUri, "appUri cannot be empty");
-        for (final ApplicationList app : getApplications()) {
-            if (appUri.equalsIgnoreCase(app.getUri())) {
-                return app;
-            }
+    private AppCatalog getAppCatalog() {
+        final long now = System.currentTimeMillis();
+        final AppCatalog catalog = appCatalog;
+        if (catalog.fetched + APPLISTINTERVAL >= now) {
+            return catalog;
         }
-        return null;
-    }
 
-    /**
-     * Refresh app title for the given URI
-     *
-     * @param channelId the non-null, non-empty channel ID
-     * @param appUri the non-null, non-empty application URI
-     */
-    private void refreshAppTitle(final String channelId, final String appUri) {
-        SonyUtil.validateNotEmpty(channelId, "channelId cannot be empty");
-        SonyUtil.validateNotEmpty(appUri, "appUri cannot be empty");
-        final ApplicationList app = getApplicationList(appUri);
-        if (app != null) {
-            callback.stateChanged(channelId, SonyUtil.newStringType(app.getTitle()));
+        appListLock.lock();
+        try {
+            if (appCatalog.fetched + APPLISTINTERVAL < now) {
+                appCatalog = new AppCatalog(
+                        execute(ScalarWebMethod.GETAPPLICATIONLIST).asArray(ApplicationList.class), now);
+            }
+        } catch (final IOException e) {
+            // already handled by execute - the prior catalogue is used until it can be retrieved
+        } finally {
+            appListLock.unlock();
         }
+        return appCatalog;
     }
 
     /**
-     * Refresh app icon for the given URI
+     * Gets the application statuses
      *
-     * @param channelId the non-null, non-empty channel ID
-     * @param appUri the non-null, non-empty application URI
+     * @return the non-null map of whether the status is on by lowercase status name or null if not retrievable
      */
-    private void refreshAppIcon(final String channelId, final String appUri) {
-        SonyUtil.validateNotEmpty(channelId, "channelId cannot be empty");
-        SonyUtil.validateNotEmpty(appUri, "appUri cannot be empty");
-        final ApplicationList app = getApplicationList(appUri);
-        if (app != null) {
-            final String iconUrl = app.getIcon();
-            if (iconUrl == null || iconUrl.isEmpty()) {
-                callback.stateChanged(channelId, UnDefType.UNDEF);
-            } else {
-                try (SonyHttpTransport transport = SonyTransportFactory.createHttpTransport(
-                        getService().getTransport().getBaseUri().toString(), getContext().getClientBuilder())) {
-                    final RawType rawType = NetUtil.getRawType(transport, iconUrl);
-                    callback.stateChanged(channelId, rawType == null ? UnDefType.UNDEF : rawType);
-                } catch (final URISyntaxException e) {
-                    logger.debug("Exception occurred getting application icon: {}", e.getMessage());
+    private @Nullable Map<String, Boolean> getApplicationStatuses() {
+        try {
+            final Map<String, Boolean> statuses = new HashMap<>();
+            for (final ApplicationStatusList status : execute(ScalarWebMethod.GETAPPLICATIONSTATUSLIST)
+                    .asArray(ApplicationStatusList.class)) {
+                final String name = status.getName();
+                if (name != null) {
+                    statuses.put(name.toLowerCase(), status.isOn());
                 }
             }
+            return statuses;
+        } catch (final IOException e) {
+            logger.debug("Exception getting application status list: {}", e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Refresh app data for the given URI
-     *
-     * @param channelId the non-null, non-empty channel ID
-     * @param appUri the non-null, non-empty application URI
-     */
-    private void refreshAppData(final String channelId, final String appUri) {
-        SonyUtil.validateNotEmpty(channelId, "channelId cannot be empty");
-        SonyUtil.validateNotEmpty(appUri, "appUri cannot be empty");
-        final ApplicationList app = getApplicationList(appUri);
-        if (app != null) {
-            callback.stateChanged(channelId, SonyUtil.newStringType(app.getData()));
-        }
-    }
-
-    /**
-     * Refresh app status for the given URI
+     * Refresh app icon for the given application
      *
      * @param channelId the non-null, non-empty channel ID
-     * @param appUri the non-null, non-empty application URI
+     * @param app the non-null application
      */
-    private void refreshAppStatus(final String channelId, final String appUri) {
+    private void refreshAppIcon(final String channelId, final ApplicationList app) {
         SonyUtil.validateNotEmpty(channelId, "channelId cannot be empty");
-        SonyUtil.validateNotEmpty(appUri, "appUri cannot be empty");
-        final WebAppStatus webAppStatus = getWebAppStatus();
-        callback.stateChanged(channelId,
-                webAppStatus != null && webAppStatus.isActive() && appUri.equalsIgnoreCase(webAppStatus.getUrl())
-                        ? SonyUtil.newStringType(START)
-                        : SonyUtil.newStringType(STOP));
-    }
+        Objects.requireNonNull(app, "app cannot be null");
 
-    /**
-     * Refresh status for the status name
-     *
-     * @param channelId the non-null, non-empty channel ID
-     * @param statusName the non-null, non-empty status name
-     */
-    private void refreshStatus(final String channelId, final String statusName) {
-        SonyUtil.validateNotEmpty(channelId, "channelId cannot be empty");
-        SonyUtil.validateNotEmpty(statusName, "statusName cannot be empty");
-        try {
-            final List<ApplicationStatusList> statuses = execute(ScalarWebMethod.GETAPPLICATIONSTATUSLIST)
-                    .asArray(ApplicationStatusList.class);
-            for (final ApplicationStatusList status : statuses) {
-                if (statusName.equalsIgnoreCase(status.getName())) {
-                    callback.stateChanged(channelId, status.isOn() ? OnOffType.ON : OnOffType.OFF);
-                }
+        final String iconUrl = app.getIcon();
+        if (iconUrl == null || iconUrl.isEmpty()) {
+            callback.stateChanged(channelId, UnDefType.UNDEF);
+        } else {
+            try (SonyHttpTransport transport = SonyTransportFactory.createHttpTransport(
+                    getService().getTransport().getBaseUri().toString(), getContext().getClientBuilder())) {
+                final RawType rawType = NetUtil.getRawType(transport, iconUrl);
+                callback.stateChanged(channelId, rawType == null ? UnDefType.UNDEF : rawType);
+            } catch (final URISyntaxException e) {
+                logger.debug("Exception occurred getting application icon: {}", e.getMessage());
             }
-            callback.stateChanged(channelId, OnOffType.OFF);
-        } catch (final IOException e) {
-            logger.debug("Exception getting application status list: {}", e.getMessage());
         }
     }
 
@@ -535,4 +519,64 @@ class ScalarWebAppControlProtocol<T extends ThingCallback<String>> extends Abstr
             handleExecute(ScalarWebMethod.TERMINATEAPPS);
         }
     }
+
+    /**
+     * An immutable catalogue of the applications indexed by (lowercase) uri and title
+     */
+    @NonNullByDefault
+    private static class AppCatalog {
+        /** The applications */
+        private final List<ApplicationList> apps;
+
+        /** The applications by lowercase uri */
+        private final Map<String, ApplicationList> byUri = new HashMap<>();
+
+        /** The applications by lowercase title */
+        private final Map<String, ApplicationList> byTitle = new HashMap<>();
+
+        /** The time (in milliseconds) the applications were fetched */
+        private final long fetched;
+
+        /**
+         * Constructs the catalogue
+         *
+         * @param apps a non-null, possibly empty list of applications
+         * @param fetched the time (in milliseconds) the applications were fetched
+         */
+        private AppCatalog(final List<ApplicationList> apps, final long fetched) {
+            this.apps = Collections.unmodifiableList(new ArrayList<>(apps));
+            this.fetched = fetched;
+            for (final ApplicationList app : apps) {
+                final String uri = app.getUri();
+                if (uri != null && !uri.isEmpty()) {
+                    byUri.putIfAbsent(uri.toLowerCase(), app);
+                }
+                final String title = app.getTitle();
+                if (title != null && !title.isEmpty()) {
+                    byTitle.putIfAbsent(title.toLowerCase(), app);
+                }
+            }
+        }
+
+        /**
+         * Gets the applications
+         *
+         * @return the non-null, possibly empty unmodifiable list of applications
+         */
+        private List<ApplicationList> getApps() {
+            return apps;
+        }
+
+        /**
+         * Gets the application for the uri (or, failing that, the title)
+         *
+         * @param uriOrTitle a non-null, non-empty application uri or title
+         * @return the application or null if none
+         */
+        private @Nullable ApplicationList get(final String uriOrTitle) {
+            final String key = uriOrTitle.toLowerCase();
+            final @Nullable ApplicationList app = byUri.get(key);
+            return app == null ? byTitle.get(key) : app;
+        }
+    }
 }
@@ -24,6 +24,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -79,6 +81,11 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
     private static final String VOLUME = "volume";
     private static final String DEFAULTKEY = "main";
 
+    // Constants used by the HDMI/CEC volume ramp
+    private static final int MAX_UNACKEDSTEPS = 3;
+    private static final int MAX_SLOWDOWN = 4;
+    private static final double MAX_UNITSPERSTEP = 5;
+
     /** The notifications that are enabled */
     private final NotificationHelper notificationHelper;
 
@@ -87,6 +94,9 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
     private final boolean forceHdmiCec;
     private final int cecDelay;
 
+    /** The HDMI/CEC volume ramps by output key (only one ramp per output is running) */
+    private final Map<String, VolumeRamp> volumeRamps = new ConcurrentHashMap<>();
+
     /**
      * Instantiates a new scalar web audio protocol.
      *
@@ -382,8 +392,15 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
          * level if connected
          */
         if (enableHdmiCec) {
+            // If a ramp is already running for the output, simply retarget it (no need to re-read the device)
+            final VolumeRamp ramp = volumeRamps.get(SonyUtil.defaultIfEmpty(key, DEFAULTKEY));
+            if (ramp != null && ramp.retarget(unscaled)) {
+                logger.debug("HDMI/CEC volume ramp for {} retargeted to {}", ramp.rampKey, unscaled);
+                return;
+            }
+
             try {
-                final Integer currVol = getVolume();
+                final Integer currVol = getVolume(key);
                 if (currVol == null) {
                     logger.debug("Unknown current volume level - can't increment hdmi audio");
                 } else {
@@ -411,11 +428,8 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
                     }
 
                     if (doIncrement) {
-                        final int maxIncr = Math.abs(currVol - unscaled);
-                        final boolean up = unscaled > currVol;
-                        logger.debug("HDMI/CEC incremental processing - sending {} ({}, {}) UP({})", maxIncr, currVol,
-                                unscaled, up);
-                        scheduleVolumeChange(key, up, 0, maxIncr);
+                        logger.debug("HDMI/CEC incremental processing - ramping from {} to {}", currVol, unscaled);
+                        startVolumeRamp(key, currVol, unscaled);
                         return;
                     }
                 }
@@ -438,28 +452,29 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
     }
 
     /**
-     * Get's the current volume level or null if none found
+     * Get's the current volume level for the specified target or null if none found
      * 
+     * @param key the non-null, possibly empty (default zone) key
      * @return the current volume level or none if not found
      * @throws IOException if an IOException occurs
      */
     @Nullable
-    private Integer getVolume() throws IOException {
+    private Integer getVolume(final String key) throws IOException {
+        Objects.requireNonNull(key, "key cannot be null");
+        final String rampKey = SonyUtil.defaultIfEmpty(key, DEFAULTKEY);
         final String version = getService().getVersion(ScalarWebMethod.GETVOLUMEINFORMATION);
         if (VersionUtilities.equals(version, ScalarWebMethod.V1_0)) {
             for (final VolumeInformation_1_0 vi : handleExecute(ScalarWebMethod.GETVOLUMEINFORMATION)
                     .asArray(VolumeInformation_1_0.class)) {
-                final @Nullable Integer vol = vi.getVolume();
-                if (vi != null) {
-                    return vol;
+                if (rampKey.equalsIgnoreCase(SonyUtil.defaultIfEmpty(vi.getTarget(), DEFAULTKEY))) {
+                    return vi.getVolume();
                 }
             }
         } else if (VersionUtilities.equals(version, ScalarWebMethod.V1_1)) {
             for (final VolumeInformation_1_1 vi : handleExecute(ScalarWebMethod.GETVOLUMEINFORMATION, new Output())
                     .asArray(VolumeInformation_1_1.class)) {
-                final Integer vol = vi.getVolume();
-                if (vi != null) {
-                    return vol;
+                if (rampKey.equalsIgnoreCase(SonyUtil.defaultIfEmpty(vi.getOutput(), DEFAULTKEY))) {
+                    return vi.getVolume();
                 }
             }
         } else {
@@ -469,33 +484,21 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
     }
 
     /**
-     * Will schedule a volume change after each delay
+     * Starts a new volume ramp for the specified target (cancelling any prior ramp for it)
      * 
-     * @param key a non-null, non-empty key to use
-     * @param up true to increment up, false to increment down
-     * @param ct the current increment count
-     * @param max the maximum increment count
+     * @param key the non-null, possibly empty (default zone) key
+     * @param currVol the current volume level
+     * @param target the target volume level
      */
-    private void scheduleVolumeChange(final String key, final boolean up, final int ct, final int max) {
-        SonyUtil.validateNotEmpty(key, "key cannot be empty");
-        if (ct < 0) {
-            throw new IllegalArgumentException("ct cannot be less than 0: " + ct);
-        }
-
-        if (max < 0) {
-            throw new IllegalArgumentException("max cannot be less than 0: " + max);
-        }
+    private void startVolumeRamp(final String key, final int currVol, final int target) {
+        Objects.requireNonNull(key, "key cannot be null");
 
-        if (ct >= max) {
-            logger.debug("HDMI/CEC increment is done: {} for {}", max, key);
-            return;
+        final VolumeRamp ramp = new VolumeRamp(key, currVol, target);
+        final VolumeRamp oldRamp = volumeRamps.put(ramp.rampKey, ramp);
+        if (oldRamp != null) {
+            oldRamp.cancel("replaced by a new ramp");
         }
-
-        getContext().getScheduler().schedule(() -> {
-            logger.debug("HDMI/CEC increment: {}/{} for {}", ct, max, key);
-            setVolume(key, up);
-            scheduleVolumeChange(key, up, ct + 1, max);
-        }, cecDelay, TimeUnit.MILLISECONDS);
+        ramp.schedule(0);
     }
 
     /**
@@ -503,19 +506,21 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
      *
      * @param key the non-null, possibly empty (default zone) key
      * @param up true to turn volume up by 1, false to turn volume down by 1
+     * @return true if the adjustment was sent successfully, false otherwise
      */
-    private void setVolume(final String key, final boolean up) {
+    private boolean setVolume(final String key, final boolean up) {
         Objects.requireNonNull(key, "key cannot be null");
         final String adj = up ? "+1" : "-1";
         final String version = getService().getVersion(ScalarWebMethod.SETAUDIOVOLUME);
         if (VersionUtilities.equals(version, ScalarWebMethod.V1_0)) {
-            handleExecute(ScalarWebMethod.SETAUDIOVOLUME, new AudioVolume_1_0(key, adj));
+            return !handleExecute(ScalarWebMethod.SETAUDIOVOLUME, new AudioVolume_1_0(key, adj)).isError();
         } else if (VersionUtilities.equals(version, ScalarWebMethod.V1_1)) {
-            handleExecute(ScalarWebMethod.SETAUDIOVOLUME, new AudioVolume_1_1(key, adj));
+            return !handleExecute(ScalarWebMethod.SETAUDIOVOLUME, new AudioVolume_1_1(key, adj)).isError();
         } else if (VersionUtilities.equals(version, ScalarWebMethod.V1_2)) {
-            handleExecute(ScalarWebMethod.SETAUDIOVOLUME, new AudioVolume_1_2(key, adj));
+            return !handleExecute(ScalarWebMethod.SETAUDIOVOLUME, new AudioVolume_1_2(key, adj)).isError();
         } else {
             logger.debug("Unknown {} method version: {}", ScalarWebMethod.SETAUDIOVOLUME, version);
+            return false;
         }
     }
 
@@ -561,6 +566,8 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
         Objects.requireNonNull(vi, "vi cannot be null");
         Objects.requireNonNull(channels, "channels cannot be null");
 
+        volumeObserved(vi.getTarget(), vi.getVolume());
+
         for (final ScalarWebChannel chnl : channels) {
             final String viKey = vi.getTarget();
             final String key = SonyUtil.defaultIfEmpty(viKey, DEFAULTKEY);
@@ -603,6 +610,8 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
         Objects.requireNonNull(vi, "vi cannot be null");
         Objects.requireNonNull(channels, "channels cannot be null");
 
+        volumeObserved(vi.getOutput(), vi.getVolume());
+
         for (final ScalarWebChannel chnl : channels) {
             final String viKey = vi.getOutput();
             final String key = SonyUtil.defaultIfEmpty(viKey, DEFAULTKEY);
@@ -635,4 +644,198 @@ class ScalarWebAudioProtocol<T extends ThingCallback<String>> extends AbstractSc
             }
         }
     }
+
+    /**
+     * Notifies any running volume ramp of the volume level reported by the device
+     * 
+     * @param viKey a possibly null, possibly empty volume information key
+     * @param vol a possibly null volume level
+     */
+    private void volumeObserved(final @Nullable String viKey, final @Nullable Integer vol) {
+        if (vol != null) {
+            final VolumeRamp ramp = volumeRamps.get(SonyUtil.defaultIfEmpty(viKey, DEFAULTKEY));
+            if (ramp != null) {
+                ramp.volumeObserved(vol);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        volumeRamps.values().forEach(r -> r.cancel("protocol closed"));
+        super.close();
+    }
+
+    /**
+     * This class represents a HDMI/CEC volume ramp for a single output. HDMI/CEC will only allow increment/decrement
+     * of the volume, so the ramp will send single steps (every {@link #cecDelay} ms or slower) until the target is
+     * reached. The target can be changed while the ramp is running and the ramp will stop as soon as a volume
+     * notification reports that the target has been reached. If volume notifications are enabled, the number of
+     * volume units per step and the delay between steps will adapt to what the device reports.
+     */
+    private class VolumeRamp {
+        /** The device key (empty for the default zone) */
+        private final String key;
+
+        /** The key used for the ramp map (never empty) */
+        private final String rampKey;
+
+        /** Whether the device acknowledges steps via volume notifications */
+        private final boolean trackAcks;
+
+        /** The target volume level */
+        private int target;
+
+        /** The estimated volume level of the device */
+        private double current;
+
+        /** The last volume level reported by the device */
+        private int ackedVolume;
+
+        /** The number of steps sent since the last report by the device */
+        private int unackedSteps;
+
+        /** The observed number of volume units the device moves per step */
+        private double unitsPerStep = 1;
+
+        /** The current delay (in ms) between steps */
+        private long delay = cecDelay;
+
+        /** Whether the ramp has finished (or was cancelled) */
+        private boolean done;
+
+        /** The next scheduled step (null if not scheduled or while executing) */
+        private @Nullable Future<?> future;
+
+        /**
+         * Constructs the ramp
+         * 
+         * @param key the non-null, possibly empty (default zone) key
+         * @param currVol the current volume level
+         * @param target the target volume level
+         */
+        private VolumeRamp(final String key, final int currVol, final int target) {
+            this.key = key;
+            this.rampKey = SonyUtil.defaultIfEmpty(key, DEFAULTKEY);
+            this.trackAcks = notificationHelper.isEnabled(ScalarWebEvent.NOTIFYVOLUMEINFORMATION);
+            this.current = currVol;
+            this.ackedVolume = currVol;
+            this.target = target;
+        }
+
+        /**
+         * Changes the target of a running ramp
+         * 
+         * @param newTarget the new target volume level
+         * @return true if retargeted, false if the ramp has already finished
+         */
+        private synchronized boolean retarget(final int newTarget) {
+            if (done) {
+                return false;
+            }
+            target = newTarget;
+            return true;
+        }
+
+        /**
+         * Schedules the next step of the ramp
+         * 
+         * @param delayMs the delay (in ms) before the next step
+         */
+        private synchronized void schedule(final long delayMs) {
+            if (!done) {
+                future = getContext().getScheduler().schedule(this::step, delayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Sends a single step towards the target (if not reached yet) and schedules the next one
+         */
+        private void step() {
+            final boolean up;
+            synchronized (this) {
+                future = null;
+                if (done) {
+                    return;
+                }
+
+                final double diff = target - current;
+                if (Math.abs(diff) < unitsPerStep / 2) {
+                    finish("target reached");
+                    return;
+                }
+
+                up = diff > 0;
+                current += up ? unitsPerStep : -unitsPerStep;
+                unackedSteps++;
+
+                // device isn't keeping up - slow down
+                if (trackAcks && unackedSteps > MAX_UNACKEDSTEPS) {
+                    delay = Math.min(delay * 2, cecDelay * MAX_SLOWDOWN);
+                }
+            }
+
+            logger.debug("HDMI/CEC increment for {}: UP({}) towards {}", rampKey, up, target);
+            if (setVolume(key, up)) {
+                schedule(delay);
+            } else {
+                cancel("adjusting volume failed");
+            }
+        }
+
+        /**
+         * Called when the device reports the volume level for the ramp's output
+         * 
+         * @param vol the reported volume level
+         */
+        private synchronized void volumeObserved(final int vol) {
+            if (done) {
+                return;
+            }
+
+            if (unackedSteps > 0) {
+                final double perStep = Math.abs(vol - ackedVolume) / (double) unackedSteps;
+                if (perStep >= 1) {
+                    unitsPerStep = Math.min(MAX_UNITSPERSTEP, (unitsPerStep + perStep) / 2);
+                }
+                // device is keeping up - speed back up
+                delay = Math.max(cecDelay, delay / 2);
+            }
+
+            ackedVolume = vol;
+            current = vol;
+            unackedSteps = 0;
+
+            if (vol == target) {
+                finish("target reached (notified)");
+            }
+        }
+
+        /**
+         * Cancels the ramp
+         * 
+         * @param reason a non-null, non-empty reason (for logging)
+         */
+        private synchronized void cancel(final String reason) {
+            if (!done) {
+                finish(reason);
+            }
+        }
+
+        /**
+         * Finishes the ramp (must be called while synchronized)
+         * 
+         * @param reason a non-null, non-empty reason (for logging)
+         */
+        private void finish(final String reason) {
+            done = true;
+            final Future<?> localFuture = future;
+            future = null;
+            if (localFuture != null) {
+                localFuture.cancel(false);
+            }
+            volumeRamps.remove(rampKey, this);
+            logger.debug("HDMI/CEC volume ramp for {} is done ({}): {}", rampKey, reason, target);
+        }
+    }
 }
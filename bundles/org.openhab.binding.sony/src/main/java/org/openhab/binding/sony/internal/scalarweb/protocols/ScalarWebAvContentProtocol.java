@@ -19,14 +19,19 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyFileWriter;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.ThingCallback;
 import org.openhab.binding.sony.internal.net.NetUtil;
@@ -81,6 +86,7 @@ import org.openhab.binding.sony.internal.scalarweb.models.api.Visibility;
 import org.openhab.binding.sony.internal.transports.SonyHttpTransport;
 import org.openhab.binding.sony.internal.transports.SonyTransportFactory;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.RawType;
@@ -306,8 +312,14 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
     /** The cached sources by scheme */
     private final ConcurrentMap<String, Set<Source>> stateSources = new ConcurrentHashMap<>();
 
-    /** The cached uris by and source display number (used for presets) */
-    private final ConcurrentMap<String, ConcurrentMap<String, String>> displayNumberUriMapBySource = new ConcurrentHashMap<>();
+    /** The index of preset uris by source and display number */
+    private final ScalarWebPresetIndex presetIndex;
+
+    /** The play state of playing content that the playback position advances in */
+    private static final String STATE_PLAYING = "PLAYING";
+
+    /** The extrapolator of the playback position (by output id) between device updates */
+    private final ScalarWebClockExtrapolator positionClock;
 
     /** The cached terminals */
     private final AtomicReference<List<CurrentExternalTerminalsStatus_1_0>> stateTerminals = new AtomicReference<>(
@@ -316,6 +328,12 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
     /** The cached inputs */
     private final AtomicReference<@Nullable ScalarWebResult> stateInputs = new AtomicReference<>(null);
 
+    /** The time to live (in milliseconds) of the cached schemes, sources, terminals and inputs */
+    private static final long CATALOG_TTL_MS = TimeUnit.HOURS.toMillis(1);
+
+    /** The time (in milliseconds) the cached schemes, sources, terminals and inputs expire (0 if invalidated) */
+    private volatile long catalogExpires;
+
     /** The cached content state (ie what our current url, index is) */
     private final AtomicReference<ContentState> stateContent = new AtomicReference<>(new ContentState());
 
@@ -325,6 +343,38 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
     /** Maximum amount of content to pull in one request */
     private static final int MAX_CT = 150;
 
+    /** Maximum number of content list requests outstanding at one time */
+    private static final int MAX_CONCURRENT_PAGES = 4;
+
+    /**
+     * The executor content list pages are requested on. This is a pool of its own (not the shared "sony" pool) since
+     * the caller blocks on the pages - the page requests themselves never wait on other tasks
+     */
+    private static final ExecutorService pageExecutor = ThreadPoolManager.getPool("sony-content");
+
+    /** Whether the protocol has been closed (aborts any content list being processed) */
+    private volatile boolean closed;
+
+    /** The number of content items in a browse page */
+    private static final int BROWSE_PAGE_CT = 25;
+
+    /** The maximum number of cached browse pages (and content counts) */
+    private static final int BROWSE_CACHE_ENTRIES = 32;
+
+    /** The maximum age (in milliseconds) of a cached browse page (or content count) */
+    private static final long BROWSE_CACHE_AGE_MS = TimeUnit.MINUTES.toMillis(5);
+
+    /** The cached browse pages by parent uri, start index and count */
+    private final ScalarWebBrowseCache<ScalarWebResult> browsePages = new ScalarWebBrowseCache<>(BROWSE_CACHE_ENTRIES,
+            BROWSE_CACHE_AGE_MS);
+
+    /** The cached content counts by parent uri */
+    private final ScalarWebBrowseCache<Integer> browseCounts = new ScalarWebBrowseCache<>(BROWSE_CACHE_ENTRIES,
+            BROWSE_CACHE_AGE_MS);
+
+    /** The source of the last playing content notification (a change invalidates the browse caches) */
+    private final AtomicReference<@Nullable String> statePlayingSource = new AtomicReference<>(null);
+
     /** The notifications that are enabled */
     private final NotificationHelper notificationHelper;
 
@@ -355,6 +405,9 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
         notificationHelper = new NotificationHelper(enableNotifications(ScalarWebEvent.NOTIFYPLAYINGCONTENTINFO,
                 /** ScalarWebEvent.NOTIFYAVAILABLEPLAYBACKFUNCTION, */
                 ScalarWebEvent.NOTIFYEXTERNALTERMINALSTATUS));
+        presetIndex = new ScalarWebPresetIndex(context.getThing().getUID().getId(), this::getContentCount,
+                this::readPresets);
+        positionClock = new ScalarWebClockExtrapolator(context.getConfig().getClockInterval());
     }
 
     @Override
@@ -1145,7 +1198,7 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
         descriptors.add(createDescriptor(chl, "String", "scalarwebavcontrolpresetchannel", "Presets for " + upperSrc,
                 "Set preset for " + upperSrc));
 
-        refreshPresetChannelStateDescription(Collections.singletonList(chl));
+        refreshPresetChannelStateDescription(Collections.singletonList(chl), false);
     }
 
     @Override
@@ -1159,10 +1212,12 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
                 case ScalarWebEvent.NOTIFYPLAYINGCONTENTINFO:
                     final String version = getVersion(ScalarWebMethod.GETPLAYINGCONTENTINFO);
                     if (VersionUtilities.equals(version, ScalarWebMethod.V1_0, ScalarWebMethod.V1_1)) {
-                        notifyPlayingContentInfo(event.as(PlayingContentInfoResult_1_0.class),
-                                getIdForOutput(MAINOUTPUT));
+                        final PlayingContentInfoResult_1_0 res = event.as(PlayingContentInfoResult_1_0.class);
+                        invalidateBrowseCacheOnSourceChange(res.getSource());
+                        notifyPlayingContentInfo(res, getIdForOutput(MAINOUTPUT));
                     } else {
                         final PlayingContentInfoResult_1_2 res = event.as(PlayingContentInfoResult_1_2.class);
+                        invalidateBrowseCacheOnSourceChange(res.getSource());
                         final String output = res.getOutput(MAINOUTPUT);
                         notifyPlayingContentInfo(res, getIdForOutput(output));
                     }
@@ -1174,6 +1229,10 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
                     break;
 
                 case ScalarWebEvent.NOTIFYEXTERNALTERMINALSTATUS:
+                    // a terminal (ie usb storage) change may change the sources and browsable content
+                    invalidateCatalog();
+                    browseCounts.invalidate();
+                    browsePages.invalidate();
                     notifyCurrentTerminalStatus(event.as(CurrentExternalTerminalsStatus_1_0.class));
                     break;
 
@@ -1184,6 +1243,20 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
         }
     }
 
+    /**
+     * Invalidates the browse caches if the playing source has changed
+     *
+     * @param source a possibly null, possibly empty playing source
+     */
+    private void invalidateBrowseCacheOnSourceChange(final @Nullable String source) {
+        final @Nullable String priorSource = statePlayingSource.getAndSet(source);
+        if (priorSource != null && !priorSource.equals(source)) {
+            logger.debug("Playing source changed from {} to {} - invalidating browse cache", priorSource, source);
+            browseCounts.invalidate();
+            browsePages.invalidate();
+        }
+    }
+
     /**
      * Get's the channel id for the given output
      *
@@ -1443,6 +1516,7 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
             }
         });
 
+        final Map<String, StateDescription> overrides = new HashMap<>();
         for (final CurrentExternalTerminalsStatus_1_0 term : getTerminalStatuses()) {
             if (term.isOutput()) {
                 final String uri = term.getUri();
@@ -1458,12 +1532,12 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
                     final StateDescription sd = StateDescriptionFragmentBuilder.create().withOptions(options).build()
                             .toStateDescription();
                     if (sd != null) {
-                        getContext().getStateProvider().addStateOverride(getContext().getThingUID(), cnl.getChannelId(),
-                                sd);
+                        overrides.put(cnl.getChannelId(), sd);
                     }
                 }
             }
         }
+        getContext().getStateProvider().addStateOverrides(getContext().getThingUID(), overrides);
     }
 
     /**
@@ -2169,6 +2243,20 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
         stateChanged(PL_STATE, id, SonyUtil.newStringType(si == null ? null : si.getState()));
         stateChanged(PL_STATESUPPLEMENT, id, SonyUtil.newStringType(si == null ? null : si.getSupplement()));
 
+        // the position is extrapolated locally (until the next device update) while playing
+        final Integer positionMsec = pci.getPositionMsec();
+        if (positionMsec == null) {
+            positionClock.stop(id);
+        } else {
+            final Integer durationMsec = pci.getDurationMsec();
+            positionClock.update(id, positionMsec, getPlayRate(si == null ? null : si.getState(), pci.getPlaySpeed()),
+                    durationMsec == null || durationMsec <= 0 ? -1 : durationMsec, pos -> {
+                        stateChanged(PL_POSITIONMSEC, id,
+                                SonyUtil.newQuantityType((double) pos, MetricPrefix.MILLI(Units.SECOND)));
+                        stateChanged(PL_POSITIONSEC, id, SonyUtil.newQuantityType(pos / 1000d, Units.SECOND));
+                    });
+        }
+
         stateChanged(PL_SUBTITLEINDEX, id, SonyUtil.newDecimalType(pci.getSubtitleIndex()));
         stateChanged(PL_TOTALCOUNT, id, SonyUtil.newDecimalType(pci.getTotalCount()));
 
@@ -2176,15 +2264,36 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
         stateChanged(PL_VIDEOCODEC, id, SonyUtil.newStringType(vi == null ? null : vi.getCodec()));
     }
 
+    /**
+     * Helper method to get the rate the playback position advances at
+     *
+     * @param state a possibly null, possibly empty play state
+     * @param playSpeed a possibly null, possibly empty play speed (ie "1" or "-2")
+     * @return the rate (1 for normal playback, 0 if not playing)
+     */
+    private static double getPlayRate(final @Nullable String state, final @Nullable String playSpeed) {
+        if (!STATE_PLAYING.equalsIgnoreCase(state)) {
+            return 0;
+        }
+        if (playSpeed == null || playSpeed.isBlank()) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(playSpeed.trim());
+        } catch (final NumberFormatException e) {
+            return 1;
+        }
+    }
+
     @Override
     public void refreshChannel(final ScalarWebChannel channel) {
         Objects.requireNonNull(channel, "channel cannot be null");
 
         final String ctgy = channel.getCategory();
         if (SCHEMES.equalsIgnoreCase(ctgy)) {
-            refreshSchemes();
+            refreshSchemes(true);
         } else if (SOURCES.equalsIgnoreCase(ctgy)) {
-            refreshSources();
+            refreshSources(true);
         } else if (ctgy.startsWith(PARENTRATING)) {
             refreshParentalRating();
             refreshParentalRating();
@@ -2201,7 +2310,7 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
         } else if (PLAYBACKSETTINGS.equalsIgnoreCase(ctgy)) {
             refreshGeneralSettings(Collections.singleton(channel), ScalarWebMethod.GETPLAYBACKMODESETTINGS);
         } else if (PS_CHANNEL.equalsIgnoreCase(ctgy)) {
-            refreshPresetChannelStateDescription(Collections.singletonList(channel));
+            refreshPresetChannelStateDescription(Collections.singletonList(channel), false);
         } else {
             logger.debug("Unknown refresh channel: {}", channel);
         }
@@ -2213,36 +2322,33 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
     private void refreshContent() {
         final ContentState state = stateContent.get();
 
-        if (SonyUtil.isEmpty(state.getParentUri())) {
+        final String parentUri = state.getParentUri();
+        if (SonyUtil.isEmpty(parentUri)) {
             notifyContentListResult();
         } else {
-            Count ct;
-
+            int ct;
             try {
-                ct = execute(ScalarWebMethod.GETCONTENTCOUNT, version -> {
-                    if (VersionUtilities.equals(version, ScalarWebMethod.V1_0, ScalarWebMethod.V1_1,
-                            ScalarWebMethod.V1_2)) {
-                        return new ContentCount_1_0(state.getParentUri());
-                    }
-                    return new ContentCount_1_3(state.getParentUri());
-                }).as(Count.class);
-
+                ct = browseCounts.get(parentUri, () -> getContentCount(parentUri));
             } catch (final IOException e) {
-                ct = new Count(-1);
+                ct = -1;
             }
 
             // update child count
-            stateChanged(CN_PARENTURI, SonyUtil.newStringType(state.getParentUri()));
-            stateChanged(CN_CHILDCOUNT, SonyUtil.newDecimalType(ct.getCount()));
+            stateChanged(CN_PARENTURI, SonyUtil.newStringType(parentUri));
+            stateChanged(CN_CHILDCOUNT, SonyUtil.newDecimalType(ct));
 
             try {
-                final ScalarWebResult res = execute(ScalarWebMethod.GETCONTENTLIST, version -> {
-                    if (VersionUtilities.equals(version, ScalarWebMethod.V1_0, ScalarWebMethod.V1_1,
-                            ScalarWebMethod.V1_2, ScalarWebMethod.V1_3)) {
-                        return new ContentListRequest_1_0(state.getParentUri(), state.getIdx(), 1);
+                // request (and cache) the whole page the index is in and prefetch the neighbouring page closest to
+                // the index
+                final int pageIdx = Math.max(0, state.getIdx()) / BROWSE_PAGE_CT * BROWSE_PAGE_CT;
+                final ScalarWebResult res = getBrowsePage(parentUri, pageIdx);
+                if (state.getIdx() - pageIdx >= BROWSE_PAGE_CT / 2) {
+                    if (ct < 0 || pageIdx + BROWSE_PAGE_CT < ct) {
+                        prefetchBrowsePage(parentUri, pageIdx + BROWSE_PAGE_CT);
                     }
-                    return new ContentListRequest_1_4(state.getParentUri(), state.getIdx(), 1);
-                });
+                } else if (pageIdx > 0) {
+                    prefetchBrowsePage(parentUri, pageIdx - BROWSE_PAGE_CT);
+                }
 
                 String childUri = null;
                 Integer childIdx = null;
@@ -2383,21 +2489,37 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
         }
     }
 
+    /**
+     * Invalidates the cached schemes, sources, terminals and inputs. The cached terminals and inputs are reretrieved
+     * when next used and the schemes and sources on the next state refresh.
+     */
+    private void invalidateCatalog() {
+        catalogExpires = 0;
+        stateTerminals.set(new ArrayList<>());
+        stateInputs.set(null);
+    }
+
     /**
      * Refresh the schemes
+     *
+     * @param refresh true to refresh from the device, false to use the cached schemes (if any)
      */
-    private void refreshSchemes() {
-        final String schemes = getSchemes(true).stream().map(s -> s.getScheme()).collect(Collectors.joining(","));
-        stateSources.clear(); // clear sources to reretrieve them since schemes changed
+    private void refreshSchemes(final boolean refresh) {
+        final String schemes = getSchemes(refresh).stream().map(s -> s.getScheme()).collect(Collectors.joining(","));
+        if (refresh) {
+            stateSources.clear(); // clear sources to reretrieve them since schemes changed
+        }
         stateChanged(SCHEMES, SonyUtil.newStringType(schemes));
     }
 
     /**
      * Refresh the sources
+     *
+     * @param refresh true to refresh from the device, false to use the cached sources (if any)
      */
-    private void refreshSources() {
+    private void refreshSources(final boolean refresh) {
         final List<String> sources = new ArrayList<>();
-        for (final Source src : getSources(true)) {
+        for (final Source src : getSources(refresh)) {
             final String source = src.getSource();
             if (source != null && !source.isEmpty()) {
                 sources.add(source);
@@ -2413,27 +2535,33 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
     public void refreshState(boolean initial) {
         final ScalarWebChannelTracker tracker = getChannelTracker();
 
-        // always refresh these since they are used in lookups
-        refreshSchemes();
-        refreshSources();
+        // schemes, sources, terminals and inputs rarely change - they are only refreshed from the device when
+        // (re)connected, invalidated (by a terminal status notification) or expired
+        final boolean catalogExpired = initial || System.currentTimeMillis() >= catalogExpires;
+        if (catalogExpired) {
+            invalidateCatalog();
+            catalogExpires = System.currentTimeMillis() + CATALOG_TTL_MS;
+        }
+        refreshSchemes(catalogExpired);
+        refreshSources(catalogExpired);
 
-        if (tracker.isCategoryLinked(ctgy -> ctgy.startsWith(PARENTRATING))) {
+        if (tracker.isCategoryPrefixLinked(PARENTRATING)) {
             refreshParentalRating();
         }
 
         if (initial || !notificationHelper.isEnabled(ScalarWebEvent.NOTIFYPLAYINGCONTENTINFO)) {
-            if (tracker.isCategoryLinked(ctgy -> ctgy.startsWith(PLAYING))) {
+            if (tracker.isCategoryPrefixLinked(PLAYING)) {
                 refreshPlayingContentInfo();
             }
         }
 
-        refreshCurrentExternalInputStatus(tracker.getLinkedChannelsForCategory(ctgy -> ctgy.startsWith(INPUT)));
+        refreshCurrentExternalInputStatus(tracker.getLinkedChannelsForCategoryPrefix(INPUT));
 
         if (initial || !notificationHelper.isEnabled(ScalarWebEvent.NOTIFYEXTERNALTERMINALSTATUS)) {
             refreshCurrentExternalTerminalsStatus();
         }
 
-        if (tracker.isCategoryLinked(ctgy -> ctgy.startsWith(CONTENT))) {
+        if (tracker.isCategoryPrefixLinked(CONTENT)) {
             refreshContent();
         }
 
@@ -2446,11 +2574,10 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
                     ScalarWebMethod.GETPLAYBACKMODESETTINGS);
         }
 
-        // Very heavy call - let's just make them restart binding when a preset changes if they
-        // want it to show up on a dynamic state for the UI
-        // if (tracker.isCategoryLinked(PS_CHANNEL)) {
-        // refreshPresetChannelStateDescription(tracker.getLinkedChannelsForCategory(PS_CHANNEL));
-        // }
+        // presets are refreshed in the background and only rescanned if the content count of the source changed
+        if (tracker.isCategoryLinked(PS_CHANNEL)) {
+            refreshPresetChannelStateDescription(tracker.getLinkedChannelsForCategory(PS_CHANNEL), false);
+        }
     }
 
     @Override
@@ -2836,9 +2963,9 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
 
         if (PS_REFRESH.equals(dispName)) {
             // special command to refresh presets
-            refreshPresetChannelStateDescription(Collections.singletonList(channel));
+            refreshPresetChannelStateDescription(Collections.singletonList(channel), true);
         } else {
-            final String uri = displayNumberUriMapBySource.get(srcId).get(dispName);
+            final String uri = presetIndex.getUri(srcId, dispName);
             if (uri != null && !uri.isEmpty()) {
                 setPlayContent(uri, null);
             }
@@ -2846,11 +2973,13 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
     }
 
     /**
-     * Refreshs the preset channel state description for the specified channels
+     * Refreshs (in the background) the preset channel state description for the specified channels
      *
-     * @param channels a non-null, possibly empty list of channels
+     * @param channels a non-null, possibly empty collection of channels
+     * @param force true to rescan (and republish) the presets even if unchanged
      */
-    private void refreshPresetChannelStateDescription(final List<ScalarWebChannel> channels) {
+    private void refreshPresetChannelStateDescription(final Collection<ScalarWebChannel> channels,
+            final boolean force) {
         Objects.requireNonNull(channels, "channels cannot be null");
 
         for (final ScalarWebChannel chl : channels) {
@@ -2860,121 +2989,117 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
                 continue;
             }
 
-            // clear cache
-            final ConcurrentMap<String, String> displayNumberUriMap;
-            if (displayNumberUriMapBySource.get(srcId) != null) {
-                displayNumberUriMap = displayNumberUriMapBySource.get(srcId);
-            } else {
-                displayNumberUriMap = new ConcurrentHashMap<>();
-                displayNumberUriMapBySource.put(srcId, displayNumberUriMap);
-            }
-
-            final List<ContentListResult_1_0> presets = new ArrayList<>();
-            processContentList(srcId, res -> {
-                presets.add(res);
-                return true;
-            });
-
-            final List<StateOption> stateOptions = new ArrayList<>();
-
-            final boolean isPresetConfigurable = Boolean.TRUE.equals(getContext().getConfig().isConfigurablePresets())
-                    && srcId.toLowerCase().startsWith("tv:");
+            presetIndex.refresh(srcId, force, presets -> publishPresetChannelStateDescription(chl, srcId, presets));
+        }
+    }
 
-            if (!presets.isEmpty()) {
-                if (isPresetConfigurable) {
-                    final HashMap<String, Integer> rankMap = new HashMap<>();
-                    final String thingId = getContext().getThing().getUID().getId();
-                    final Path path = Paths.get(OpenHAB.getUserDataFolder(), "config", "sony", "presets",
-                            ScalarWebChannel.createChannelId(chl.getCategory(), chl.getId()) + "_" + thingId + ".csv");
-                    if (Files.exists(path)) {
-                        try {
-                            // regex to parse csv formatted lines (with limitations
-                            String regexCSV = ",(?=([^\"]*\"[^\"]*\")*[^\"]*$)";
-                            String regexQuotes = "^\"|\"$";
-                            final String content = Files.readString(path);
-                            Scanner scanner = new Scanner(content);
-                            // skip header row
-                            scanner.nextLine();
-                            while (scanner.hasNextLine()) {
-                                try {
-                                    final String line = scanner.nextLine();
-                                    final String[] values = line.split(regexCSV);
-                                    final String dispNum = values[1].trim().replaceAll(regexQuotes, "");
-                                    final String uri = values[3].trim().replaceAll(regexQuotes, "");
-                                    final Integer rank = Integer.parseInt(values[4].trim().replaceAll(regexQuotes, ""));
-                                    rankMap.put(dispNum, rank);
-                                } catch (final Exception ex) {
-                                    // ignore
-                                }
+    /**
+     * Publishes the preset channel state description for the specified channel
+     *
+     * @param chl a non-null channel
+     * @param srcId a non-null, non-empty source id of the channel
+     * @param presets a non-null, possibly empty list of presets of the source
+     */
+    private void publishPresetChannelStateDescription(final ScalarWebChannel chl, final String srcId,
+            final List<ScalarWebPresetIndex.Preset> presets) {
+        Objects.requireNonNull(chl, "chl cannot be null");
+        SonyUtil.validateNotEmpty(srcId, "srcId cannot be empty");
+        Objects.requireNonNull(presets, "presets cannot be null");
+
+        final List<StateOption> stateOptions = new ArrayList<>();
+
+        final boolean isPresetConfigurable = Boolean.TRUE.equals(getContext().getConfig().isConfigurablePresets())
+                && srcId.toLowerCase().startsWith("tv:");
+
+        if (!presets.isEmpty()) {
+            if (isPresetConfigurable) {
+                final HashMap<String, Integer> rankMap = new HashMap<>();
+                final String thingId = getContext().getThing().getUID().getId();
+                final Path path = Paths.get(OpenHAB.getUserDataFolder(), "config", "sony", "presets",
+                        ScalarWebChannel.createChannelId(chl.getCategory(), chl.getId()) + "_" + thingId + ".csv");
+                if (Files.exists(path)) {
+                    try {
+                        // regex to parse csv formatted lines (with limitations
+                        String regexCSV = ",(?=([^\"]*\"[^\"]*\")*[^\"]*$)";
+                        String regexQuotes = "^\"|\"$";
+                        final String content = Files.readString(path);
+                        Scanner scanner = new Scanner(content);
+                        // skip header row
+                        scanner.nextLine();
+                        while (scanner.hasNextLine()) {
+                            try {
+                                final String line = scanner.nextLine();
+                                final String[] values = line.split(regexCSV);
+                                final String dispNum = values[1].trim().replaceAll(regexQuotes, "");
+                                final String uri = values[3].trim().replaceAll(regexQuotes, "");
+                                final Integer rank = Integer.parseInt(values[4].trim().replaceAll(regexQuotes, ""));
+                                rankMap.put(dispNum, rank);
+                            } catch (final Exception ex) {
+                                // ignore
                             }
-                            scanner.close();
-                        } catch (final Exception ex) {
-                            logger.debug(
-                                    "Exception '{}' while trying to read or process content list for source {} from path {}",
-                                    ex.getMessage(), srcId, path);
-                        }
-                    }
-                    List<StateOption> stateOptionsToAdd = presets.stream().map(e -> {
-                        final String title = e.getTitle();
-                        final String dispNum = e.getDispNum();
-                        final String uri = e.getUri();
-                        Optional<StateOption> si = Optional.empty();
-                        if (dispNum != null && !dispNum.isEmpty() && uri != null && !uri.isEmpty()) {
-                            si = Optional.of(new StateOption(dispNum, SonyUtil.defaultIfEmpty(title, dispNum)));
-                            displayNumberUriMap.put(dispNum, uri);
                         }
-                        return si;
-                    }).filter(Optional::isPresent).map(Optional::get)
-                            .filter(a -> (rankMap.getOrDefault(a.getValue(), Integer.MAX_VALUE)) >= 0)
-                            .sorted(Comparator.<StateOption> comparingInt(a -> {
-                                Integer r = rankMap.getOrDefault(a.getValue(), 0);
-                                return r == 0 ? Integer.MAX_VALUE : r;
-                            }).thenComparing(a -> SonyUtil.defaultIfEmpty(a.getLabel(), "")))
-                            .collect(Collectors.toList());
-
-                    stateOptions.addAll(stateOptionsToAdd);
-
-                    StringBuilder content = new StringBuilder();
-                    content.append("Source, DispNum, Title, Uri, Rank\n");
-                    for (final ContentListResult_1_0 clr : presets) {
-                        content.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n", srcId, clr.getDispNum(),
-                                clr.getTitle(), clr.getUri(), rankMap.getOrDefault(clr.getDispNum(), 0)));
+                        scanner.close();
+                    } catch (final Exception ex) {
+                        logger.debug(
+                                "Exception '{}' while trying to read or process content list for source {} from path {}",
+                                ex.getMessage(), srcId, path);
                     }
-                    try {
-                        Files.createDirectories(path.getParent());
-                        Files.writeString(path, content.toString());
-                    } catch (final IOException e) {
-                        logger.debug("IOException trying to write content list for source {} to path {}", srcId, path);
+                }
+                List<StateOption> stateOptionsToAdd = presets.stream().map(e -> {
+                    final String title = e.getTitle();
+                    final String dispNum = e.getDispNum();
+                    final String uri = e.getUri();
+                    Optional<StateOption> si = Optional.empty();
+                    if (dispNum != null && !dispNum.isEmpty() && uri != null && !uri.isEmpty()) {
+                        si = Optional.of(new StateOption(dispNum, SonyUtil.defaultIfEmpty(title, dispNum)));
                     }
+                    return si;
+                }).filter(Optional::isPresent).map(Optional::get)
+                        .filter(a -> (rankMap.getOrDefault(a.getValue(), Integer.MAX_VALUE)) >= 0)
+                        .sorted(Comparator.<StateOption> comparingInt(a -> {
+                            Integer r = rankMap.getOrDefault(a.getValue(), 0);
+                            return r == 0 ? Integer.MAX_VALUE : r;
+                        }).thenComparing(a -> SonyUtil.defaultIfEmpty(a.getLabel(), "")))
+                        .collect(Collectors.toList());
+
+                stateOptions.addAll(stateOptionsToAdd);
+
+                StringBuilder content = new StringBuilder();
+                content.append("Source, DispNum, Title, Uri, Rank\n");
+                for (final ScalarWebPresetIndex.Preset clr : presets) {
+                    content.append(String.format("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n", srcId, clr.getDispNum(),
+                            clr.getTitle(), clr.getUri(), rankMap.getOrDefault(clr.getDispNum(), 0)));
+                }
+                // only written if the content list changed
+                final String contents = content.toString();
+                SonyFileWriter.write(path, () -> contents, true);
 
-                } else {
-                    List<StateOption> stateOptionsToAdd = presets.stream().map(e -> {
-                        final String title = e.getTitle();
-                        final String dispNum = e.getDispNum();
-                        final String uri = e.getUri();
-                        Optional<StateOption> si = Optional.empty();
-                        if (dispNum != null && !dispNum.isEmpty() && uri != null && !uri.isEmpty()) {
-                            si = Optional.of(new StateOption(dispNum, SonyUtil.defaultIfEmpty(title, dispNum)));
-                            displayNumberUriMap.put(dispNum, uri);
-                        }
-                        return si;
-                    }).filter(Optional::isPresent).map(Optional::get)
-                            .sorted(Comparator.comparing(a -> SonyUtil.defaultIfEmpty(a.getLabel(), "")))
-                            .collect(Collectors.toList());
+            } else {
+                List<StateOption> stateOptionsToAdd = presets.stream().map(e -> {
+                    final String title = e.getTitle();
+                    final String dispNum = e.getDispNum();
+                    final String uri = e.getUri();
+                    Optional<StateOption> si = Optional.empty();
+                    if (dispNum != null && !dispNum.isEmpty() && uri != null && !uri.isEmpty()) {
+                        si = Optional.of(new StateOption(dispNum, SonyUtil.defaultIfEmpty(title, dispNum)));
+                    }
+                    return si;
+                }).filter(Optional::isPresent).map(Optional::get)
+                        .sorted(Comparator.comparing(a -> SonyUtil.defaultIfEmpty(a.getLabel(), "")))
+                        .collect(Collectors.toList());
 
-                    stateOptions.addAll(stateOptionsToAdd);
+                stateOptions.addAll(stateOptionsToAdd);
 
-                }
+            }
 
-                // add special refresh option at beginning
-                stateOptions.add(0, new StateOption(PS_REFRESH, PS_REFRESH));
-                final StateDescriptionFragmentBuilder bld = StateDescriptionFragmentBuilder.create()
-                        .withOptions(stateOptions);
-                final StateDescription sd = bld.build().toStateDescription();
-                if (sd != null) {
-                    getContext().getStateProvider().addStateOverride(getContext().getThingUID(), chl.getChannelId(),
-                            sd);
-                }
+            // add special refresh option at beginning
+            stateOptions.add(0, new StateOption(PS_REFRESH, PS_REFRESH));
+            final StateDescriptionFragmentBuilder bld = StateDescriptionFragmentBuilder.create()
+                    .withOptions(stateOptions);
+            final StateDescription sd = bld.build().toStateDescription();
+            if (sd != null) {
+                getContext().getStateProvider().addStateOverride(getContext().getThingUID(), chl.getChannelId(),
+                        sd);
             }
         }
     }
@@ -2984,55 +3109,186 @@ class ScalarWebAvContentProtocol<T extends ThingCallback<String>> extends Abstra
      *
      * @param uriOrSource a non-null, non-empty uri or source
      * @param callback a non-null callback to use
+     * @return true if the content list was processed to its end (the content count or the first empty page), false if
+     *         it was stopped by the callback, aborted or failed
      */
-    private void processContentList(final String uriOrSource, final ContentListCallback callback) {
+    private boolean processContentList(final String uriOrSource, final ContentListCallback callback) {
         SonyUtil.validateNotEmpty(uriOrSource, "uriOrSource cannot be empty");
         Objects.requireNonNull(callback, "callback cannot be null");
 
-        Count ct;
+        final int maxCount;
         try {
-            ct = execute(ScalarWebMethod.GETCONTENTCOUNT, version -> {
-                if (VersionUtilities.equals(version, ScalarWebMethod.V1_0, ScalarWebMethod.V1_1,
-                        ScalarWebMethod.V1_2)) {
-                    return new ContentCount_1_0(uriOrSource);
-                }
-                return new ContentCount_1_3(uriOrSource);
-            }).as(Count.class);
-
+            maxCount = getContentCount(uriOrSource);
         } catch (final IOException e) {
-            ct = new Count(0);
+            logger.debug("IOException getting {} for {}: {}", ScalarWebMethod.GETCONTENTCOUNT, uriOrSource,
+                    e.getMessage());
+            return false;
         }
 
-        final int maxCount = ct.getCount();
+        // pages are requested concurrently (within a window) on the page executor but processed in index order
+        final Deque<CompletableFuture<List<ContentListResult_1_0>>> pages = new ArrayDeque<>();
+        int nextIdx = 0;
         int count = 0;
-        while (count < maxCount) {
-            final int stIdx = count;
-            try {
-                final ScalarWebResult res = execute(ScalarWebMethod.GETCONTENTLIST, version -> {
-                    if (VersionUtilities.equals(version, ScalarWebMethod.V1_0, ScalarWebMethod.V1_1,
-                            ScalarWebMethod.V1_2, ScalarWebMethod.V1_3)) {
-                        return new ContentListRequest_1_0(uriOrSource, stIdx, MAX_CT);
-                    }
-                    return new ContentListRequest_1_4(uriOrSource, stIdx, MAX_CT);
-                });
-                final List<ContentListResult_1_0> resultList = res.asArray(ContentListResult_1_0.class);
-                for (final ContentListResult_1_0 clr : resultList) {
-                    if (!callback.processContentListResult(clr)) {
-                        return;
+        boolean complete = false;
+        try {
+            while (count < maxCount && !closed) {
+                while (nextIdx < maxCount && pages.size() < MAX_CONCURRENT_PAGES) {
+                    final int stIdx = nextIdx;
+                    final int pageCt = Math.min(MAX_CT, maxCount - stIdx);
+                    pages.add(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return getContentList(uriOrSource, stIdx, pageCt);
+                        } catch (final IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, pageExecutor));
+                    nextIdx += pageCt;
+                }
+
+                final int pageEnd = Math.min(count + MAX_CT, maxCount);
+                List<ContentListResult_1_0> resultList = pages.removeFirst().join();
+                while (!resultList.isEmpty() && !closed) {
+                    for (final ContentListResult_1_0 clr : resultList) {
+                        if (!callback.processContentListResult(clr)) {
+                            return false;
+                        }
                     }
+                    count += resultList.size();
+
+                    // request might return fewer items than requested, therefore request the remainder of the page
+                    resultList = count < pageEnd ? getContentList(uriOrSource, count, pageEnd - count)
+                            : Collections.emptyList();
+                }
+
+                if (count < pageEnd) {
+                    // the content count may include items that are not listed (the list then ends early)
+                    logger.debug("Received no content items for {} [idx: {}, max: {}] - end of the content list",
+                            uriOrSource, count, maxCount);
+                    break;
                 }
-                // request might return fewer items than MAX_CT, therefore get actual number of fetched items from
-                // result
-                // list
-                count += resultList.size();
-            } catch (final IOException e) {
-                logger.debug("IOException getting {} for {} [idx: {}, max: {}]: {}", ScalarWebMethod.GETCONTENTLIST,
-                        uriOrSource, stIdx, MAX_CT, e.getMessage());
-                // give-up getting content items
-                break;
             }
+            complete = !closed;
+        } catch (final IOException | CompletionException e) {
+            final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.debug("IOException getting {} for {} [idx: {}, max: {}]: {}", ScalarWebMethod.GETCONTENTLIST,
+                    uriOrSource, count, MAX_CT, cause.getMessage());
+            // give-up getting content items
+        } finally {
+            pages.forEach(f -> f.cancel(false));
         }
-        logger.debug("Received {} content items for source {}", count, uriOrSource);
+        logger.debug("Received {} content items for source {}{}", count, uriOrSource, closed ? " (aborted)" : "");
+        return complete;
+    }
+
+    /**
+     * Gets the number of content items of a uri or source
+     *
+     * @param uriOrSource a non-null, non-empty uri or source
+     * @return the number of content items
+     * @throws IOException if an IO exception occurs getting the content count
+     */
+    private int getContentCount(final String uriOrSource) throws IOException {
+        SonyUtil.validateNotEmpty(uriOrSource, "uriOrSource cannot be empty");
+        return execute(ScalarWebMethod.GETCONTENTCOUNT, version -> {
+            if (VersionUtilities.equals(version, ScalarWebMethod.V1_0, ScalarWebMethod.V1_1, ScalarWebMethod.V1_2)) {
+                return new ContentCount_1_0(uriOrSource);
+            }
+            return new ContentCount_1_3(uriOrSource);
+        }).as(Count.class).getCount();
+    }
+
+    /**
+     * Reads the presets (all content items) of a source
+     *
+     * @param srcId a non-null, non-empty source id
+     * @param presets a non-null list the presets are added to
+     * @return true if the content list was read to its end, false if the read failed or was aborted
+     */
+    private boolean readPresets(final String srcId, final List<ScalarWebPresetIndex.Preset> presets) {
+        SonyUtil.validateNotEmpty(srcId, "srcId cannot be empty");
+        Objects.requireNonNull(presets, "presets cannot be null");
+
+        return processContentList(srcId, res -> {
+            presets.add(new ScalarWebPresetIndex.Preset(res.getDispNum(), res.getTitle(), res.getUri()));
+            return true;
+        });
+    }
+
+    /**
+     * Helper method to get a page of the content list
+     *
+     * @param uriOrSource a non-null, non-empty uri or source
+     * @param stIdx the starting index of the page
+     * @param cnt the number of items to get
+     * @return a non-null, possibly empty list of content
+     * @throws IOException if an IO exception occurs getting the content list
+     */
+    private List<ContentListResult_1_0> getContentList(final String uriOrSource, final int stIdx, final int cnt)
+            throws IOException {
+        return getContentListResult(uriOrSource, stIdx, cnt).asArray(ContentListResult_1_0.class);
+    }
+
+    /**
+     * Helper method to get the (raw) result of a page of the content list
+     *
+     * @param uriOrSource a non-null, non-empty uri or source
+     * @param stIdx the starting index of the page
+     * @param cnt the number of items to get
+     * @return a non-null result
+     * @throws IOException if an IO exception occurs getting the content list
+     */
+    private ScalarWebResult getContentListResult(final String uriOrSource, final int stIdx, final int cnt)
+            throws IOException {
+        return execute(ScalarWebMethod.GETCONTENTLIST, version -> {
+            if (VersionUtilities.equals(version, ScalarWebMethod.V1_0, ScalarWebMethod.V1_1, ScalarWebMethod.V1_2,
+                    ScalarWebMethod.V1_3)) {
+                return new ContentListRequest_1_0(uriOrSource, stIdx, cnt);
+            }
+            return new ContentListRequest_1_4(uriOrSource, stIdx, cnt);
+        });
+    }
+
+    /**
+     * Helper method to get a browse page (from the browse cache if cached)
+     *
+     * @param parentUri a non-null, non-empty parent uri
+     * @param pageIdx the starting index of the page
+     * @return a non-null result
+     * @throws IOException if an IO exception occurs getting the page
+     */
+    private ScalarWebResult getBrowsePage(final String parentUri, final int pageIdx) throws IOException {
+        return browsePages.get(getBrowsePageKey(parentUri, pageIdx),
+                () -> getContentListResult(parentUri, pageIdx, BROWSE_PAGE_CT));
+    }
+
+    /**
+     * Helper method to prefetch a browse page (into the browse cache) in the background
+     *
+     * @param parentUri a non-null, non-empty parent uri
+     * @param pageIdx the starting index of the page
+     */
+    private void prefetchBrowsePage(final String parentUri, final int pageIdx) {
+        browsePages.prefetch(getBrowsePageKey(parentUri, pageIdx),
+                () -> getContentListResult(parentUri, pageIdx, BROWSE_PAGE_CT));
+    }
+
+    /**
+     * Helper method to get the browse cache key of a page
+     *
+     * @param parentUri a non-null, non-empty parent uri
+     * @param pageIdx the starting index of the page
+     * @return a non-null, non-empty key
+     */
+    private static String getBrowsePageKey(final String parentUri, final int pageIdx) {
+        return parentUri + "#" + pageIdx + "#" + BROWSE_PAGE_CT;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        presetIndex.close();
+        positionClock.close();
+        super.close();
     }
 
     /**
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.scalarweb.protocols;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class is a least recently used cache of content browse results (content counts and content list pages) keyed
+ * by the request (ie parent uri, start index and count). The cache is bounded by the number of entries and the age of
+ * an entry, can be invalidated (ie when the content may have changed) and can prefetch an entry in the background.
+ *
+ * @author andan - Initial contribution
+ * @param <V> the type of the cached results
+ */
+@NonNullByDefault
+class ScalarWebBrowseCache<V> {
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(ScalarWebBrowseCache.class);
+
+    /** The executor entries are prefetched on */
+    private static final ExecutorService executor = ThreadPoolManager.getPool("sony");
+
+    /** The maximum age (in milliseconds) of an entry */
+    private final long maxAge;
+
+    /** The entries (in access order) by key - guarded by itself */
+    private final LinkedHashMap<String, Entry<V>> entries;
+
+    /** The keys being prefetched */
+    private final Set<String> prefetching = ConcurrentHashMap.newKeySet();
+
+    /** The generation of the cache (incremented on each invalidation) - guarded by entries */
+    private long generation;
+
+    /**
+     * Constructs the cache
+     *
+     * @param maxEntries the maximum number of entries (> 0)
+     * @param maxAge the maximum age (in milliseconds) of an entry
+     */
+    ScalarWebBrowseCache(final int maxEntries, final long maxAge) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be greater than 0: " + maxEntries);
+        }
+        this.maxAge = maxAge;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.@Nullable Entry<String, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the result for the key (loading and caching it if not cached or expired)
+     *
+     * @param key a non-null, non-empty key
+     * @param loader a non-null loader of the result
+     * @return the non-null result
+     * @throws IOException if an IO exception occurs loading the result (which is not cached)
+     */
+    V get(final String key, final Loader<V> loader) throws IOException {
+        SonyUtil.validateNotEmpty(key, "key cannot be empty");
+        Objects.requireNonNull(loader, "loader cannot be null");
+
+        final long gen;
+        synchronized (entries) {
+            final @Nullable V cached = lookup(key);
+            if (cached != null) {
+                return cached;
+            }
+            gen = generation;
+        }
+
+        final V value = loader.load();
+        synchronized (entries) {
+            // a result loaded before an invalidation may already be stale
+            if (gen == generation) {
+                entries.put(key, new Entry<>(value));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Loads and caches the result for the key in the background (if not already cached or being prefetched)
+     *
+     * @param key a non-null, non-empty key
+     * @param loader a non-null loader of the result
+     */
+    void prefetch(final String key, final Loader<V> loader) {
+        SonyUtil.validateNotEmpty(key, "key cannot be empty");
+        Objects.requireNonNull(loader, "loader cannot be null");
+
+        synchronized (entries) {
+            if (lookup(key) != null) {
+                return;
+            }
+        }
+
+        if (prefetching.add(key)) {
+            executor.execute(() -> {
+                try {
+                    get(key, loader);
+                } catch (final IOException e) {
+                    logger.debug("Exception prefetching {}: {}", key, e.getMessage());
+                } finally {
+                    prefetching.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Invalidates (removes) all entries
+     */
+    void invalidate() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Helper method to lookup an unexpired entry (must be called while holding the entries lock)
+     *
+     * @param key a non-null, non-empty key
+     * @return the result or null if not cached (or expired)
+     */
+    private @Nullable V lookup(final String key) {
+        final @Nullable Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.created >= maxAge) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Functional interface to load a result
+     *
+     * @param <V> the type of the result
+     */
+    @NonNullByDefault
+    interface Loader<V> {
+        /**
+         * Loads the result
+         *
+         * @return the non-null result
+         * @throws IOException if an IO exception occurs loading the result
+         */
+        V load() throws IOException;
+    }
+
+    /**
+     * A single cached result along with the time it was cached
+     *
+     * @param <V> the type of the result
+     */
+    @NonNullByDefault
+    private static class Entry<V> {
+        /** The result */
+        private final V value;
+
+        /** The time (in milliseconds) the result was cached */
+        private final long created = System.currentTimeMillis();
+
+        /**
+         * Constructs the entry
+         *
+         * @param value the non-null result
+         */
+        private Entry(final V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.scalarweb.protocols;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class extrapolates clocks (ie a playback position or the current time, in milliseconds) locally from the last
+ * value reported by the device and the rate the clock runs at. While any clock is running, a timer publishes the
+ * extrapolated values at a configurable interval. Each value reported by the device (from a poll or a notification)
+ * replaces the base of the clock - correcting any drift.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+class ScalarWebClockExtrapolator implements AutoCloseable {
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(ScalarWebClockExtrapolator.class);
+
+    /**
+     * The default interval (in milliseconds) the extrapolated values are published at. Extrapolation is opt-in (0) as
+     * a running clock (like the current time, which always runs) would otherwise publish a state every interval
+     */
+    static final int DEFAULT_INTERVAL_MS = 0;
+
+    /** The scheduler the timer runs on */
+    private static final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("sony");
+
+    /** The interval (in milliseconds) the extrapolated values are published at (0 if disabled) */
+    private final int interval;
+
+    /** The clocks by key */
+    private final Map<String, Clock> clocks = new ConcurrentHashMap<>();
+
+    /** The lock guarding the timer */
+    private final Object timerLock = new Object();
+
+    /** The timer publishing the extrapolated values (null if no clock is running) - guarded by timerLock */
+    private @Nullable ScheduledFuture<?> timer;
+
+    /** Whether the extrapolator has been closed */
+    private volatile boolean closed;
+
+    /**
+     * Constructs the extrapolator
+     *
+     * @param interval the possibly null interval (in milliseconds) to publish at (null for
+     *            {@link #DEFAULT_INTERVAL_MS}, 0 to disable extrapolation)
+     */
+    ScalarWebClockExtrapolator(final @Nullable Integer interval) {
+        this.interval = interval == null ? DEFAULT_INTERVAL_MS : Math.max(0, interval);
+    }
+
+    /**
+     * Updates the clock with a value reported by the device (the caller is expected to have published the value)
+     *
+     * @param key a non-null, non-empty key identifying the clock
+     * @param value the reported value (in milliseconds)
+     * @param rate the rate the clock runs at (1 for realtime, 0 if stopped)
+     * @param max the maximum value of the clock (or -1 if unbounded)
+     * @param publisher a non-null publisher of the extrapolated values
+     */
+    void update(final String key, final long value, final double rate, final long max,
+            final LongConsumer publisher) {
+        SonyUtil.validateNotEmpty(key, "key cannot be empty");
+        Objects.requireNonNull(publisher, "publisher cannot be null");
+
+        if (closed || interval == 0) {
+            return;
+        }
+
+        final Clock clock = new Clock(value, rate, max, publisher);
+        clocks.put(key, clock);
+        if (clock.isRunning()) {
+            synchronized (timerLock) {
+                if (timer == null) {
+                    timer = scheduler.scheduleWithFixedDelay(this::tick, interval, interval, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops (removes) the clock
+     *
+     * @param key a non-null, non-empty key identifying the clock
+     */
+    void stop(final String key) {
+        SonyUtil.validateNotEmpty(key, "key cannot be empty");
+        clocks.remove(key);
+    }
+
+    /**
+     * Publishes the extrapolated value of each running clock (and cancels the timer if none are running)
+     */
+    private void tick() {
+        final long now = System.nanoTime();
+        for (final Clock clock : clocks.values()) {
+            if (clock.isRunning()) {
+                try {
+                    clock.publish(now);
+                } catch (final RuntimeException e) {
+                    logger.debug("Exception publishing extrapolated clock: {}", e.getMessage(), e);
+                }
+            }
+        }
+
+        synchronized (timerLock) {
+            if (closed || clocks.values().stream().noneMatch(Clock::isRunning)) {
+                final @Nullable ScheduledFuture<?> localTimer = timer;
+                if (localTimer != null) {
+                    localTimer.cancel(false);
+                }
+                timer = null;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        clocks.clear();
+        synchronized (timerLock) {
+            final @Nullable ScheduledFuture<?> localTimer = timer;
+            if (localTimer != null) {
+                localTimer.cancel(false);
+            }
+            timer = null;
+        }
+    }
+
+    /**
+     * A single clock (the last reported value and the time it was reported)
+     */
+    @NonNullByDefault
+    private static class Clock {
+        /** The reported value (in milliseconds) */
+        private final long value;
+
+        /** The time (in nanoseconds) the value was reported */
+        private final long reported = System.nanoTime();
+
+        /** The rate the clock runs at */
+        private final double rate;
+
+        /** The maximum value (or -1 if unbounded) */
+        private final long max;
+
+        /** The publisher of the extrapolated values */
+        private final LongConsumer publisher;
+
+        /** The last value published */
+        private long published;
+
+        /**
+         * Constructs the clock
+         *
+         * @param value the reported value (in milliseconds)
+         * @param rate the rate the clock runs at
+         * @param max the maximum value (or -1 if unbounded)
+         * @param publisher a non-null publisher of the extrapolated values
+         */
+        private Clock(final long value, final double rate, final long max, final LongConsumer publisher) {
+            this.value = value;
+            this.rate = rate;
+            this.max = max;
+            this.publisher = publisher;
+            this.published = value;
+        }
+
+        /**
+         * Determines if the clock is running
+         *
+         * @return true if running, false otherwise
+         */
+        private boolean isRunning() {
+            return rate != 0;
+        }
+
+        /**
+         * Publishes the extrapolated value (if it changed since last published)
+         *
+         * @param now the current time (in nanoseconds)
+         */
+        private synchronized void publish(final long now) {
+            long extrapolated = value + (long) (TimeUnit.NANOSECONDS.toMillis(now - reported) * rate);
+            if (max >= 0) {
+                extrapolated = Math.min(extrapolated, max);
+            }
+            extrapolated = Math.max(0, extrapolated);
+
+            if (extrapolated != published) {
+                published = extrapolated;
+                publisher.accept(extrapolated);
+            }
+        }
+    }
+}
@@ -17,8 +17,6 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -39,6 +37,7 @@ import org.openhab.binding.sony.internal.AccessResult;
 import org.openhab.binding.sony.internal.CheckResult;
 import org.openhab.binding.sony.internal.SonyAuth;
 import org.openhab.binding.sony.internal.SonyAuthChecker;
+import org.openhab.binding.sony.internal.SonyFileWriter;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.ThingCallback;
 import org.openhab.binding.sony.internal.ircc.IrccClientFactory;
@@ -413,7 +412,8 @@ public class ScalarWebLoginProtocol<T extends ThingCallback<String>> {
 
                 if (!lines.isEmpty()) {
                     logger.debug("Writing remote commands to {}", file);
-                    Files.write(file, lines, Charset.forName("UTF-8"));
+                    SonyFileWriter.writeNow(file,
+                            () -> String.join(System.lineSeparator(), lines) + System.lineSeparator(), false);
                 }
             } catch (final IOException e) {
                 logger.debug("Remote commands are undefined: {}", e.getMessage());
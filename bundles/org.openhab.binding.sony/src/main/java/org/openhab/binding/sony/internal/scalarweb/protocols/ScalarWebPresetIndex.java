@@ -0,0 +1,440 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sony.internal.scalarweb.protocols;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyFileWriter;
+import org.openhab.binding.sony.internal.SonyUtil;
+import org.openhab.binding.sony.internal.scalarweb.gson.GsonUtilities;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * This class indexes the presets (display number to content uri) of each source of a device. The index is persisted
+ * (as versioned json) to the user data folder so presets can be played (and their state options published)
+ * immediately after a restart. Sources are refreshed in the background: a source is only rescanned when its content
+ * count has changed (or a refresh is forced) and the presets are only republished (and persisted) when the
+ * fingerprint of the scanned presets has changed. A scan that failed (or was aborted) part way only replaces the
+ * presets of a source if the refresh was forced.
+ *
+ * @author andan - Initial contribution
+ */
+@NonNullByDefault
+class ScalarWebPresetIndex {
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(ScalarWebPresetIndex.class);
+
+    /** The version of the persisted index (an index of another version is ignored) */
+    private static final int VERSION = 1;
+
+    /** The folder the indexes are persisted to */
+    private static final String FOLDERBASE = OpenHAB.getUserDataFolder() + File.separator + "sony" + File.separator
+            + "presets";
+
+    /**
+     * The executor sources are refreshed on. This is a pool of its own (not the shared "sony" pool) since a refresh
+     * blocks on the content list pages
+     */
+    private static final ExecutorService refreshExecutor = ThreadPoolManager.getPool("sony-presets");
+
+    /** The gson used to persist the index */
+    private final Gson gson = GsonUtilities.getDefaultGson();
+
+    /** The path the index is persisted to */
+    private final Path path;
+
+    /** The reader of the content count of a source */
+    private final CountReader countReader;
+
+    /** The reader of the presets of a source */
+    private final PresetReader presetReader;
+
+    /** The indexed sources by source id */
+    private final Map<String, SourceIndex> sources = new ConcurrentHashMap<>();
+
+    /** The sources being refreshed */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /** The sources whose presets have been published */
+    private final Set<String> published = ConcurrentHashMap.newKeySet();
+
+    /** Whether the index has been closed */
+    private volatile boolean closed;
+
+    /**
+     * Constructs the index (loading the persisted index, if any)
+     *
+     * @param thingId a non-null, non-empty thing id the index is for
+     * @param countReader a non-null reader of the content count of a source
+     * @param presetReader a non-null reader of the presets of a source
+     */
+    ScalarWebPresetIndex(final String thingId, final CountReader countReader,
+            final PresetReader presetReader) {
+        SonyUtil.validateNotEmpty(thingId, "thingId cannot be empty");
+        Objects.requireNonNull(countReader, "countReader cannot be null");
+        Objects.requireNonNull(presetReader, "presetReader cannot be null");
+
+        this.path = Path.of(FOLDERBASE, thingId.replaceAll("[^A-Za-z0-9.-]", "_") + ".json");
+        this.countReader = countReader;
+        this.presetReader = presetReader;
+        load();
+    }
+
+    /**
+     * Gets the content uri of the preset
+     *
+     * @param source a non-null, non-empty source id
+     * @param dispNum a non-null, non-empty display number
+     * @return the content uri or null if not indexed
+     */
+    @Nullable
+    String getUri(final String source, final String dispNum) {
+        SonyUtil.validateNotEmpty(source, "source cannot be empty");
+        SonyUtil.validateNotEmpty(dispNum, "dispNum cannot be empty");
+
+        final @Nullable SourceIndex sourceIndex = sources.get(source);
+        return sourceIndex == null ? null : sourceIndex.getUri(dispNum);
+    }
+
+    /**
+     * Refreshes the source in the background. The listener is called with the presets of the source if they have
+     * changed, have not been published yet or the refresh is forced. The refresh is ignored if the source is already
+     * being refreshed.
+     *
+     * @param source a non-null, non-empty source id
+     * @param force true to rescan (and republish) the source regardless of whether it has changed
+     * @param listener a non-null listener to publish the presets to
+     */
+    void refresh(final String source, final boolean force, final Consumer<List<Preset>> listener) {
+        SonyUtil.validateNotEmpty(source, "source cannot be empty");
+        Objects.requireNonNull(listener, "listener cannot be null");
+
+        if (closed || !refreshing.add(source)) {
+            logger.debug("Presets for {} are already being refreshed (or the index is closed)", source);
+            return;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                doRefresh(source, force, listener);
+            } catch (final RuntimeException e) {
+                logger.debug("Exception refreshing presets for {}: {}", source, e.getMessage(), e);
+            } finally {
+                refreshing.remove(source);
+            }
+        });
+    }
+
+    /**
+     * Closes the index (any pending refreshes are ignored)
+     */
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * Helper method to refresh the source
+     *
+     * @param source a non-null, non-empty source id
+     * @param force true to rescan (and republish) the source regardless of whether it has changed
+     * @param listener a non-null listener to publish the presets to
+     */
+    private void doRefresh(final String source, final boolean force, final Consumer<List<Preset>> listener) {
+        final @Nullable SourceIndex prior = sources.get(source);
+        if (closed) {
+            return;
+        }
+
+        // publish the persisted presets straight away (if the count is unchanged, nothing else needs to be done)
+        if (prior != null && !force && published.add(source)) {
+            listener.accept(prior.getPresets());
+        }
+
+        final int count;
+        try {
+            count = countReader.getCount(source);
+        } catch (final IOException e) {
+            logger.debug("Exception getting content count for {} - presets not refreshed: {}", source,
+                    e.getMessage());
+            return;
+        }
+
+        if (!force && prior != null && prior.count == count) {
+            logger.trace("Content count of {} is unchanged ({}) - presets not refreshed", source, count);
+            return;
+        }
+
+        final List<Preset> presets = new ArrayList<>();
+        final boolean complete = presetReader.readPresets(source, presets);
+        if (closed) {
+            return;
+        }
+
+        // a failed scan is ignored (keeping the prior presets) unless forced
+        if (!complete && !force) {
+            logger.debug("Scan of the presets for {} failed after {} presets - keeping the prior presets", source,
+                    presets.size());
+            return;
+        }
+
+        // a complete scan is indexed with the content count (even if the content list ended early - ie hidden items)
+        // so the source is only rescanned once the count changes. A failed (forced) scan is indexed with an unknown
+        // count so the source is rescanned on the next refresh
+        final int indexedCount = complete ? count : -1;
+        final SourceIndex sourceIndex = new SourceIndex(indexedCount, presets);
+        final boolean changed = prior == null || !prior.fingerprint.equals(sourceIndex.fingerprint);
+        if (changed || prior == null || prior.count != indexedCount) {
+            sources.put(source, sourceIndex);
+            persist();
+        }
+
+        logger.debug("Refreshed {} presets for {} ({})", presets.size(), source, changed ? "changed" : "unchanged");
+        final boolean firstPublish = published.add(source);
+        if (changed || force || firstPublish) {
+            listener.accept(sourceIndex.getPresets());
+        }
+    }
+
+    /**
+     * Helper method to load the persisted index
+     */
+    private void load() {
+        try {
+            final @Nullable PersistedIndex persisted = gson.fromJson(Files.readString(path, StandardCharsets.UTF_8),
+                    PersistedIndex.class);
+            final @Nullable Map<String, SourceIndex> persistedSources = persisted == null ? null : persisted.sources;
+            if (persisted == null || persisted.version != VERSION || persistedSources == null) {
+                logger.debug("Ignoring preset index {} - not version {}", path, VERSION);
+                return;
+            }
+
+            // rebuild each source (to validate the presets and build the display number lookup)
+            persistedSources.forEach((k, v) -> {
+                if (v != null) {
+                    sources.put(k, new SourceIndex(v.count, v.getPresets()));
+                }
+            });
+            logger.debug("Loaded presets for {} sources from {}", sources.size(), path);
+        } catch (final NoSuchFileException e) {
+            // not persisted yet
+        } catch (final IOException | JsonParseException e) {
+            logger.debug("Ignoring preset index {} - could not be read: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Helper method to persist the index (in the background)
+     */
+    private void persist() {
+        final PersistedIndex persisted = new PersistedIndex(new HashMap<>(sources));
+        SonyFileWriter.write(path, () -> gson.toJson(persisted), true);
+    }
+
+    /**
+     * Functional interface to read the content count of a source
+     */
+    @NonNullByDefault
+    interface CountReader {
+        /**
+         * Reads the content count of the source
+         *
+         * @param source a non-null, non-empty source id
+         * @return the content count
+         * @throws IOException if an IO exception occurs reading the count
+         */
+        int getCount(String source) throws IOException;
+    }
+
+    /**
+     * Functional interface to read the presets of a source
+     */
+    @NonNullByDefault
+    interface PresetReader {
+        /**
+         * Reads the presets of the source
+         *
+         * @param source a non-null, non-empty source id
+         * @param presets a non-null list the presets are added to
+         * @return true if the presets were read to the end, false if the read failed (or was aborted) part way
+         */
+        boolean readPresets(String source, List<Preset> presets);
+    }
+
+    /**
+     * A single preset (content item of a source)
+     */
+    @NonNullByDefault
+    static class Preset {
+        /** The display number */
+        private final @Nullable String dispNum;
+
+        /** The title */
+        private final @Nullable String title;
+
+        /** The content uri */
+        private final @Nullable String uri;
+
+        /**
+         * Constructs the preset
+         *
+         * @param dispNum a possibly null, possibly empty display number
+         * @param title a possibly null, possibly empty title
+         * @param uri a possibly null, possibly empty content uri
+         */
+        Preset(final @Nullable String dispNum, final @Nullable String title, final @Nullable String uri) {
+            this.dispNum = dispNum;
+            this.title = title;
+            this.uri = uri;
+        }
+
+        /**
+         * Gets the display number
+         *
+         * @return a possibly null, possibly empty display number
+         */
+        @Nullable
+        String getDispNum() {
+            return dispNum;
+        }
+
+        /**
+         * Gets the title
+         *
+         * @return a possibly null, possibly empty title
+         */
+        @Nullable
+        String getTitle() {
+            return title;
+        }
+
+        /**
+         * Gets the content uri
+         *
+         * @return a possibly null, possibly empty content uri
+         */
+        @Nullable
+        String getUri() {
+            return uri;
+        }
+    }
+
+    /**
+     * The (immutable) index of a single source
+     */
+    @NonNullByDefault
+    private static class SourceIndex {
+        /** The content count of the source (-1 if unknown) */
+        private final int count;
+
+        /** The fingerprint of the presets */
+        private final String fingerprint;
+
+        /** The presets */
+        private final @Nullable List<Preset> presets;
+
+        /** The content uris by display number (not persisted) */
+        private final transient Map<String, String> uris;
+
+        /**
+         * Constructs the index of the source
+         *
+         * @param count the content count of the source (-1 if unknown)
+         * @param presets a non-null, possibly empty list of presets
+         */
+        private SourceIndex(final int count, final List<Preset> presets) {
+            final List<String> parts = new ArrayList<>();
+            final Map<String, String> localUris = new HashMap<>();
+            for (final Preset preset : presets) {
+                parts.add(preset.dispNum);
+                parts.add(preset.title);
+                parts.add(preset.uri);
+
+                final @Nullable String dispNum = preset.dispNum;
+                final @Nullable String uri = preset.uri;
+                if (dispNum != null && !dispNum.isEmpty() && uri != null && !uri.isEmpty()) {
+                    localUris.put(dispNum, uri);
+                }
+            }
+
+            this.count = count;
+            this.fingerprint = SonyUtil.createFingerprint(parts);
+            this.presets = Collections.unmodifiableList(new ArrayList<>(presets));
+            this.uris = Collections.unmodifiableMap(localUris);
+        }
+
+        /**
+         * Gets the presets
+         *
+         * @return a non-null, possibly empty list of presets
+         */
+        private List<Preset> getPresets() {
+            final @Nullable List<Preset> localPresets = presets;
+            return localPresets == null ? Collections.emptyList() : localPresets;
+        }
+
+        /**
+         * Gets the content uri of the preset
+         *
+         * @param dispNum a non-null, non-empty display number
+         * @return the content uri or null if not found
+         */
+        private @Nullable String getUri(final String dispNum) {
+            return uris.get(dispNum);
+        }
+    }
+
+    /**
+     * The persisted (versioned) index
+     */
+    @NonNullByDefault
+    private static class PersistedIndex {
+        /** The version of the index */
+        private final int version;
+
+        /** The indexed sources by source id */
+        private final @Nullable Map<String, SourceIndex> sources;
+
+        /**
+         * Constructs the persisted index
+         *
+         * @param sources a non-null, possibly empty map of indexed sources by source id
+         */
+        private PersistedIndex(final Map<String, SourceIndex> sources) {
+            this.version = VERSION;
+            this.sources = sources;
+        }
+    }
+}
@@ -16,11 +16,14 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,6 +31,7 @@ import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.ThingCallback;
 import org.openhab.binding.sony.internal.ircc.IrccClientFactory;
+import org.openhab.binding.sony.internal.ircc.IrccKeySequencer;
 import org.openhab.binding.sony.internal.ircc.models.IrccClient;
 import org.openhab.binding.sony.internal.net.HttpResponse;
 import org.openhab.binding.sony.internal.net.HttpResponse.SOAPError;
@@ -139,6 +143,18 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
     /** The notifications that are enabled */
     private final NotificationHelper notificationHelper;
 
+    /** The sequencer the IRCC keys are sent through */
+    private final IrccKeySequencer keySequencer;
+
+    /** The extrapolator of the current time between device updates */
+    private final ScalarWebClockExtrapolator timeClock;
+
+    /** The IRCC client (created when the first IRCC key is sent) */
+    private final AtomicReference<@Nullable IrccClient> irccClient = new AtomicReference<>();
+
+    /** The http transport the IRCC keys are sent with (reused between keys) */
+    private final AtomicReference<@Nullable SonyHttpTransport> irccTransport = new AtomicReference<>();
+
     /**
      * Instantiates a new scalar web system protocol.
      *
@@ -153,6 +169,8 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
         super(factory, context, service, callback);
 
         this.irccUrl = irccUrl;
+        this.keySequencer = new IrccKeySequencer(this::sendIrccKey, context.getConfig().getIrccKeyGap());
+        this.timeClock = new ScalarWebClockExtrapolator(context.getConfig().getClockInterval());
 
         notificationHelper = new NotificationHelper(
                 enableNotifications(ScalarWebEvent.NOTIFYPOWERSTATUS, ScalarWebEvent.NOTIFYSTORAGESTATUS,
@@ -480,7 +498,7 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
         }
 
         if (initial || !notificationHelper.isEnabled(ScalarWebEvent.NOTIFYSTORAGESTATUS)) {
-            if (tracker.isCategoryLinked(ctgy -> ctgy.startsWith(STORAGE))) {
+            if (tracker.isCategoryPrefixLinked(STORAGE)) {
                 refreshStorage();
             }
         }
@@ -560,7 +578,12 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
     private void refreshCurrentTime() {
         try {
             final CurrentTime ct = execute(ScalarWebMethod.GETCURRENTTIME).as(CurrentTime.class);
-            stateChanged(CURRENTTIME, new DateTimeType(ct.getDateTime()));
+            final ZonedDateTime dateTime = ct.getDateTime();
+            stateChanged(CURRENTTIME, new DateTimeType(dateTime));
+
+            // the current time is extrapolated locally until the next device update (if a clock interval is configured)
+            timeClock.update(CURRENTTIME, dateTime.toInstant().toEpochMilli(), 1, -1, time -> stateChanged(
+                    CURRENTTIME, new DateTimeType(Instant.ofEpochMilli(time).atZone(dateTime.getZone()))));
         } catch (final IOException e) {
             logger.debug("Cannot get the current time: {}", e.getMessage());
         }
@@ -850,7 +873,8 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
     }
 
     /**
-     * Send an IRCC command
+     * Send an IRCC command. The command may be a single key or a "seq:" prefixed, comma separated sequence of keys
+     * (see {@link IrccKeySequencer})
      *
      * @param cmd a possibly null, possibly empty IRCC command to send
      */
@@ -859,12 +883,26 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
             return;
         }
 
+        final String localIrccUrl = irccUrl;
+        if (localIrccUrl == null || localIrccUrl.isEmpty()) {
+            logger.debug("IRCC URL was not specified in configuration");
+        } else {
+            keySequencer.send(cmd);
+        }
+    }
+
+    /**
+     * Send a single IRCC key
+     *
+     * @param cmd a non-null, non-empty IRCC key to send
+     */
+    private void sendIrccKey(final String cmd) {
         final String localIrccUrl = irccUrl;
         if (localIrccUrl == null || localIrccUrl.isEmpty()) {
             logger.debug("IRCC URL was not specified in configuration");
         } else {
             try {
-                final IrccClient irccClient = IrccClientFactory.get(localIrccUrl, getContext().getClientBuilder());
+                final IrccClient client = getIrccClient(localIrccUrl);
                 final ScalarWebContext context = getContext();
                 String localCmd = cmd;
 
@@ -897,17 +935,13 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
                     return;
                 }
 
-                // Always use an http transport to execute soap
-                HttpResponse httpResponse;
-                try (final SonyHttpTransport httpTransport = SonyTransportFactory.createHttpTransport(
-                        irccClient.getBaseUrl().toExternalForm(), getContext().getClientBuilder())) {
-                    // copy all the options from the parent one (authentication options)
-                    getService().getTransport().getOptions().stream().forEach(o -> httpTransport.setOption(o));
-                    httpResponse = irccClient.executeSoap(httpTransport, localCmd);
-                } catch (final URISyntaxException e) {
-                    logger.debug("URI syntax exception: {}", e.getMessage());
-                    return;
-                }
+                // Always use an http transport to execute soap (reused between keys to keep the connection alive)
+                final SonyHttpTransport httpTransport = getIrccTransport(client);
+
+                // copy all the options from the parent one (authentication options)
+                getService().getTransport().getOptions().stream().forEach(o -> httpTransport.setOption(o));
+                final HttpResponse httpResponse = client.executeSoap(httpTransport, localCmd,
+                        IrccClient.KEEPALIVE);
 
                 switch (httpResponse.getHttpCode()) {
                     case HttpStatus.OK_200:
@@ -920,7 +954,7 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
 
                     case HttpStatus.FORBIDDEN_403:
                         logger.debug("IRCC methods have been forbidden on service {} ({}): {}",
-                                service.getServiceName(), irccClient.getBaseUrl(), httpResponse);
+                                service.getServiceName(), client.getBaseUrl(), httpResponse);
                         break;
 
                     case HttpStatus.INTERNAL_SERVER_ERROR_500:
@@ -928,7 +962,7 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
                         if (soapError == null) {
                             final IOException e = httpResponse.createException();
                             logger.debug("Communication error for IRCC method on service {} ({}): {}",
-                                    service.getServiceName(), irccClient.getBaseUrl(), e.getMessage(), e);
+                                    service.getServiceName(), client.getBaseUrl(), e.getMessage(), e);
                             callback.statusChanged(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
                                     e.getMessage());
                             break;
@@ -941,7 +975,7 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
                     default:
                         final IOException e = httpResponse.createException();
                         logger.debug("Communication error for IRCC method on service {} ({}): {}",
-                                service.getServiceName(), irccClient.getBaseUrl(), e.getMessage(), e);
+                                service.getServiceName(), client.getBaseUrl(), e.getMessage(), e);
                         callback.statusChanged(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
                                 e.getMessage());
                         break;
@@ -954,6 +988,44 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
         }
     }
 
+    /**
+     * Helper method to get the IRCC client (creating it if needed)
+     *
+     * @param localIrccUrl a non-null, non-empty IRCC url
+     * @return the non-null IRCC client
+     * @throws IOException if an IO exception occurs creating the client
+     * @throws URISyntaxException if the IRCC url has a bad syntax
+     */
+    private IrccClient getIrccClient(final String localIrccUrl) throws IOException, URISyntaxException {
+        final @Nullable IrccClient client = irccClient.get();
+        if (client != null) {
+            return client;
+        }
+
+        final IrccClient newClient = IrccClientFactory.get(localIrccUrl, getContext().getClientBuilder());
+        irccClient.set(newClient);
+        return newClient;
+    }
+
+    /**
+     * Helper method to get the http transport to send IRCC keys with (creating it if needed)
+     *
+     * @param client a non-null IRCC client
+     * @return the non-null http transport
+     * @throws URISyntaxException if the IRCC base url has a bad syntax
+     */
+    private SonyHttpTransport getIrccTransport(final IrccClient client) throws URISyntaxException {
+        final @Nullable SonyHttpTransport transport = irccTransport.get();
+        if (transport != null) {
+            return transport;
+        }
+
+        final SonyHttpTransport newTransport = SonyTransportFactory
+                .createHttpTransport(client.getBaseUrl().toExternalForm(), getContext().getClientBuilder());
+        irccTransport.set(newTransport);
+        return newTransport;
+    }
+
     @Override
     protected void eventReceived(final ScalarWebEvent event) throws IOException {
         Objects.requireNonNull(event, "event cannot be null");
@@ -1120,6 +1192,9 @@ public class ScalarWebSystemProtocol<T extends ThingCallback<String>> extends Ab
 
     @Override
     public void close() {
+        keySequencer.close();
+        timeClock.close();
+        SonyUtil.close(irccTransport.getAndSet(null));
         super.close();
     }
 }
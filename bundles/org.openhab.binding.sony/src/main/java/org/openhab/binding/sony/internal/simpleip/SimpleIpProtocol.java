@@ -15,8 +15,6 @@ package org.openhab.binding.sony.internal.simpleip;
 import java.io.File;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -30,6 +28,7 @@ import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sony.internal.SonyFileWriter;
 import org.openhab.binding.sony.internal.SonyUtil;
 import org.openhab.binding.sony.internal.ThingCallback;
 import org.openhab.binding.sony.internal.net.NetUtil;
@@ -226,7 +225,9 @@ class SimpleIpProtocol implements SocketSessionListener, AutoCloseable {
             }
 
             logger.debug("Writing remote commands to {}", file);
-            Files.write(file, getDefaultCommands(), Charset.forName("UTF-8"));
+            final List<String> lines = getDefaultCommands();
+            SonyFileWriter.writeNow(file,
+                    () -> String.join(System.lineSeparator(), lines) + System.lineSeparator(), false);
         }
     }
 
@@ -116,4 +116,25 @@ class SonyUtilTest {
         System.out.println(filteredAndSortedList.size());
         System.out.println(stateOptionsFilteredAndSorted.size());
     }
+
+    @Test
+    public void modelMatchTest() {
+        assertTrue(SonyUtil.isModelMatch("scalar", "XBR-xX830", "scalar", "XBR-55X830"));
+        assertTrue(SonyUtil.isModelMatch("scalar", "XBR-xX830", "scalar", "xbr-65x830"));
+        assertTrue(SonyUtil.isModelMatch("scalar", "STR-DN1080_V2", "scalar", "STR-DN1080"));
+        assertFalse(SonyUtil.isModelMatch("scalar", "XBR-xX830", "scalar", "XBR-55X900"));
+        assertFalse(SonyUtil.isModelMatch("ircc", "XBR-xX830", "scalar", "XBR-55X830"));
+        // second call uses the cached pattern
+        assertTrue(SonyUtil.isModelMatch("scalar", "XBR-xX830", "scalar", "XBR-75X830"));
+    }
+
+    @Test
+    public void fingerprintTest() {
+        assertEquals(SonyUtil.createFingerprint(Arrays.asList("a", "b")),
+                SonyUtil.createFingerprint(Arrays.asList("a", "b")));
+        assertNotEquals(SonyUtil.createFingerprint(Arrays.asList("ab", "c")),
+                SonyUtil.createFingerprint(Arrays.asList("a", "bc")));
+        assertNotEquals(SonyUtil.createFingerprint(Arrays.asList("a", null)),
+                SonyUtil.createFingerprint(Arrays.asList("a", "")));
+    }
 }
@@ -0,0 +1,89 @@
+package org.openhab.binding.sony.internal.dial.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DialModelsTest {
+
+    @Test
+    public void serviceTest() {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+                + "<service>\n" //
+                + "  <app>\n" //
+                + "    <id>com.sony.videoexplorer</id>\n" //
+                + "    <name>Video Explorer</name>\n" //
+                + "    <supportAction>\n" //
+                + "      <action>start</action>\n" //
+                + "    </supportAction>\n" //
+                + "    <icon_url></icon_url>\n" //
+                + "  </app>\n" //
+                + "  <app>\n" //
+                + "    <id>com.sony.musicexplorer</id>\n" //
+                + "    <name>Music Explorer</name>\n" //
+                + "    <supportAction>\n" //
+                + "      <action>start</action>\n" //
+                + "      <action>stop</action>\n" //
+                + "    </supportAction>\n" //
+                + "    <icon_url>http://192.168.1.2/icon.png</icon_url>\n" //
+                + "    <unknown><id>ignored</id></unknown>\n" //
+                + "  </app>\n" //
+                + "</service>";
+
+        final DialService service = DialService.get(xml);
+        assertNotNull(service);
+
+        final List<DialApp> apps = service.getApps();
+        assertEquals(2, apps.size());
+
+        final DialApp videoExplorer = apps.get(0);
+        assertEquals("com.sony.videoexplorer", videoExplorer.getId());
+        assertEquals("Video Explorer", videoExplorer.getName());
+        assertEquals("", videoExplorer.getIconUrl());
+        assertEquals(Collections.singletonList("start"), videoExplorer.getActions());
+
+        final DialApp musicExplorer = apps.get(1);
+        assertEquals("com.sony.musicexplorer", musicExplorer.getId());
+        assertEquals("Music Explorer", musicExplorer.getName());
+        assertEquals("http://192.168.1.2/icon.png", musicExplorer.getIconUrl());
+        assertEquals(Arrays.asList("start", "stop"), musicExplorer.getActions());
+    }
+
+    @Test
+    public void serviceEmptyTest() {
+        final DialService service = DialService.get("<service/>");
+        assertNotNull(service);
+        assertTrue(service.getApps().isEmpty());
+
+        assertNull(DialService.get("<apps><app/></apps>"));
+        assertNull(DialService.get("<service><app>"));
+    }
+
+    @Test
+    public void appStateTest() {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+                + "<service xmlns=\"urn:dial-multiscreen-org:schemas:dial\">\n" //
+                + "  <name>com.sony.videoexplorer</name>\n" //
+                + "  <options allowStop=\"true\" wolMac=\"30:52:cb:8f:b3:77\"/>\n" //
+                + "  <state>stopped</state>\n" //
+                + "</service>";
+
+        final DialAppState stopped = DialAppState.get(xml);
+        assertNotNull(stopped);
+        assertFalse(stopped.isRunning());
+
+        final DialAppState running = DialAppState.get(xml.replace("stopped", "RUNNING"));
+        assertNotNull(running);
+        assertTrue(running.isRunning());
+
+        final DialAppState noState = DialAppState.get("<service><name>com.sony.videoexplorer</name></service>");
+        assertNotNull(noState);
+        assertFalse(noState.isRunning());
+
+        assertNull(DialAppState.get("<state>running</state>"));
+    }
+}
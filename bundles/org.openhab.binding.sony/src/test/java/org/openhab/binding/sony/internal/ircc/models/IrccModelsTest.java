@@ -0,0 +1,88 @@
+package org.openhab.binding.sony.internal.ircc.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class IrccModelsTest {
+
+    @Test
+    public void statusListTest() {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+                + "<statusList>\n" //
+                + "  <status name=\"disc\">\n" //
+                + "    <statusItem field=\"type\" value=\"DVD\"/>\n" //
+                + "    <statusItem field=\"mediaType\" value=\"DVD\"/>\n" //
+                + "    <statusItem field=\"mediaFormat\" value=\"VIDEO\"/>\n" //
+                + "  </status>\n" //
+                + "</statusList>";
+
+        final IrccStatusList statusList = IrccStatusList.get(xml);
+        assertNotNull(statusList);
+        assertTrue(statusList.isDisk());
+        assertFalse(statusList.isTextInput());
+        assertFalse(statusList.isWebBrowse());
+        assertNull(statusList.getViewing());
+    }
+
+    @Test
+    public void statusListViewingTest() {
+        final String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //
+                + "<statusList>\n" //
+                + "  <status name=\"viewing\">\n" //
+                + "    <statusItem field=\"source\" value=\"Net\" />\n" //
+                + "    <statusItem field=\"title\" value=\"Shameless Series 4 Episode 3\" />\n" //
+                + "    <statusItem field=\"serviceId\" value=\"2099\" />\n" //
+                + "    <unknown><statusItem field=\"title\" value=\"ignored\" /></unknown>\n" //
+                + "  </status>\n" //
+                + "  <status name=\"textInput\"/>\n" //
+                + "</statusList>";
+
+        final IrccStatusList statusList = IrccStatusList.get(xml);
+        assertNotNull(statusList);
+        assertTrue(statusList.isTextInput());
+        assertFalse(statusList.isDisk());
+
+        final IrccStatus viewing = statusList.getViewing();
+        assertNotNull(viewing);
+        assertEquals("Net", viewing.getItemValue(IrccStatusItem.SOURCE));
+        assertEquals("Shameless Series 4 Episode 3", viewing.getItemValue(IrccStatusItem.TITLE));
+        assertEquals("2099", viewing.getItemValue("serviceid"));
+        assertNull(viewing.getItemValue(IrccStatusItem.DURATION));
+    }
+
+    @Test
+    public void statusListInvalidTest() {
+        assertNull(IrccStatusList.get("<text>not a status list</text>"));
+        assertNull(IrccStatusList.get("<statusList><status name=\"disc\">"));
+        assertNull(IrccStatusList.get("not xml"));
+    }
+
+    @Test
+    public void textTest() {
+        final IrccText text = IrccText
+                .get("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<text>the text in the field</text>");
+        assertNotNull(text);
+        assertEquals("the text in the field", text.getText());
+
+        final IrccText escaped = IrccText.get("<text>a &amp; b <![CDATA[<c>]]></text>");
+        assertNotNull(escaped);
+        assertEquals("a & b <c>", escaped.getText());
+
+        final IrccText empty = IrccText.get("<text/>");
+        assertNotNull(empty);
+        assertEquals("", empty.getText());
+
+        assertNull(IrccText.get("<statusList/>"));
+    }
+
+    @Test
+    public void externalEntityTest() {
+        final String xml = "<?xml version=\"1.0\"?>\n" //
+                + "<!DOCTYPE text [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>\n" //
+                + "<text>&xxe;</text>";
+
+        // DTDs are not supported so the (undeclared) entity fails the parse rather than being resolved
+        assertNull(IrccText.get(xml));
+    }
+}
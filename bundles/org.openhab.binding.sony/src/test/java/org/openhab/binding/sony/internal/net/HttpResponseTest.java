@@ -0,0 +1,48 @@
+package org.openhab.binding.sony.internal.net;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.sony.internal.net.HttpResponse.SOAPError;
+
+class HttpResponseTest {
+
+    private static final String SOAPFAULT = "<?xml version=\"1.0\"?>\n"
+            + "<s:Envelope xmlns:s=\"http://schemas.xmlsoap.org/soap/envelope/\" "
+            + "s:encodingStyle=\"http://schemas.xmlsoap.org/soap/encoding/\">\n" //
+            + "  <s:Body>\n" //
+            + "    <s:Fault>\n" //
+            + "      <faultcode>s:Client</faultcode>\n" //
+            + "      <faultstring>UPnPError</faultstring>\n" //
+            + "      <detail>\n" //
+            + "        <UPnPError xmlns=\"urn:schemas-upnp-org:control-1-0\">\n" //
+            + "          <errorCode>800</errorCode>\n" //
+            + "          <errorDescription>Action not supported</errorDescription>\n" //
+            + "        </UPnPError>\n" //
+            + "      </detail>\n" //
+            + "    </s:Fault>\n" //
+            + "  </s:Body>\n" //
+            + "</s:Envelope>";
+
+    @Test
+    public void soapErrorTest() {
+        final SOAPError error = new HttpResponse(500, SOAPFAULT).getSOAPError();
+        assertNotNull(error);
+        assertEquals("800", error.getSoapCode());
+        assertEquals("Action not supported", error.getSoapDescription());
+    }
+
+    @Test
+    public void soapErrorMissingTest() {
+        assertNull(new HttpResponse(500, "Internal Server Error").getSOAPError());
+        assertNull(new HttpResponse(500, "").getSOAPError());
+        assertNull(new HttpResponse(500, null).getSOAPError());
+
+        // a code without a description (or a description before the code) is not an error
+        assertNull(new HttpResponse(500, "<errorCode>800</errorCode>").getSOAPError());
+        assertNull(new HttpResponse(500, "<errorDescription>desc</errorDescription><errorCode>800</errorCode>")
+                .getSOAPError());
+        assertNull(new HttpResponse(500, "<errorCode></errorCode><errorDescription>desc</errorDescription>")
+                .getSOAPError());
+    }
+}